@@ -1,6 +1,7 @@
 plugins {
     kotlin("jvm") version "2.2.20"
     id("maven-publish")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "studio.styx.schemaEXtended"
@@ -20,6 +21,25 @@ tasks.test {
 
 kotlin {
     jvmToolchain(21)
+    compilerOptions {
+        freeCompilerArgs.add("-Xadd-modules=jdk.incubator.vector")
+    }
+}
+
+// Kernels SIMD dos arrays primitivos. Em runtime só são usados quando a aplicação
+// sobe com --add-modules jdk.incubator.vector; sem o módulo, o fallback escalar assume.
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+}
+
+// Benchmarks JMH em src/jmh/java: ./gradlew jmh (filtro opcional: -Pjmh.includes=ArraySchema)
+// Vazão com a taxa de alocação do profiler de GC; resultado em build/results/jmh/results.json
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    resultFormat.set("JSON")
+    findProperty("jmh.includes")?.let { includes.add(it.toString()) }
 }
 
 publishing {
@@ -0,0 +1,115 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.ArraySchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArraySchema por tamanho, com e sem unique(), validando em sequência e em paralelo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArraySchemaBenchmark {
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean unique;
+
+    @Param({"valid", "invalid"})
+    public String outcome;
+
+    private CompiledSchema<List<Integer>> numbers;
+    private CompiledSchema<List<Integer>> parallelNumbers;
+    private CompiledSchema<List<String>> strings;
+    private ArraySchema<Integer> numbersSchema;
+    private List<Integer> numberValues;
+    private List<String> stringValues;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        boolean valid = outcome.equals("valid");
+        numbersSchema = new ArraySchema<>(new IntegerSchema().min(0));
+        ArraySchema<Integer> parallel = new ArraySchema<>(new IntegerSchema().min(0)).parallel(4096);
+        ArraySchema<String> stringSchema = new ArraySchema<>(new StringSchema().minLength(2));
+        if (unique) {
+            numbersSchema.unique();
+            parallel.unique();
+            stringSchema.unique();
+        }
+        numbers = numbersSchema.compile();
+        parallelNumbers = parallel.compile();
+        strings = stringSchema.compile();
+
+        // Falha: um elemento inválido a cada 64 e o último (ou, com unique, uma única repetição no fim)
+        numberValues = new ArrayList<>(size);
+        stringValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean bad = !valid && !unique && (i % 64 == 63 || i == size - 1);
+            numberValues.add(bad ? -i : i);
+            stringValues.add(bad ? "x" : "item-" + i);
+        }
+        if (!valid && unique) {
+            numberValues.set(size - 1, 0);
+            stringValues.set(size - 1, "item-0");
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(numberValues.get(i));
+        }
+        json = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ParseResult<List<Integer>> integers() {
+        return numbers.parse(numberValues);
+    }
+
+    @Benchmark
+    public ParseResult<List<Integer>> integersParallel() {
+        return parallelNumbers.parse(numberValues);
+    }
+
+    @Benchmark
+    public ParseResult<List<String>> strings() {
+        return strings.parse(stringValues);
+    }
+
+    @Benchmark
+    public ParseResult<List<Integer>> integersFromJsonBytes() {
+        return numbersSchema.parse(json, 0, json.length);
+    }
+
+    /**
+     * Falha lida de fato: inclui formatar as mensagens de todos os elementos inválidos.
+     */
+    @Benchmark
+    public List<String> integersAndReadErrors() {
+        return numbers.parse(numberValues).getErrors();
+    }
+}
@@ -0,0 +1,130 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.batch.BatchResult;
+import studio.styx.schemaEXtended.core.batch.BatchValidator;
+import studio.styx.schemaEXtended.core.schemas.BooleanSchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchValidator: um validador compartilhado com {@code validate(Map)}, lote com {@code validateAll}
+ * e os modos com {@code bind()} (sequencial e concorrente).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchValidatorBenchmark {
+
+    /**
+     * Validador único, lido por todas as threads do benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"valid", "invalid"})
+        public String outcome;
+
+        BatchValidator validator;
+        Map<String, Object> values;
+        List<Map<String, Object>> batch;
+
+        @Setup
+        public void setup() {
+            validator = new BatchValidator()
+                    .add("name", new StringSchema().minLength(3))
+                    .add("email", new StringSchema().email())
+                    .add("age", new IntegerSchema().coerce().min(18))
+                    .add("active", new BooleanSchema().coerce());
+            values = values(outcome.equals("valid"));
+
+            batch = new ArrayList<>(256);
+            for (int i = 0; i < 256; i++) {
+                batch.add(values(i % 16 != 0));
+            }
+        }
+    }
+
+    /**
+     * Schemas com valor bindado: alteram estado, então cada thread tem os seus.
+     */
+    @State(Scope.Thread)
+    public static class Bound {
+        @Param({"valid", "invalid"})
+        public String outcome;
+
+        BatchValidator validator;
+
+        @Setup
+        public void setup() {
+            boolean valid = outcome.equals("valid");
+            validator = new BatchValidator()
+                    .add("name", new StringSchema().minLength(3).bind(valid ? "Maria Silva" : "Ma"))
+                    .add("email", new StringSchema().email().bind(valid ? "maria@example.com" : "maria@"))
+                    .add("age", new IntegerSchema().coerce().min(18).bind(valid ? "34" : "12"))
+                    .add("active", new BooleanSchema().coerce().bind("yes"));
+        }
+    }
+
+    private static Map<String, Object> values(boolean valid) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", valid ? "Maria Silva" : "Ma");
+        values.put("email", valid ? "maria@example.com" : "maria@");
+        values.put("age", valid ? "34" : "12");
+        values.put("active", "yes");
+        return values;
+    }
+
+    @Benchmark
+    public BatchResult validateMap(Shared state) {
+        return state.validator.validate(state.values);
+    }
+
+    /**
+     * O mesmo validador em 4 threads: mede a disputa ao compartilhar um validador.
+     */
+    @Benchmark
+    @Threads(4)
+    public BatchResult validateMapShared(Shared state) {
+        return state.validator.validate(state.values);
+    }
+
+    /**
+     * 256 mapas, 1 em cada 16 inválido.
+     */
+    @Benchmark
+    public List<BatchResult> validateAll(Shared state) {
+        return state.validator.validateAll(state.batch);
+    }
+
+    @Benchmark
+    public BatchResult validateBound(Bound state) {
+        return state.validator.validate();
+    }
+
+    /**
+     * Uma virtual thread por entrada: com schemas tão baratos mostra o custo de despachar, não o ganho.
+     */
+    @Benchmark
+    public BatchResult validateConcurrently(Bound state) {
+        return state.validator.validateConcurrently();
+    }
+}
@@ -0,0 +1,51 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.BooleanSchema;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BooleanSchema com valores já booleanos e com coerção de texto/número.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BooleanSchemaBenchmark {
+    @Param({"boolean", "text", "number", "invalid"})
+    public String input;
+
+    private CompiledSchema<Boolean> compiled;
+    private Object value;
+
+    @Setup
+    public void setup() {
+        compiled = new BooleanSchema().coerce().compile();
+        value = switch (input) {
+            case "boolean" -> Boolean.TRUE;
+            case "text" -> "yes";
+            case "number" -> 1;
+            default -> "maybe";
+        };
+    }
+
+    @Benchmark
+    public ParseResult<Boolean> parse() {
+        return compiled.parse(value);
+    }
+}
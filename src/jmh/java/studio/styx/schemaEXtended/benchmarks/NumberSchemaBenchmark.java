@@ -0,0 +1,79 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.interfaces.NumberType;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.NumberSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.PrimitiveResult;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumberSchema por tipo e pela forma da entrada (número já tipado ou texto com coerce), mais o caminho primitivo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberSchemaBenchmark {
+    @Param({"INT", "LONG", "DOUBLE", "BIGDECIMAL"})
+    public NumberType type;
+
+    @Param({"number", "text"})
+    public String input;
+
+    @Param({"valid", "invalid"})
+    public String outcome;
+
+    private CompiledSchema<Number> compiled;
+    private IntegerSchema integerSchema;
+    private Object value;
+    private String text;
+    private final PrimitiveResult primitive = new PrimitiveResult();
+
+    @Setup
+    public void setup() {
+        compiled = new NumberSchema<>(type).coerce().min(0).max(1_000_000).compile();
+        integerSchema = new IntegerSchema().coerce().min(0).max(1_000_000);
+
+        boolean valid = outcome.equals("valid");
+        text = valid ? "4200" : "-15";
+        if (input.equals("text")) {
+            value = type == NumberType.BIGDECIMAL ? (valid ? "4200.75" : "-15.25") : text;
+        } else {
+            value = switch (type) {
+                case DOUBLE -> valid ? 4200.5 : -15.5;
+                case BIGDECIMAL -> new BigDecimal(valid ? "4200.75" : "-15.25");
+                default -> valid ? 4200 : -15;
+            };
+        }
+    }
+
+    @Benchmark
+    public ParseResult<Number> parse() {
+        return compiled.parse(value);
+    }
+
+    /**
+     * {@link IntegerSchema#parseInt(CharSequence, PrimitiveResult)}: sem boxing nem ParseResult (independe do tipo).
+     */
+    @Benchmark
+    public boolean parseIntPrimitive() {
+        return integerSchema.parseInt(text, primitive);
+    }
+}
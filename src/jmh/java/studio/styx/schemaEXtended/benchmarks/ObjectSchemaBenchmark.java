@@ -0,0 +1,115 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.ArraySchema;
+import studio.styx.schemaEXtended.core.schemas.BooleanSchema;
+import studio.styx.schemaEXtended.core.schemas.ObjectSchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObjectSchema pela forma da entrada: Map, POJO (record), JSON em texto, JSON em bytes e texto "chave=valor".
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectSchemaBenchmark {
+    public record Customer(String name, String email, int age, boolean active, List<String> tags) {}
+
+    @Param({"map", "pojo", "json", "keyValue"})
+    public String shape;
+
+    @Param({"valid", "invalid"})
+    public String outcome;
+
+    // Plano gerado (ObjectSchema.generateCode): só muda a entrada "map"
+    @Param({"false", "true"})
+    public boolean generateCode;
+
+    private ObjectSchema schema;
+    private CompiledSchema<ObjectSchemaResult> compiled;
+    private Object value;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() {
+        boolean valid = outcome.equals("valid");
+        // "chave=valor" não tem listas: tags fica como parcial
+        schema = new ObjectSchema().coerce()
+                .addProperty("name", new StringSchema().minLength(3))
+                .addProperty("email", new StringSchema().email())
+                .addProperty("age", new IntegerSchema().coerce().min(18))
+                .addProperty("active", new BooleanSchema().coerce())
+                .addPartial("tags", new ArraySchema<>(new StringSchema().nonEmpty()).maxLength(8))
+                .generateCode(generateCode);
+        compiled = schema.compile();
+
+        String name = valid ? "Maria Silva" : "Ma";
+        String email = valid ? "maria@example.com" : "maria@";
+        int age = valid ? 34 : 12;
+        List<String> tags = valid ? List.of("vip", "newsletter") : List.of("vip", "");
+
+        String json = "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"age\":" + age
+                + ",\"active\":true,\"tags\":[\"" + String.join("\",\"", tags) + "\"]}";
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+        value = switch (shape) {
+            case "map" -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put("name", name);
+                map.put("email", email);
+                map.put("age", age);
+                map.put("active", true);
+                map.put("tags", tags);
+                yield map;
+            }
+            case "pojo" -> new Customer(name, email, age, true, tags);
+            case "json" -> json;
+            case "keyValue" -> "name=" + name + ", email=" + email + ", age=" + age + ", active=yes";
+            default -> throw new IllegalArgumentException(shape);
+        };
+    }
+
+    @Benchmark
+    public ParseResult<ObjectSchemaResult> parse() {
+        return compiled.parse(value);
+    }
+
+    /**
+     * Mesmo documento do shape "json", lido direto dos bytes UTF-8 (independe do shape).
+     */
+    @Benchmark
+    public ParseResult<ObjectSchemaResult> parseJsonBytes() {
+        return schema.parse(jsonBytes, 0, jsonBytes.length);
+    }
+
+    /**
+     * Falha lida de fato: inclui montar os caminhos dos erros.
+     */
+    @Benchmark
+    public Object parseAndReadIssues() {
+        return compiled.parse(value).getIssuesByPath();
+    }
+}
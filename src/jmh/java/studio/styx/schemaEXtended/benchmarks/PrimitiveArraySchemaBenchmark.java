@@ -0,0 +1,107 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.DoubleArraySchema;
+import studio.styx.schemaEXtended.core.schemas.IntArraySchema;
+import studio.styx.schemaEXtended.core.schemas.LongArraySchema;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arrays primitivos: limites, ordem e unicidade. Rodar também sem {@code --add-modules jdk.incubator.vector}
+ * compara os kernels SIMD com o laço escalar.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArraySchemaBenchmark {
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"bounds", "ordered", "unique"})
+    public String rule;
+
+    @Param({"valid", "invalid"})
+    public String outcome;
+
+    private CompiledSchema<int[]> ints;
+    private CompiledSchema<long[]> longs;
+    private CompiledSchema<double[]> doubles;
+    private int[] intValues;
+    private long[] longValues;
+    private double[] doubleValues;
+
+    @Setup
+    public void setup() {
+        IntArraySchema intSchema = new IntArraySchema();
+        LongArraySchema longSchema = new LongArraySchema();
+        DoubleArraySchema doubleSchema = new DoubleArraySchema();
+        switch (rule) {
+            case "bounds" -> {
+                intSchema.min(0).max(Integer.MAX_VALUE - 1);
+                longSchema.min(0).max(Long.MAX_VALUE - 1);
+                doubleSchema.finite().min(0).max(1e12);
+            }
+            case "ordered" -> {
+                intSchema.strictlyAscending();
+                longSchema.strictlyAscending();
+                doubleSchema.strictlyAscending();
+            }
+            case "unique" -> {
+                intSchema.unique();
+                longSchema.unique();
+                doubleSchema.unique();
+            }
+            default -> throw new IllegalArgumentException(rule);
+        }
+        ints = intSchema.compile();
+        longs = longSchema.compile();
+        doubles = doubleSchema.compile();
+
+        // Valores crescentes e distintos; a falha fica no último elemento (varredura completa)
+        intValues = new int[size];
+        longValues = new long[size];
+        doubleValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            intValues[i] = i * 3;
+            longValues[i] = i * 3L;
+            doubleValues[i] = i * 3.5;
+        }
+        if (outcome.equals("invalid")) {
+            int last = size - 1;
+            intValues[last] = rule.equals("bounds") ? -1 : 0;
+            longValues[last] = rule.equals("bounds") ? -1 : 0;
+            doubleValues[last] = rule.equals("bounds") ? Double.NaN : 0;
+        }
+    }
+
+    @Benchmark
+    public ParseResult<int[]> intArray() {
+        return ints.parse(intValues);
+    }
+
+    @Benchmark
+    public ParseResult<long[]> longArray() {
+        return longs.parse(longValues);
+    }
+
+    @Benchmark
+    public ParseResult<double[]> doubleArray() {
+        return doubles.parse(doubleValues);
+    }
+}
@@ -0,0 +1,91 @@
+package studio.styx.schemaEXtended.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.interfaces.FormatMode;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringSchema por regra (tamanho, email, url, regex) e pela origem do valor (String já pronta ou JSON em bytes).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringSchemaBenchmark {
+    @Param({"length", "email", "emailStrict", "url", "regex"})
+    public String rule;
+
+    @Param({"valid", "invalid"})
+    public String outcome;
+
+    private CompiledSchema<String> compiled;
+    private StringSchema schema;
+    private String value;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        boolean valid = outcome.equals("valid");
+        switch (rule) {
+            case "length" -> {
+                schema = new StringSchema().trim().minLength(3).maxLength(64);
+                value = valid ? "  Maria da Silva  " : "ab";
+            }
+            case "email" -> {
+                schema = new StringSchema().email();
+                value = valid ? "maria.silva+news@example.com.br" : "maria.silva.example.com";
+            }
+            case "emailStrict" -> {
+                schema = new StringSchema().email(FormatMode.STRICT);
+                value = valid ? "maria.silva+news@example.com.br" : "maria.silva@example..com";
+            }
+            case "url" -> {
+                schema = new StringSchema().url();
+                value = valid ? "https://api.example.com/v1/orders?page=2" : "htp:/api example.com";
+            }
+            case "regex" -> {
+                schema = new StringSchema().regex("^[A-Z]{3}-\\d{4}$");
+                value = valid ? "ABC-1234" : "abc-12345";
+            }
+            default -> throw new IllegalArgumentException(rule);
+        }
+        compiled = schema.compile();
+        json = ("\"" + value + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ParseResult<String> parse() {
+        return compiled.parse(value);
+    }
+
+    @Benchmark
+    public ParseResult<String> parseJsonBytes() {
+        return schema.parse(json, 0, json.length);
+    }
+
+    /**
+     * Falha lida de fato: inclui formatar as mensagens, que {@link #parse()} não paga.
+     */
+    @Benchmark
+    public List<String> parseAndReadErrors() {
+        return compiled.parse(value).getErrors();
+    }
+}
@@ -0,0 +1,41 @@
+package studio.styx.schemaEXtended.core;
+
+import studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+
+/**
+ * Plano de validação imutável gerado por {@link Schema#compile()}.
+ * Uma única instância pode ser compartilhada entre todas as threads.
+ */
+@FunctionalInterface
+public interface CompiledSchema<T> {
+
+    ParseResult<T> parse(Object value);
+
+    /**
+     * Valida o próximo valor de um {@link JsonReader}. Por padrão o valor é materializado e passado
+     * para {@link #parse(Object)}; objetos e arrays sobrescrevem para validar enquanto leem.
+     *
+     * @throws studio.styx.schemaEXtended.core.exceptions.JsonParseException se o JSON for inválido
+     */
+    default ParseResult<T> parseJson(JsonReader reader) {
+        return parse(reader.readValue());
+    }
+
+    /**
+     * O plano sem as camadas opcionais (métricas, memoização); o próprio plano se não tiver nenhuma.
+     */
+    default CompiledSchema<T> unwrap() {
+        return this;
+    }
+
+    default T parseOrThrow(Object value) {
+        ParseResult<T> result = parse(value);
+
+        if (!result.isSuccess()) {
+            throw new SchemaIllegalArgumentException(result, value);
+        }
+
+        return result.getValue();
+    }
+}
\ No newline at end of file
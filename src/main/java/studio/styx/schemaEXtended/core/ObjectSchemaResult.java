@@ -1,20 +1,55 @@
 package studio.styx.schemaEXtended.core;
 
-import java.util.Map;
-
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
+/**
+ * Resultado de um {@link studio.styx.schemaEXtended.core.schemas.ObjectSchema}, guardado em slots
+ * de array definidos por um {@link ObjectShape}. Chaves ausentes (ou com valor null) não aparecem no resultado.
+ */
 public class ObjectSchemaResult {
-    private final Map<String, Object> values;
+    private final ObjectShape shape;
+    private final Object[] values;
+    private final long[] primitives;
+    private final int size;
+    private Map<String, Object> mapView;
 
     public ObjectSchemaResult(Map<String, Object> values) {
-        this.values = new HashMap<>(values);
+        this.shape = ObjectShape.of(values.keySet());
+        this.values = new Object[shape.size()];
+        this.primitives = null;
+        for (int slot = 0; slot < shape.size(); slot++) {
+            this.values[slot] = values.get(shape.key(slot));
+        }
+        this.size = countPresent(this.values);
+    }
+
+    /**
+     * Construtor usado pelos schemas compilados. Os arrays são adotados sem cópia e não devem ser
+     * alterados depois. Slots primitivos guardam {@link ObjectShape#PRIMITIVE} em {@code values}
+     * e o valor bruto em {@code primitives} (doubles via {@link Double#doubleToRawLongBits(double)}).
+     */
+    public ObjectSchemaResult(ObjectShape shape, Object[] values, long[] primitives) {
+        if (values.length != shape.size()) {
+            throw new IllegalArgumentException("values must have one slot per shape key");
+        }
+        this.shape = shape;
+        this.values = values;
+        this.primitives = primitives;
+        this.size = countPresent(values);
     }
 
     // Método principal com tipagem
     @SuppressWarnings("unchecked")
     public <T> T get(String key) {
-        return (T) values.get(key);
+        int slot = shape.indexOf(key);
+        return slot < 0 ? null : (T) valueAt(slot);
     }
 
     // Métodos auxiliares para tipos comuns
@@ -38,30 +73,199 @@ public class ObjectSchemaResult {
         return get(key);
     }
 
+    // --- Acesso primitivo (sem boxing para slots INT/LONG/DOUBLE) ---
+
+    public int getInt(String key) {
+        int slot = requireSlot(key);
+        if (values[slot] == ObjectShape.PRIMITIVE) {
+            return shape.type(slot) == ObjectShape.SlotType.DOUBLE
+                    ? (int) Double.longBitsToDouble(primitives[slot])
+                    : (int) primitives[slot];
+        }
+        return ((Number) values[slot]).intValue();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return has(key) ? getInt(key) : defaultValue;
+    }
+
+    public long getLongValue(String key) {
+        int slot = requireSlot(key);
+        if (values[slot] == ObjectShape.PRIMITIVE) {
+            return shape.type(slot) == ObjectShape.SlotType.DOUBLE
+                    ? (long) Double.longBitsToDouble(primitives[slot])
+                    : primitives[slot];
+        }
+        return ((Number) values[slot]).longValue();
+    }
+
+    public long getLongValue(String key, long defaultValue) {
+        return has(key) ? getLongValue(key) : defaultValue;
+    }
+
+    public double getDoubleValue(String key) {
+        int slot = requireSlot(key);
+        if (values[slot] == ObjectShape.PRIMITIVE) {
+            return shape.type(slot) == ObjectShape.SlotType.DOUBLE
+                    ? Double.longBitsToDouble(primitives[slot])
+                    : (double) primitives[slot];
+        }
+        return ((Number) values[slot]).doubleValue();
+    }
+
+    public double getDoubleValue(String key, double defaultValue) {
+        return has(key) ? getDoubleValue(key) : defaultValue;
+    }
+
     // Método com valor padrão
     @SuppressWarnings("unchecked")
     public <T> T get(String key, T defaultValue) {
-        T value = (T) values.get(key);
+        T value = get(key);
         return value != null ? value : defaultValue;
     }
 
     // Verificar se contém uma chave
     public boolean has(String key) {
-        return values.containsKey(key);
+        int slot = shape.indexOf(key);
+        return slot >= 0 && values[slot] != null;
     }
 
-    // Obter o map completo
+    // Obter o map completo (cópia mutável)
     public Map<String, Object> toMap() {
-        return new HashMap<>(values);
+        return new HashMap<>(asMap());
+    }
+
+    /**
+     * View imutável sobre os slots, sem cópia. Valores primitivos são convertidos
+     * para o wrapper apenas quando lidos.
+     */
+    public Map<String, Object> asMap() {
+        Map<String, Object> view = this.mapView;
+        if (view == null) {
+            view = new SlotMapView();
+            this.mapView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Resultado com cada valor não primitivo passado por {@code mapper} (ex: listas trocadas por versões
+     * imutáveis), ou este mesmo se nenhum mudar. Slots primitivos e ausentes são mantidos.
+     */
+    public ObjectSchemaResult mapValues(UnaryOperator<Object> mapper) {
+        Object[] mapped = null;
+        for (int slot = 0; slot < values.length; slot++) {
+            Object value = values[slot];
+            if (value == null || value == ObjectShape.PRIMITIVE) continue;
+            Object result = mapper.apply(value);
+            if (result != value) {
+                if (mapped == null) mapped = values.clone();
+                mapped[slot] = result;
+            }
+        }
+        return mapped == null ? this : new ObjectSchemaResult(shape, mapped, primitives);
+    }
+
+    public ObjectShape getShape() {
+        return shape;
     }
 
     // Tamanho
     public int size() {
-        return values.size();
+        return size;
     }
 
     // Verificar se está vazio
     public boolean isEmpty() {
-        return values.isEmpty();
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    private Object valueAt(int slot) {
+        return shape.value(values, primitives, slot);
+    }
+
+    private int requireSlot(String key) {
+        int slot = shape.indexOf(key);
+        if (slot < 0 || values[slot] == null) {
+            throw new NoSuchElementException("No value present for key: " + key);
+        }
+        return slot;
+    }
+
+    private static int countPresent(Object[] values) {
+        int count = 0;
+        for (Object value : values) {
+            if (value != null) count++;
+        }
+        return count;
+    }
+
+    private final class SlotMapView extends AbstractMap<String, Object> {
+        private Set<Entry<String, Object>> entrySet;
+
+        @Override
+        public Object get(Object key) {
+            int slot = shape.indexOf(key);
+            return slot < 0 ? null : valueAt(slot);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int slot = shape.indexOf(key);
+            return slot >= 0 && values[slot] != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Set<Entry<String, Object>> entries = this.entrySet;
+            if (entries == null) {
+                entries = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new SlotIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+                this.entrySet = entries;
+            }
+            return entries;
+        }
+    }
+
+    private final class SlotIterator implements Iterator<Map.Entry<String, Object>> {
+        private int next = advance(0);
+
+        private int advance(int from) {
+            int slot = from;
+            while (slot < values.length && values[slot] == null) slot++;
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int slot = next;
+            next = advance(slot + 1);
+            return new AbstractMap.SimpleImmutableEntry<>(shape.key(slot), valueAt(slot));
+        }
     }
 }
\ No newline at end of file
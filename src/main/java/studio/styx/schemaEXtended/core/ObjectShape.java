@@ -0,0 +1,220 @@
+package studio.styx.schemaEXtended.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * "Forma" imutável de um objeto: as chaves declaradas, cada uma num slot fixo.
+ * Um {@link studio.styx.schemaEXtended.core.schemas.ObjectSchema} compilado gera uma única
+ * forma, compartilhada por todos os {@link ObjectSchemaResult} que ele produz.
+ */
+public final class ObjectShape {
+
+    public enum SlotType {
+        REFERENCE,
+        INT,
+        LONG,
+        DOUBLE,
+    }
+
+    /**
+     * Marcador em {@code values[slot]} indicando que o valor do slot está em {@code primitives[slot]}.
+     */
+    public static final Object PRIMITIVE = new Object();
+
+    private final String[] keys;
+    private final SlotType[] types;
+    private final boolean hasPrimitives;
+
+    // Tabela hash com endereçamento aberto: chave -> slot
+    private final String[] table;
+    private final int[] tableSlots;
+    private final int mask;
+
+    // Mesma tabela para as chaves em UTF-8, comparadas direto com os bytes da entrada (slot + 1; 0 = vazio)
+    private final byte[][] utf8Keys;
+    private final int[] utf8Hashes;
+    private final int[] utf8Table;
+
+    public ObjectShape(String[] keys, SlotType[] types) {
+        if (keys.length != types.length) {
+            throw new IllegalArgumentException("keys and types must have the same length");
+        }
+        this.keys = keys.clone();
+        this.types = types.clone();
+
+        boolean primitives = false;
+        for (SlotType type : this.types) {
+            if (type != SlotType.REFERENCE) {
+                primitives = true;
+                break;
+            }
+        }
+        this.hasPrimitives = primitives;
+
+        int capacity = Integer.highestOneBit(Math.max(2, this.keys.length * 2 - 1)) << 1;
+        this.table = new String[capacity];
+        this.tableSlots = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            String key = this.keys[slot];
+            int i = spread(key.hashCode()) & mask;
+            while (table[i] != null) {
+                if (table[i].equals(key)) {
+                    throw new IllegalArgumentException("Duplicate key in shape: " + key);
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = key;
+            tableSlots[i] = slot;
+        }
+
+        this.utf8Keys = new byte[this.keys.length][];
+        this.utf8Hashes = new int[this.keys.length];
+        this.utf8Table = new int[capacity];
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            byte[] bytes = this.keys[slot].getBytes(StandardCharsets.UTF_8);
+            int hash = 0;
+            for (byte b : bytes) {
+                hash = 31 * hash + (b & 0xFF);
+            }
+            utf8Keys[slot] = bytes;
+            utf8Hashes[slot] = hash;
+
+            int i = spread(hash) & mask;
+            while (utf8Table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            utf8Table[i] = slot + 1;
+        }
+    }
+
+    public static ObjectShape of(Collection<String> keys) {
+        SlotType[] types = new SlotType[keys.size()];
+        Arrays.fill(types, SlotType.REFERENCE);
+        return new ObjectShape(keys.toArray(new String[0]), types);
+    }
+
+    /**
+     * Retorna o slot da chave, ou -1 se ela não pertence à forma.
+     */
+    public int indexOf(Object key) {
+        if (!(key instanceof String)) return -1;
+
+        int i = spread(key.hashCode()) & mask;
+        String candidate;
+        while ((candidate = table[i]) != null) {
+            if (candidate.equals(key)) {
+                return tableSlots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot da chave contida em {@code source[start, end)}, sem criar a substring.
+     * {@code hash} deve ser o {@link String#hashCode()} do trecho.
+     */
+    public int indexOf(String source, int start, int end, int hash) {
+        int length = end - start;
+        int i = spread(hash) & mask;
+        String candidate;
+        while ((candidate = table[i]) != null) {
+            if (candidate.hashCode() == hash && candidate.length() == length
+                    && source.regionMatches(start, candidate, 0, length)) {
+                return tableSlots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot da chave cujos bytes UTF-8 estão em {@code source[start, end)}, sem decodificar.
+     * {@code hash} é o hash polinomial (31) dos bytes sem sinal.
+     */
+    public int indexOfUtf8(byte[] source, int start, int end, int hash) {
+        int length = end - start;
+        int i = spread(hash) & mask;
+        int entry;
+        while ((entry = utf8Table[i]) != 0) {
+            byte[] key = utf8Keys[entry - 1];
+            if (utf8Hashes[entry - 1] == hash && key.length == length
+                    && Arrays.equals(key, 0, length, source, start, end)) {
+                return entry - 1;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Igual a {@link #indexOfUtf8(byte[], int, int, int)}, para buffers sem array (ex: direct), por índice absoluto.
+     */
+    public int indexOfUtf8(ByteBuffer source, int start, int end, int hash) {
+        int length = end - start;
+        int i = spread(hash) & mask;
+        int entry;
+        while ((entry = utf8Table[i]) != 0) {
+            byte[] key = utf8Keys[entry - 1];
+            if (utf8Hashes[entry - 1] == hash && key.length == length && regionEquals(key, source, start)) {
+                return entry - 1;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(byte[] key, ByteBuffer source, int start) {
+        for (int k = 0; k < key.length; k++) {
+            if (key[k] != source.get(start + k)) return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String key(int slot) {
+        return keys[slot];
+    }
+
+    public SlotType type(int slot) {
+        return types[slot];
+    }
+
+    public boolean hasPrimitives() {
+        return hasPrimitives;
+    }
+
+    public List<String> keys() {
+        return List.of(keys);
+    }
+
+    /**
+     * Lê o valor de um slot (com boxing sob demanda para slots primitivos).
+     */
+    public Object value(Object[] values, long[] primitives, int slot) {
+        Object value = values[slot];
+        if (value != PRIMITIVE) {
+            return value;
+        }
+
+        long raw = primitives[slot];
+        return switch (types[slot]) {
+            case INT -> (int) raw;
+            case DOUBLE -> Double.longBitsToDouble(raw);
+            default -> raw;
+        };
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
\ No newline at end of file
@@ -1,51 +1,118 @@
 package studio.styx.schemaEXtended.core;
 
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.issues.IssueFormatter;
+import studio.styx.schemaEXtended.core.issues.Issues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ParseResult<T> {
     private final T value;
-    private final Object errors; // Pode ser List<String> ou Map<String, String>
+    // Árvore de erros: issues de propriedades (byField) ou erros do próprio valor
+    private final List<Issue> issues;
+    private final boolean byField;
     private final boolean success;
+    // Mensagens formatadas na primeira leitura; refeitas se o formatter mudar
+    private volatile Rendered rendered;
 
-    private ParseResult(T value, Object errors, boolean success) {
+    private ParseResult(T value, List<Issue> issues, boolean byField, boolean success) {
         this.value = value;
-        this.errors = errors;
+        this.issues = issues;
+        this.byField = byField;
         this.success = success;
     }
 
     // Para erros simples (List<String>)
     public static <T> ParseResult<T> success(T value) {
-        return new ParseResult<>(value, List.of(), true);
+        return new ParseResult<>(value, List.of(), false, true);
     }
 
     public static <T> ParseResult<T> failure(List<String> errors) {
-        return new ParseResult<>(null, errors, false);
+        List<Issue> issues = new ArrayList<>(errors.size());
+        for (String error : errors) {
+            issues.add(Issue.custom(error));
+        }
+        return new ParseResult<>(null, issues, false, false);
     }
 
     // Para erros complexos (Map<String, String>)
     public static <T> ParseResult<T> failure(Map<String, String> errors) {
-        return new ParseResult<>(null, errors, false);
+        List<Issue> issues = new ArrayList<>(errors.size());
+        errors.forEach((field, error) -> issues.add(Issue.field(field, List.of(Issue.custom(error)))));
+        return new ParseResult<>(null, issues, true, false);
+    }
+
+    /**
+     * Falha com erros estruturados; as mensagens só são formatadas quando lidas. A lista não é copiada.
+     */
+    public static <T> ParseResult<T> invalid(List<Issue> issues) {
+        return new ParseResult<>(null, issues, false, false);
+    }
+
+    public static <T> ParseResult<T> invalid(Issue issue) {
+        return new ParseResult<>(null, List.of(issue), false, false);
+    }
+
+    /**
+     * Falha de um objeto: um {@link IssueCode#INVALID_FIELD} por propriedade (ver {@link Issue#field}).
+     * Aparece em {@link #getFieldErrors()}, não em {@link #getErrors()}. A lista não é copiada.
+     */
+    public static <T> ParseResult<T> invalidFields(List<Issue> fieldIssues) {
+        return new ParseResult<>(null, fieldIssues, true, false);
     }
 
     public T getValue() {
         return value;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Erros estruturados (código, parâmetros), como árvore: erros de elementos e propriedades vêm agrupados em
+     * {@link IssueCode#INVALID_ELEMENT} / {@link IssueCode#INVALID_FIELD}. Vazio em caso de sucesso.
+     */
+    public List<Issue> getIssues() {
+        return Collections.unmodifiableList(issues);
+    }
+
+    /**
+     * Erros de fato agrupados pelo caminho em JSON Pointer (ex: {@code /orders/3/price}); ver {@link Issues#byPath}.
+     */
+    public Map<String, List<Issue>> getIssuesByPath() {
+        return Issues.byPath(issues);
+    }
+
+    /**
+     * Mensagens dos erros, formatadas pelo {@link Issues#formatter()} atual.
+     */
     public List<String> getErrors() {
-        if (errors instanceof List) {
-            return (List<String>) errors;
+        return getErrors(Issues.formatter());
+    }
+
+    public List<String> getErrors(IssueFormatter formatter) {
+        if (byField || issues.isEmpty()) {
+            return List.of(); // Erros por campo ficam em getFieldErrors()
         }
-        return List.of(); // Retorna lista vazia se for Map
+        return render(formatter).messages;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Primeira mensagem de cada propriedade inválida. Em objetos aninhados a mensagem traz o resto do caminho
+     * (ex: {@code "address" -> "zip: ..."}); a árvore completa está em {@link #getIssues()}.
+     */
     public Map<String, String> getFieldErrors() {
-        if (errors instanceof Map) {
-            return (Map<String, String>) errors;
+        return getFieldErrors(Issues.formatter());
+    }
+
+    public Map<String, String> getFieldErrors(IssueFormatter formatter) {
+        if (!byField || issues.isEmpty()) {
+            return Map.of(); // Retorna map vazio se não for erro de objeto
         }
-        return Map.of(); // Retorna map vazio se for List
+        return render(formatter).fields;
     }
 
     public boolean isSuccess() {
@@ -53,11 +120,42 @@ public class ParseResult<T> {
     }
 
     public boolean hasErrors() {
-        if (errors instanceof List) {
-            return !((List<?>) errors).isEmpty();
-        } else if (errors instanceof Map) {
-            return !((Map<?, ?>) errors).isEmpty();
+        return !issues.isEmpty();
+    }
+
+    private Rendered render(IssueFormatter formatter) {
+        Rendered current = rendered;
+        if (current != null && current.formatter == formatter) {
+            return current;
+        }
+
+        if (byField) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (Issue issue : issues) {
+                Issue first = issue.getCauses().isEmpty() ? issue : issue.getCauses().get(0);
+                fields.putIfAbsent(String.valueOf(issue.getSegment()), formatter.format(first));
+            }
+            current = new Rendered(formatter, List.of(), Collections.unmodifiableMap(fields));
+        } else {
+            String[] messages = new String[issues.size()];
+            for (int i = 0; i < messages.length; i++) {
+                messages[i] = formatter.format(issues.get(i));
+            }
+            current = new Rendered(formatter, Collections.unmodifiableList(Arrays.asList(messages)), Map.of());
+        }
+        rendered = current;
+        return current;
+    }
+
+    private static final class Rendered {
+        final IssueFormatter formatter;
+        final List<String> messages;
+        final Map<String, String> fields;
+
+        Rendered(IssueFormatter formatter, List<String> messages, Map<String, String> fields) {
+            this.formatter = formatter;
+            this.messages = messages;
+            this.fields = fields;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
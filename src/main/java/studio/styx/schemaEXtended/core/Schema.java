@@ -1,12 +1,36 @@
 package studio.styx.schemaEXtended.core;
 
+import studio.styx.schemaEXtended.core.cache.CacheStats;
+import studio.styx.schemaEXtended.core.cache.MemoizedSchema;
 import studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException;
+import studio.styx.schemaEXtended.core.metrics.MeteredSchema;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 
 public abstract class Schema<T> {
     private boolean coerce = false;
     private boolean opcional = false;
     private Object boundValue;
     private boolean hasBoundValue = false;
+    private boolean abortEarly = false;
+    private String name;
+    private ValidationMetrics metrics;
+    private String metricsName;
+    private int memoizeSize = 0; // 0 = sem memoização
+    // Incrementada a cada alteração de configuração deste schema ou de qualquer filho. A configuração não
+    // é thread-safe; o volatile só publica a nova versão para quem compila em outra thread.
+    private volatile int version;
+    // Quem já compilou este schema como filho: alterações aqui sobem para eles (ver changed()).
+    // Referências fracas: um filho compartilhado não segura pais já descartados.
+    private Set<Schema<?>> parents;
+    private volatile CachedPlan<T> cachedPlan;
+    private volatile CachedPlan<T> cachedAbortEarlyPlan;
 
     public abstract ParseResult<T> parse(Object obj);
 
@@ -42,24 +66,92 @@ public abstract class Schema<T> {
 
     public Schema<T> coerce() {
         this.coerce = true;
+        changed();
         return this;
     }
 
     public Schema<T> coerce(boolean coerce) {
         this.coerce = coerce;
+        changed();
         return this;
     }
 
     public Schema<T> optional() {
         this.opcional = true;
+        changed();
         return this;
     }
 
     public Schema<T> optional(boolean optional) {
         this.opcional = optional;
+        changed();
+        return this;
+    }
+
+    /**
+     * Para no primeiro erro encontrado. Em ObjectSchema/ArraySchema o modo também
+     * vale para todos os schemas filhos.
+     */
+    public Schema<T> abortEarly() {
+        this.abortEarly = true;
+        changed();
+        return this;
+    }
+
+    public Schema<T> abortEarly(boolean abortEarly) {
+        this.abortEarly = abortEarly;
+        changed();
+        return this;
+    }
+
+    /**
+     * Nome do schema nos eventos JFR ({@code studio.styx.schemaEXtended.*Validation}).
+     */
+    public Schema<T> name(String name) {
+        this.name = name;
+        changed();
+        return this;
+    }
+
+    /**
+     * Registra cada validação deste schema em {@code metrics}, com o nome informado. Em ObjectSchema cada
+     * propriedade também é registrada separadamente. Sem métricas (o padrão) o plano compilado não muda;
+     * {@code metrics == null} remove.
+     */
+    public Schema<T> metrics(String name, ValidationMetrics metrics) {
+        if (metrics != null && name == null) {
+            throw new IllegalArgumentException("metrics name cannot be null");
+        }
+        this.metricsName = name;
+        this.metrics = metrics;
+        changed();
         return this;
     }
 
+    /**
+     * Guarda o resultado das últimas entradas imutáveis validadas (String, números, Boolean), até
+     * {@code maxEntries}; entradas repetidas devolvem o mesmo {@link ParseResult} sem validar de novo.
+     * As mais frequentes ficam (admissão TinyLFU). Outras entradas (Map, List, POJO) passam direto.
+     * O resultado em cache é compartilhado, então listas (ex: de ArraySchema, inclusive dentro de objetos) voltam
+     * imutáveis; resultados com outros valores mutáveis (arrays primitivos, Maps) não são guardados.
+     * {@code 0} desliga.
+     */
+    public Schema<T> memoize(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must be >= 0");
+        }
+        this.memoizeSize = maxEntries;
+        changed();
+        return this;
+    }
+
+    /**
+     * Acertos e tamanho do cache do plano atual ({@link #compile()}); null sem {@link #memoize(int)}.
+     */
+    public CacheStats getCacheStats() {
+        return compile() instanceof MemoizedSchema<T> memoized ? memoized.stats() : null;
+    }
+
     public boolean isCoerce() {
         return this.coerce;
     }
@@ -67,4 +159,127 @@ public abstract class Schema<T> {
     public boolean isOptional() {
         return this.opcional;
     }
+
+    public boolean isAbortEarly() {
+        return this.abortEarly;
+    }
+
+    /**
+     * O nome dado em {@link #name(String)}; sem ele, o nome das métricas; sem os dois, o nome da classe.
+     */
+    public String getName() {
+        if (this.name != null) return this.name;
+        return this.metricsName != null ? this.metricsName : getClass().getSimpleName();
+    }
+
+    public ValidationMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    public String getMetricsName() {
+        return this.metricsName;
+    }
+
+    // --- Compilação ---
+
+    /**
+     * Congela a configuração atual num {@link CompiledSchema} imutável e thread-safe.
+     * Alterações feitas depois no schema (ou nos filhos) não afetam o plano retornado.
+     */
+    public CompiledSchema<T> compile() {
+        return compile(false);
+    }
+
+    /**
+     * Igual a {@link #compile()}, mas com {@code abortEarly = true} força o modo
+     * abortEarly mesmo que ele não tenha sido configurado neste schema.
+     * É assim que um pai em modo abortEarly compila seus filhos.
+     */
+    public CompiledSchema<T> compile(boolean abortEarly) {
+        boolean effective = abortEarly || this.abortEarly;
+        CachedPlan<T> cached = effective ? this.cachedAbortEarlyPlan : this.cachedPlan;
+        if (cached != null && cached.version() == version) {
+            return cached.plan();
+        }
+
+        // Versão lida antes de montar: uma alteração concorrente (aqui ou num filho já registrado)
+        // só pode causar uma recompilação a mais
+        int currentVersion = version;
+        for (Schema<?> child : children()) {
+            child.addParent(this);
+        }
+
+        CompiledSchema<T> plan = createCompiledSchema(effective);
+        if (metrics != null) {
+            plan = MeteredSchema.of(plan, metrics.recorder(metricsName, null), coerce);
+        }
+        // Memoização por fora: acertos não passam pelas métricas, que medem só validações de fato
+        if (memoizeSize > 0) {
+            plan = new MemoizedSchema<>(plan, memoizeSize);
+        }
+        if (effective) {
+            this.cachedAbortEarlyPlan = new CachedPlan<>(plan, currentVersion);
+        } else {
+            this.cachedPlan = new CachedPlan<>(plan, currentVersion);
+        }
+        return plan;
+    }
+
+    /**
+     * Monta o plano de validação a partir da configuração atual.
+     * Subclasses que não sobrescrevem este método apenas delegam para {@link #parse(Object)}.
+     *
+     * @param abortEarly se o plano deve parar no primeiro erro (já considerando o pai)
+     */
+    protected CompiledSchema<T> createCompiledSchema(boolean abortEarly) {
+        return this::parse;
+    }
+
+    /**
+     * Schemas filhos compilados por {@link #createCompiledSchema(boolean)}. Uma alteração em qualquer um
+     * deles (ou nos filhos deles) invalida o plano deste schema.
+     */
+    protected Collection<? extends Schema<?>> children() {
+        return List.of();
+    }
+
+    /**
+     * Valida com um método próprio do plano base (ex: {@code parseDocument} com bytes JSON),
+     * registrando nas métricas quando o schema tiver. Não passa pela memoização.
+     */
+    protected final ParseResult<T> parseWithPlan(Object input, Function<CompiledSchema<T>, ParseResult<T>> parse) {
+        CompiledSchema<T> plan = compile();
+        if (plan instanceof MemoizedSchema<T> memoized) {
+            plan = memoized.delegate();
+        }
+        if (plan instanceof MeteredSchema<T> metered) {
+            return metered.measure(input, parse);
+        }
+        return parse.apply(plan.unwrap());
+    }
+
+    /**
+     * Deve ser chamado por todo método de configuração para invalidar os planos em cache. A nova versão sobe
+     * para os pais que já compilaram este schema, então o {@link #compile()} confere só a própria versão.
+     */
+    protected final void changed() {
+        version++;
+        Schema<?>[] notify;
+        synchronized (this) {
+            if (parents == null || parents.isEmpty()) return;
+            notify = parents.toArray(new Schema<?>[0]);
+        }
+        for (Schema<?> parent : notify) {
+            parent.changed();
+        }
+    }
+
+    private synchronized void addParent(Schema<?> parent) {
+        if (parents == null) {
+            parents = Collections.newSetFromMap(new WeakHashMap<>());
+        }
+        parents.add(parent);
+    }
+
+    private record CachedPlan<T>(CompiledSchema<T> plan, int version) {}
 }
\ No newline at end of file
@@ -1,41 +1,233 @@
 package studio.styx.schemaEXtended.core.batch;
 
+import studio.styx.schemaEXtended.core.CompiledSchema;
 import studio.styx.schemaEXtended.core.ParseResult;
 import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.jfr.BatchValidationEvent;
+import studio.styx.schemaEXtended.core.metrics.MeteredSchema;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class BatchValidator {
-    private final Map<String, Schema<?>> schemas = new HashMap<>();
+    private static final Issue UNBOUND_ERROR = Issue.of(IssueCode.UNBOUND);
+    private static final Issue TIMEOUT_ERROR = Issue.of(IssueCode.TIMEOUT);
+
+    // Ordem de inserção: o merge no BatchResult é determinístico, sequencial ou concorrente.
+    // Depois de configurado, o validador só é lido: pode ser compartilhado entre threads
+    // com validate(Map)/validateAll, que não usam o valor bindado nos schemas.
+    private final Map<String, Schema<?>> schemas = new LinkedHashMap<>();
+    private Duration timeout;
+    private String name;
+    private ValidationMetrics metrics;
+    private String metricsName;
+    private final Map<String, ValidationMetrics.Recorder> recorders = new ConcurrentHashMap<>();
 
     public BatchValidator add(String key, Schema<?> schema) {
         this.schemas.put(key, schema);
         return this;
     }
 
+    /**
+     * Tempo máximo de uma validação concorrente. Entradas que não terminarem a tempo
+     * recebem o erro "Validation timed out". Não se aplica ao {@link #validate()} sequencial.
+     * <p>
+     * A entrada atrasada é cancelada e a sua thread interrompida, mas a validação em si não verifica
+     * interrupção: ela roda até o fim no executor e o resultado é descartado. O timeout limita a espera
+     * de quem chamou, não o uso de CPU.
+     */
+    public BatchValidator timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Nome do lote nos eventos JFR; sem ele vale o nome das métricas ou {@code "BatchValidator"}.
+     */
+    public BatchValidator name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Registra a validação de cada entrada em {@code metrics}, como a propriedade {@code key} do lote {@code name}.
+     * Vale para todos os modos; {@code metrics == null} remove.
+     */
+    public BatchValidator metrics(String name, ValidationMetrics metrics) {
+        if (metrics != null && name == null) {
+            throw new IllegalArgumentException("metrics name cannot be null");
+        }
+        this.metricsName = name;
+        this.metrics = metrics;
+        this.recorders.clear();
+        return this;
+    }
+
     public BatchResult validate() {
-        Map<String, Object> successes = new HashMap<>();
-        Map<String, List<String>> errors = new HashMap<>();
+        BatchValidationEvent event = new BatchValidationEvent();
+        event.begin();
+        Map<String, Object> successes = new LinkedHashMap<>();
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+
+        schemas.forEach((key, schema) -> merge(key, validateEntry(key, schema), successes, errors));
+
+        commit(event, "bound", errors);
+        return new BatchResult(successes, errors);
+    }
+
+    /**
+     * Valida os valores informados contra as regras, sem {@code bind()}: os schemas não são alterados,
+     * então um único validador atende várias threads. Chaves sem valor são validadas como {@code null}
+     * (só passam em schemas {@code optional()}); chaves sem regra são ignoradas.
+     */
+    public BatchResult validate(Map<String, ?> values) {
+        BatchValidationEvent event = new BatchValidationEvent();
+        event.begin();
+        Map<String, Object> successes = new LinkedHashMap<>();
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+
+        schemas.forEach((key, schema) -> merge(key, plan(key, schema).parse(values.get(key)), successes, errors));
+
+        commit(event, "values", errors);
+        return new BatchResult(successes, errors);
+    }
+
+    /**
+     * {@link #validate(Map)} para cada mapa, na mesma ordem.
+     */
+    public List<BatchResult> validateAll(List<? extends Map<String, ?>> values) {
+        List<BatchResult> results = new ArrayList<>(values.size());
+        for (Map<String, ?> value : values) {
+            results.add(validate(value));
+        }
+        return results;
+    }
 
+    /**
+     * Valida todas as entradas ao mesmo tempo, uma virtual thread por entrada.
+     */
+    public BatchResult validateConcurrently() {
+        return validate(VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Valida todas as entradas ao mesmo tempo no executor informado. O resultado é o mesmo do
+     * {@link #validate()} sequencial (mesma ordem), exceto pelas entradas que estourarem o {@link #timeout(Duration)}.
+     */
+    public BatchResult validate(Executor executor) {
+        BatchValidationEvent event = new BatchValidationEvent();
+        event.begin();
+        List<String> keys = new ArrayList<>(schemas.size());
+        // FutureTask: cancel(true) interrompe a thread que está rodando a entrada
+        List<FutureTask<ParseResult<?>>> tasks = new ArrayList<>(schemas.size());
         schemas.forEach((key, schema) -> {
-            // Tenta pegar o valor bindado no schema
+            FutureTask<ParseResult<?>> task = new FutureTask<>(() -> validateEntry(key, schema));
+            keys.add(key);
+            tasks.add(task);
+            executor.execute(task);
+        });
+
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        Map<String, Object> successes = new LinkedHashMap<>();
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            FutureTask<ParseResult<?>> task = tasks.get(i);
+            ParseResult<?> result;
             try {
-                // parse() sem argumentos usa o valor do .bind()
-                ParseResult<?> result = schema.parse();
-
-                if (result.isSuccess()) {
-                    successes.put(key, result.getValue());
-                } else {
-                    errors.put(key, result.getErrors());
-                }
-            } catch (IllegalStateException e) {
-                // Caso o dev esqueça de dar bind/withSchema
-                errors.put(key, List.of("No value bound to schema for validation"));
+                result = timeout == null
+                        ? task.get()
+                        : task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                result = ParseResult.invalid(TIMEOUT_ERROR);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(t -> t.cancel(true));
+                throw new IllegalStateException("Interrupted while waiting for batch validation", e);
+            } catch (ExecutionException e) {
+                // Mesmo comportamento do modo sequencial: exceções do schema sobem para quem chamou
+                tasks.forEach(t -> t.cancel(true));
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                throw new IllegalStateException(e.getCause());
             }
-        });
+            merge(keys.get(i), result, successes, errors);
+        }
 
+        commit(event, "concurrent", errors);
         return new BatchResult(successes, errors);
     }
-}
\ No newline at end of file
+
+    private void commit(BatchValidationEvent event, String mode, Map<String, List<String>> errors) {
+        event.end();
+        if (event.shouldCommit()) {
+            String eventName = name != null ? name : metricsName != null ? metricsName : "BatchValidator";
+            event.set(eventName, mode, schemas.size(), errors.size());
+            event.commit();
+        }
+    }
+
+    private CompiledSchema<?> plan(String key, Schema<?> schema) {
+        CompiledSchema<?> plan = schema.compile();
+        return metrics == null ? plan : MeteredSchema.of(plan, recorder(key), schema.isCoerce());
+    }
+
+    private ValidationMetrics.Recorder recorder(String key) {
+        return recorders.computeIfAbsent(key, k -> metrics.recorder(metricsName, k));
+    }
+
+    private ParseResult<?> validateEntry(String key, Schema<?> schema) {
+        if (metrics == null) {
+            return validateEntry(schema);
+        }
+        ValidationMetrics.Recorder recorder = recorder(key);
+        if (!recorder.isEnabled()) {
+            return validateEntry(schema);
+        }
+        boolean timed = recorder.sample();
+        long start = timed ? System.nanoTime() : 0;
+        ParseResult<?> result = validateEntry(schema);
+        // O valor bindado não fica visível aqui: coerções não são contadas
+        recorder.record(timed ? System.nanoTime() - start : -1, result, false);
+        return result;
+    }
+
+    private static ParseResult<?> validateEntry(Schema<?> schema) {
+        // Tenta pegar o valor bindado no schema
+        try {
+            // parse() sem argumentos usa o valor do .bind()
+            return schema.parse();
+        } catch (IllegalStateException e) {
+            // Caso o dev esqueça de dar bind/withSchema
+            return ParseResult.invalid(UNBOUND_ERROR);
+        }
+    }
+
+    private static void merge(String key, ParseResult<?> result,
+                              Map<String, Object> successes, Map<String, List<String>> errors) {
+        if (result.isSuccess()) {
+            successes.put(key, result.getValue());
+        } else {
+            errors.put(key, result.getErrors());
+        }
+    }
+
+    // Executor criado só no primeiro uso; virtual threads não precisam de pool nem de shutdown
+    private static final class VirtualThreads {
+        static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
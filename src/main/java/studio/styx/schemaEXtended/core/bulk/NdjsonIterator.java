@@ -0,0 +1,195 @@
+package studio.styx.schemaEXtended.core.bulk;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Resultados de um {@link NdjsonValidator}, na ordem do arquivo.
+ * <p>
+ * Uma thread leitora mapeia o arquivo e envia os lotes ao executor; a fila entre ela e o consumidor
+ * é limitada, então a leitura espera quando o consumidor fica para trás. Não é thread-safe:
+ * deve ser consumido por uma única thread.
+ */
+public final class NdjsonIterator<T> implements Iterator<NdjsonLine<T>>, AutoCloseable {
+    private final NdjsonValidator<T> validator;
+    private final FileChannel channel;
+    private final Executor executor;
+    private final long chunkSize;
+    private final int batchBytes;
+    private final BlockingQueue<CompletableFuture<NdjsonValidator.Batch<T>>> pending;
+    private final CompletableFuture<NdjsonValidator.Batch<T>> endOfFile = CompletableFuture.completedFuture(null);
+    private final Thread reader;
+    private volatile boolean closed;
+
+    private NdjsonValidator.Batch<T> current;
+    private long currentFirstLine;
+    private long linesDelivered;
+    private int index;
+    private boolean finished;
+
+    NdjsonIterator(NdjsonValidator<T> validator, Path file, Executor executor, int parallelism,
+                   long chunkSize, int batchBytes) throws IOException {
+        this.validator = validator;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.batchBytes = batchBytes;
+        this.pending = new ArrayBlockingQueue<>(parallelism * 2);
+
+        this.reader = new Thread(this::read, "ndjson-reader-" + file.getFileName());
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || index >= current.size) {
+            if (finished) return false;
+
+            CompletableFuture<NdjsonValidator.Batch<T>> next;
+            try {
+                next = pending.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("Interrupted while waiting for NDJSON results", e);
+            }
+
+            if (next == endOfFile) {
+                finished = true;
+                close();
+                return false;
+            }
+
+            NdjsonValidator.Batch<T> batch = join(next);
+            currentFirstLine = linesDelivered + 1;
+            linesDelivered += batch.lineCount;
+            current = batch;
+            index = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public NdjsonLine<T> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.line(index++, currentFirstLine);
+    }
+
+    /**
+     * Interrompe a leitura e libera o arquivo. Lotes já enviados ao executor terminam e são descartados,
+     * inclusive o restante do lote atual: depois do close {@link #hasNext()} retorna false.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        finished = true;
+        current = null;
+        reader.interrupt();
+        pending.clear();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nada a fazer: o arquivo só era lido
+        }
+    }
+
+    // --- Thread leitora ---
+
+    private void read() {
+        try {
+            long size = channel.size();
+            long position = 0;
+            while (position < size && !closed) {
+                MappedByteBuffer chunk = null;
+                int end = 0;
+                long length = Math.min(chunkSize, size - position);
+
+                // Corta o chunk no último '\n'; se a linha não couber, dobra o mapeamento
+                while (chunk == null) {
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    if (position + length == size) {
+                        chunk = mapped;
+                        end = (int) length;
+                    } else {
+                        int lastNewline = lastIndexOf(mapped, (int) length);
+                        if (lastNewline >= 0) {
+                            chunk = mapped;
+                            end = lastNewline + 1;
+                        } else if (length >= Integer.MAX_VALUE) {
+                            throw new IOException("Line larger than 2GB at offset " + position);
+                        } else {
+                            length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+                        }
+                    }
+                }
+
+                submitBatches(chunk, position, end);
+                position += end;
+            }
+            pending.put(endOfFile);
+        } catch (InterruptedException e) {
+            // close(): o consumidor já não espera mais nada
+        } catch (Throwable t) {
+            if (!closed) {
+                try {
+                    pending.put(CompletableFuture.failedFuture(t));
+                } catch (InterruptedException ignored) {
+                    // close() durante a espera
+                }
+            }
+        }
+    }
+
+    private void submitBatches(MappedByteBuffer chunk, long chunkOffset, int end) throws InterruptedException {
+        int batchStart = 0;
+        while (batchStart < end && !closed) {
+            int target = batchStart + batchBytes;
+            int batchEnd;
+            if (target >= end || target < 0) {
+                batchEnd = end;
+            } else {
+                int newline = NdjsonValidator.indexOf(chunk, target - 1, end, (byte) '\n');
+                batchEnd = newline < 0 ? end : newline + 1;
+            }
+
+            int from = batchStart;
+            int to = batchEnd;
+            pending.put(CompletableFuture.supplyAsync(
+                    () -> validator.validateBatch(chunk, chunkOffset, from, to), executor));
+            batchStart = batchEnd;
+        }
+    }
+
+    private static int lastIndexOf(MappedByteBuffer buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    private NdjsonValidator.Batch<T> join(CompletableFuture<NdjsonValidator.Batch<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw new UncheckedIOException((IOException) cause);
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package studio.styx.schemaEXtended.core.bulk;
+
+import studio.styx.schemaEXtended.core.ParseResult;
+
+/**
+ * Resultado da validação de uma linha de um arquivo NDJSON.
+ */
+public final class NdjsonLine<T> {
+    private final long lineNumber;
+    private final long offset;
+    private final int length;
+    private final long errorOffset;
+    private final ParseResult<T> result;
+
+    NdjsonLine(long lineNumber, long offset, int length, long errorOffset, ParseResult<T> result) {
+        this.lineNumber = lineNumber;
+        this.offset = offset;
+        this.length = length;
+        this.errorOffset = errorOffset;
+        this.result = result;
+    }
+
+    /**
+     * Número da linha no arquivo, começando em 1 (linhas em branco também contam).
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Offset, em bytes, do início da linha no arquivo.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Tamanho da linha em bytes, sem o terminador ({@code \n} ou {@code \r\n}).
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Offset absoluto, em bytes, do erro de sintaxe JSON; -1 se a linha é JSON válido.
+     */
+    public long getErrorOffset() {
+        return errorOffset;
+    }
+
+    public ParseResult<T> getResult() {
+        return result;
+    }
+
+    public boolean isSuccess() {
+        return result.isSuccess();
+    }
+
+    public T getValue() {
+        return result.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return "NdjsonLine{line=" + lineNumber + ", offset=" + offset + ", success=" + result.isSuccess() + "}";
+    }
+}
@@ -0,0 +1,195 @@
+package studio.styx.schemaEXtended.core.bulk;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.exceptions.JsonParseException;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Valida arquivos NDJSON (um documento JSON por linha) contra um único schema.
+ * <p>
+ * O arquivo é mapeado em memória em chunks cortados em fim de linha; cada chunk é dividido em lotes
+ * validados em paralelo direto dos bytes mapeados (sem criar uma String por linha). Os resultados
+ * voltam na ordem do arquivo por um iterador com fila limitada, então o uso de memória não depende
+ * do tamanho do arquivo.
+ */
+public class NdjsonValidator<T> {
+    private static final long DEFAULT_CHUNK_SIZE = 256L << 20;
+    private static final int DEFAULT_BATCH_BYTES = 1 << 20;
+
+    private final CompiledSchema<T> plan;
+    private Executor executor = ForkJoinPool.commonPool();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long chunkSize = DEFAULT_CHUNK_SIZE;
+    private int batchBytes = DEFAULT_BATCH_BYTES;
+
+    public NdjsonValidator(Schema<T> schema) {
+        this(schema.compile());
+    }
+
+    public NdjsonValidator(CompiledSchema<T> plan) {
+        this.plan = plan;
+    }
+
+    // --- Configuração ---
+
+    /**
+     * Executor dos lotes (padrão: {@link ForkJoinPool#commonPool()}).
+     */
+    public NdjsonValidator<T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Máximo de lotes em andamento ou aguardando consumo. Limita a memória usada pelos resultados.
+     */
+    public NdjsonValidator<T> parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Tamanho de cada região mapeada do arquivo (limitado a 2GB pelo {@link java.nio.MappedByteBuffer}).
+     */
+    public NdjsonValidator<T> chunkSize(long chunkSize) {
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + Integer.MAX_VALUE);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Quantidade aproximada de bytes validada por tarefa.
+     */
+    public NdjsonValidator<T> batchBytes(int batchBytes) {
+        if (batchBytes < 1) {
+            throw new IllegalArgumentException("batchBytes must be at least 1");
+        }
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    // --- Execução ---
+
+    /**
+     * Abre o arquivo e retorna os resultados linha a linha, na ordem do arquivo. Deve ser fechado
+     * (try-with-resources) se não for consumido até o fim.
+     */
+    public NdjsonIterator<T> open(Path file) throws IOException {
+        return new NdjsonIterator<>(this, file, executor, parallelism, chunkSize, batchBytes);
+    }
+
+    /**
+     * Valida o arquivo inteiro chamando {@code callback} para cada linha não vazia, na ordem do arquivo,
+     * na thread que chamou este método.
+     */
+    public void validate(Path file, Consumer<? super NdjsonLine<T>> callback) throws IOException {
+        try (NdjsonIterator<T> lines = open(file)) {
+            while (lines.hasNext()) {
+                callback.accept(lines.next());
+            }
+        }
+    }
+
+    // --- Validação de um lote ---
+
+    /**
+     * Valida as linhas em {@code chunk[from, to)}. Linhas em branco são contadas, mas não geram resultado.
+     */
+    Batch<T> validateBatch(ByteBuffer chunk, long chunkOffset, int from, int to) {
+        Batch<T> batch = new Batch<>();
+        int lineStart = from;
+        while (lineStart < to) {
+            int newline = indexOf(chunk, lineStart, to, (byte) '\n');
+            int lineEnd = newline < 0 ? to : newline;
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && chunk.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+
+            if (!isBlank(chunk, lineStart, contentEnd)) {
+                long offset = chunkOffset + lineStart;
+                int length = contentEnd - lineStart;
+                JsonReader reader = JsonReader.of(chunk, lineStart, length);
+                try {
+                    ParseResult<T> result = plan.parseJson(reader);
+                    if (result.isSuccess()) reader.endDocument();
+                    batch.add(batch.lineCount, offset, length, -1, result);
+                } catch (JsonParseException e) {
+                    batch.add(batch.lineCount, offset, length, offset + e.getPosition(),
+                            ParseResult.invalid(Issue.of(IssueCode.INVALID_JSON, e.getMessage())));
+                }
+            }
+
+            batch.lineCount++;
+            lineStart = lineEnd + 1;
+        }
+        return batch;
+    }
+
+    static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resultados de um lote; o número da linha só é definido na entrega, quando os lotes anteriores já foram contados.
+     */
+    static final class Batch<T> {
+        int lineCount;
+        int size;
+        int[] lineIndexes = new int[16];
+        long[] offsets = new long[16];
+        int[] lengths = new int[16];
+        long[] errorOffsets = new long[16];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ParseResult<T>[] results = new ParseResult[16];
+
+        void add(int lineIndex, long offset, int length, long errorOffset, ParseResult<T> result) {
+            if (size == results.length) {
+                int capacity = size * 2;
+                lineIndexes = Arrays.copyOf(lineIndexes, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                errorOffsets = Arrays.copyOf(errorOffsets, capacity);
+                results = Arrays.copyOf(results, capacity);
+            }
+            lineIndexes[size] = lineIndex;
+            offsets[size] = offset;
+            lengths[size] = length;
+            errorOffsets[size] = errorOffset;
+            results[size] = result;
+            size++;
+        }
+
+        NdjsonLine<T> line(int i, long firstLineNumber) {
+            return new NdjsonLine<>(firstLineNumber + lineIndexes[i], offsets[i], lengths[i], errorOffsets[i], results[i]);
+        }
+    }
+}
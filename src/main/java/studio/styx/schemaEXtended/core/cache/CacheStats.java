@@ -0,0 +1,17 @@
+package studio.styx.schemaEXtended.core.cache;
+
+/**
+ * Números de um {@link MemoCache} no momento da leitura.
+ *
+ * @param rejected entradas novas que não foram guardadas por serem menos frequentes que a que sairia
+ */
+public record CacheStats(long hits, long misses, long evictions, long rejected, int size, int capacity) {
+
+    /**
+     * Fração das consultas atendidas pelo cache (0 se ainda não houve consulta).
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,38 @@
+package studio.styx.schemaEXtended.core.cache;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resultados válidos só durante uma validação (ex: os elementos de um array): elementos iguais são
+ * validados uma vez. Não é thread-safe; cada chamada (ou fatia, no modo paralelo) cria o seu.
+ */
+public final class DedupeScope<T> {
+    // Acima disso o array tem elementos demais diferentes para compensar: só consulta
+    private static final int MAX_DISTINCT = 4096;
+
+    private final CompiledSchema<T> schema;
+    private Map<Object, ParseResult<T>> seen;
+
+    public DedupeScope(CompiledSchema<T> schema) {
+        this.schema = schema;
+    }
+
+    public ParseResult<T> parse(Object value) {
+        if (value == null || !MemoizedSchema.isCacheable(value)) {
+            return schema.parse(value);
+        }
+        if (seen == null) {
+            seen = new HashMap<>();
+        }
+        ParseResult<T> result = seen.get(value);
+        if (result == null) {
+            result = schema.parse(value);
+            if (seen.size() < MAX_DISTINCT) seen.put(value, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+package studio.styx.schemaEXtended.core.cache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache limitado e concorrente com admissão por frequência (TinyLFU).
+ * <p>
+ * As entradas ficam numa tabela associativa de 4 vias: cada chave só pode ocupar as 4 posições do seu
+ * conjunto. Com o conjunto cheio, a chave nova só entra se o {@link FrequencySketch} a estimar mais frequente
+ * que a menos frequente das 4, que então sai. Assim valores vistos uma única vez (ex: ids) não expulsam os
+ * repetidos (ex: códigos de país). Leitura e escrita não usam lock; numa corrida uma escrita pode se perder,
+ * o que num cache só custa uma validação a mais.
+ */
+public final class MemoCache<V> {
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry<V>> table;
+    private final int setMask;
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param maximumSize arredondado para cima até uma potência de 2 (mínimo 4)
+     */
+    public MemoCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be >= 1");
+        }
+        int needed = (maximumSize + WAYS - 1) / WAYS;
+        int sets = needed <= 1 ? 1 : Integer.highestOneBit((needed - 1) << 1);
+        this.table = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.sketch = new FrequencySketch(sets * WAYS);
+    }
+
+    /**
+     * Valor guardado para a chave, ou null. Conta a consulta para a frequência da chave.
+     */
+    public V get(Object key) {
+        int hash = spread(key.hashCode());
+        sketch.increment(hash);
+        int base = (hash & setMask) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            Entry<V> entry = table.get(base + i);
+            if (entry != null && entry.hash == hash && entry.key.equals(key)) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Guarda o valor se houver espaço no conjunto da chave ou se ela for mais frequente que a que sairia.
+     */
+    public void put(Object key, V value) {
+        int hash = spread(key.hashCode());
+        int base = (hash & setMask) * WAYS;
+        Entry<V> candidate = new Entry<>(key, hash, value);
+
+        int victim = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int i = 0; i < WAYS; i++) {
+            Entry<V> entry = table.get(base + i);
+            if (entry == null) {
+                if (table.compareAndSet(base + i, null, candidate)) return;
+                continue;
+            }
+            if (entry.hash == hash && entry.key.equals(key)) return; // outra thread já guardou
+            int frequency = sketch.frequency(entry.hash);
+            if (frequency < victimFrequency) {
+                victim = i;
+                victimFrequency = frequency;
+            }
+        }
+
+        if (victim >= 0 && sketch.frequency(hash) > victimFrequency) {
+            table.set(base + victim, candidate);
+            evictions.increment();
+        } else {
+            rejected.increment();
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+
+    /**
+     * Contadores acumulados; {@code size} percorre a tabela.
+     */
+    public CacheStats stats() {
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) size++;
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), rejected.sum(), size, table.length());
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private record Entry<V>(Object key, int hash, V value) {}
+}
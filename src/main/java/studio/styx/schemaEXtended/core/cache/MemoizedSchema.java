@@ -0,0 +1,130 @@
+package studio.styx.schemaEXtended.core.cache;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plano que guarda o {@link ParseResult} das entradas imutáveis num {@link MemoCache}. Criado por
+ * {@code Schema.compile()} quando o schema tem {@code memoize(...)}; cada plano compilado tem o seu cache,
+ * então mudar a configuração nunca devolve resultados da configuração antiga.
+ * <p>
+ * O mesmo resultado vai para todos os chamadores, então só entra no cache com o valor congelado:
+ * listas (inclusive dentro de objetos) viram imutáveis e valores mutáveis de outros tipos não são guardados.
+ */
+public final class MemoizedSchema<T> implements CompiledSchema<T> {
+    private final CompiledSchema<T> plan;
+    private final MemoCache<ParseResult<T>> cache;
+
+    public MemoizedSchema(CompiledSchema<T> plan, int maximumSize) {
+        this.plan = plan;
+        this.cache = new MemoCache<>(maximumSize);
+    }
+
+    /**
+     * Entradas que podem virar chave de cache: String e os wrappers/números imutáveis do JDK.
+     */
+    public static boolean isCacheable(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Double || value instanceof Character
+                || value instanceof Short || value instanceof Byte || value instanceof Float
+                || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    @Override
+    public ParseResult<T> parse(Object value) {
+        if (value == null || !isCacheable(value)) {
+            return plan.parse(value);
+        }
+        ParseResult<T> result = cache.get(value);
+        if (result == null) {
+            result = plan.parse(value);
+            if (!result.isSuccess() || isShareable(result.getValue())) {
+                result = frozen(result);
+                cache.put(value, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Valores que podem ser devolvidos a vários chamadores: imutáveis, ou listas e resultados de objeto
+     * feitos só deles (congelados por {@link #freeze} antes de entrar no cache). Outros valores
+     * (arrays primitivos, Maps, POJOs) não são guardados.
+     */
+    private static boolean isShareable(Object value) {
+        if (value == null || isCacheable(value)) {
+            return true;
+        }
+        if (value instanceof List<?> list) {
+            for (Object element : list) {
+                if (!isShareable(element)) return false;
+            }
+            return true;
+        }
+        if (value instanceof ObjectSchemaResult object) {
+            for (Object field : object.asMap().values()) {
+                if (!isShareable(field)) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ParseResult<T> frozen(ParseResult<T> result) {
+        if (!result.isSuccess()) {
+            return result;
+        }
+        Object value = result.getValue();
+        Object frozen = freeze(value);
+        return frozen == value ? result : ParseResult.success((T) frozen);
+    }
+
+    // Listas viram cópias imutáveis (aceitam null, ao contrário de List.copyOf); o resto já é imutável
+    private static Object freeze(Object value) {
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(freeze(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof ObjectSchemaResult object) {
+            return object.mapValues(MemoizedSchema::freeze);
+        }
+        return value;
+    }
+
+    @Override
+    public ParseResult<T> parseJson(JsonReader reader) {
+        return plan.parseJson(reader);
+    }
+
+    @Override
+    public CompiledSchema<T> unwrap() {
+        return plan.unwrap();
+    }
+
+    /**
+     * O plano embrulhado (sem a memoização, mas ainda com as métricas, se houver).
+     */
+    public CompiledSchema<T> delegate() {
+        return plan;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
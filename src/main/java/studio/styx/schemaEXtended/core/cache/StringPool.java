@@ -0,0 +1,63 @@
+package studio.styx.schemaEXtended.core.cache;
+
+/**
+ * Pool limitado e concorrente de Strings: devolve sempre a mesma instância para textos iguais.
+ * <p>
+ * Cada {@code trim()}, {@code toLowerCase()} ou valor lido de JSON/"chave=valor" cria uma String nova; em
+ * lotes grandes com poucos valores distintos (status, países, moedas) isso vira milhões de cópias iguais.
+ * Ao contrário de {@link String#intern()}, o pool tem tamanho fixo e usa a admissão do {@link MemoCache}:
+ * textos vistos uma única vez não expulsam os repetidos. Textos maiores que {@link #MAX_LENGTH} não entram.
+ */
+public final class StringPool {
+    /**
+     * Tamanho máximo de um texto guardado; textos longos quase nunca se repetem.
+     */
+    public static final int MAX_LENGTH = 128;
+
+    private static final int SHARED_SIZE = 16_384;
+
+    private final MemoCache<String> cache;
+
+    public StringPool(int maximumSize) {
+        this.cache = new MemoCache<>(maximumSize);
+    }
+
+    /**
+     * Pool usado por {@code StringSchema.intern()} sem argumento, compartilhado por todos os schemas.
+     */
+    public static StringPool shared() {
+        return Shared.POOL;
+    }
+
+    /**
+     * A instância já guardada igual a {@code value}, ou o próprio {@code value} (que passa a ser guardado
+     * se houver espaço ou se for mais frequente que o texto que sairia).
+     */
+    public String canonical(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        String pooled = cache.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        cache.put(value, value);
+        return value;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * {@code hits} são as cópias evitadas; {@code size} é o número de textos guardados.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Criado só no primeiro uso de intern()
+    private static final class Shared {
+        static final StringPool POOL = new StringPool(SHARED_SIZE);
+    }
+}
@@ -0,0 +1,17 @@
+package studio.styx.schemaEXtended.core.exceptions;
+
+/**
+ * Lançada pelo {@link studio.styx.schemaEXtended.core.json.JsonReader} quando a entrada não é JSON válido.
+ */
+public class JsonParseException extends IllegalArgumentException {
+    private final int position;
+
+    public JsonParseException(String message, int position) {
+        super(message + " at position " + position);
+        this.position = position;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
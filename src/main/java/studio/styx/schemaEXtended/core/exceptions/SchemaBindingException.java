@@ -0,0 +1,23 @@
+package studio.styx.schemaEXtended.core.exceptions;
+
+/**
+ * Lançada quando um valor validado não pode ser escrito na propriedade de destino
+ * (record/POJO) durante um {@code parseInto}.
+ */
+public class SchemaBindingException extends IllegalArgumentException {
+    private final String property;
+
+    public SchemaBindingException(String property, String message) {
+        super(message);
+        this.property = property;
+    }
+
+    public SchemaBindingException(String property, String message, Throwable cause) {
+        super(message, cause);
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
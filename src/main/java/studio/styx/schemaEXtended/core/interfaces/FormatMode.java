@@ -0,0 +1,8 @@
+package studio.styx.schemaEXtended.core.interfaces;
+
+public enum FormatMode {
+    /** Segue a gramática documentada do formato (RFCs / E.164). */
+    STRICT,
+    /** Aceita o mesmo que as validações originais, mais permissivas. */
+    LENIENT,
+}
\ No newline at end of file
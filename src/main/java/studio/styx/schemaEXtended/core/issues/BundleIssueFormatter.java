@@ -0,0 +1,39 @@
+package studio.styx.schemaEXtended.core.issues;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Formatter padrão: mensagens configuradas no schema têm prioridade; o resto vem do {@link ResourceBundle},
+ * pela {@link IssueCode#key()} do código.
+ */
+public final class BundleIssueFormatter implements IssueFormatter {
+    public static final String BUNDLE = "studio.styx.schemaEXtended.messages";
+
+    // Sem fallback para o idioma da JVM: um locale sem tradução cai direto no bundle base (inglês)
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final ResourceBundle bundle;
+
+    public BundleIssueFormatter(Locale locale) {
+        this(ResourceBundle.getBundle(BUNDLE, locale, BundleIssueFormatter.class.getClassLoader(), CONTROL));
+    }
+
+    /**
+     * Usa um bundle próprio; chaves ausentes caem no nome do código.
+     */
+    public BundleIssueFormatter(ResourceBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    @Override
+    public String format(Issue issue) {
+        String template = issue.getMessageTemplate();
+        if (template == null) {
+            String key = issue.getCode().key();
+            template = bundle.containsKey(key) ? bundle.getString(key) : issue.getCode().name();
+        }
+        return issue.render(template, this);
+    }
+}
@@ -0,0 +1,152 @@
+package studio.styx.schemaEXtended.core.issues;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Um erro de validação: código, parâmetros e (opcionalmente) a mensagem configurada no schema.
+ * <p>
+ * Criar um issue não monta texto nenhum: a mensagem só é formatada em {@link #getMessage()}, pelo
+ * {@link IssueFormatter} atual. Issues sem parâmetros variáveis (ex: erro de tipo) são criados uma vez
+ * na compilação do schema e reaproveitados.
+ */
+public final class Issue {
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    private final IssueCode code;
+    private final String message;
+    private final Object[] params;
+    private final List<Issue> causes;
+
+    private Issue(IssueCode code, String message, Object[] params, List<Issue> causes) {
+        this.code = code;
+        this.message = message;
+        this.params = params;
+        this.causes = causes;
+    }
+
+    /**
+     * Issue com a mensagem padrão do código. Os parâmetros seguem a ordem de {@link IssueCode#params()}.
+     */
+    public static Issue of(IssueCode code, Object... params) {
+        return new Issue(code, null, params.length == 0 ? NO_PARAMS : params, List.of());
+    }
+
+    /**
+     * Issue com mensagem própria; null usa a mensagem padrão. A mensagem também aceita os {@code {parâmetros}} do código.
+     */
+    public static Issue withMessage(IssueCode code, String message, Object... params) {
+        return new Issue(code, message, params.length == 0 ? NO_PARAMS : params, List.of());
+    }
+
+    /**
+     * Mensagem livre, sem código ({@link IssueCode#CUSTOM}).
+     */
+    public static Issue custom(String message) {
+        return new Issue(IssueCode.CUSTOM, message, NO_PARAMS, List.of());
+    }
+
+    /**
+     * Agrupa os erros de um elemento de array ({@link IssueCode#INVALID_ELEMENT}). A lista não é copiada.
+     */
+    public static Issue element(int index, List<Issue> causes) {
+        return new Issue(IssueCode.INVALID_ELEMENT, null, new Object[]{index}, causes);
+    }
+
+    /**
+     * Agrupa os erros de uma propriedade de objeto ({@link IssueCode#INVALID_FIELD}). A lista não é copiada.
+     */
+    public static Issue field(String name, List<Issue> causes) {
+        return new Issue(IssueCode.INVALID_FIELD, null, new Object[]{name}, causes);
+    }
+
+    public IssueCode getCode() {
+        return code;
+    }
+
+    /**
+     * Mensagem configurada no schema, ainda sem os parâmetros; null quando vale a mensagem padrão do código.
+     */
+    public String getMessageTemplate() {
+        return message;
+    }
+
+    public List<Object> getParams() {
+        return Collections.unmodifiableList(Arrays.asList(params));
+    }
+
+    /**
+     * Valor do parâmetro pelo nome (ex: {@code "min"}), ou null se o código não tiver esse parâmetro.
+     */
+    public Object getParam(String name) {
+        int index = code.indexOf(name);
+        return index >= 0 && index < params.length ? params[index] : null;
+    }
+
+    /**
+     * Trecho do caminho que este issue acrescenta: o índice de um {@link IssueCode#INVALID_ELEMENT} ou o nome de
+     * um {@link IssueCode#INVALID_FIELD}; null para os demais.
+     */
+    public Object getSegment() {
+        return code == IssueCode.INVALID_ELEMENT || code == IssueCode.INVALID_FIELD ? params[0] : null;
+    }
+
+    /**
+     * Erros agrupados por este issue (ex: os erros de um elemento); vazio para os demais.
+     */
+    public List<Issue> getCauses() {
+        return causes;
+    }
+
+    /**
+     * Mensagem formatada pelo {@link Issues#formatter()} atual.
+     */
+    public String getMessage() {
+        return Issues.formatter().format(this);
+    }
+
+    public String getMessage(IssueFormatter formatter) {
+        return formatter.format(this);
+    }
+
+    /**
+     * Substitui os {@code {parâmetros}} do template pelos valores deste issue. {@code {causes}} vira as mensagens
+     * dos erros agrupados, separadas por vírgula. Placeholders desconhecidos ficam como estão.
+     */
+    public String render(String template, IssueFormatter formatter) {
+        int open = template.indexOf('{');
+        if (open < 0) return template;
+
+        StringBuilder sb = new StringBuilder(template.length() + 16);
+        int last = 0;
+        while (open >= 0) {
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) break;
+
+            String name = template.substring(open + 1, close);
+            sb.append(template, last, open);
+            if (name.equals("causes")) {
+                for (int i = 0; i < causes.size(); i++) {
+                    if (i > 0) sb.append(", ");
+                    sb.append(formatter.format(causes.get(i)));
+                }
+            } else {
+                int index = code.indexOf(name);
+                if (index >= 0 && index < params.length) {
+                    sb.append(params[index]);
+                } else {
+                    sb.append(template, open, close + 1);
+                }
+            }
+            last = close + 1;
+            open = template.indexOf('{', last);
+        }
+        return sb.append(template, last, template.length()).toString();
+    }
+
+    @Override
+    public String toString() {
+        return code + ": " + getMessage();
+    }
+}
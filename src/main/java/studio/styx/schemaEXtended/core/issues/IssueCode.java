@@ -0,0 +1,92 @@
+package studio.styx.schemaEXtended.core.issues;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Código de cada tipo de erro. A mensagem padrão fica no bundle {@code studio.styx.schemaEXtended.messages},
+ * na chave {@link #key()}; os parâmetros do erro são referenciados no texto pelo nome (ex: {@code {min}}).
+ */
+public enum IssueCode {
+    /** Mensagem livre, sem código específico (ex: {@code ParseResult.failure(List<String>)}). */
+    CUSTOM,
+    REQUIRED,
+    INVALID_VALUE,
+
+    // Tipo
+    NOT_STRING,
+    NOT_NUMBER,
+    NOT_BOOLEAN,
+    NOT_ARRAY,
+    NOT_OBJECT,
+
+    // Strings
+    STRING_TOO_SHORT("min"),
+    STRING_TOO_LONG("max"),
+    STRING_LENGTH("length"),
+    STRING_EMPTY,
+    INVALID_EMAIL,
+    INVALID_PHONE,
+    INVALID_URL,
+    PATTERN_MISMATCH("pattern"),
+
+    // Números
+    TOO_SMALL("min"),
+    TOO_BIG("max"),
+    NUMBER_TYPE("type"),
+    TOO_MANY_DECIMALS("scale"),
+    TOO_MANY_DIGITS("precision"),
+    NOT_FINITE,
+
+    // Arrays
+    ARRAY_TOO_SHORT("min"),
+    ARRAY_TOO_LONG("max"),
+    ARRAY_LENGTH("length"),
+    ARRAY_EMPTY,
+    INVALID_ELEMENTS,
+    /** Agrupa os erros de um elemento; as mensagens dos erros agrupados entram em {@code {causes}}. */
+    INVALID_ELEMENT("index"),
+    NOT_ASCENDING,
+    NOT_STRICTLY_ASCENDING,
+    NOT_DESCENDING,
+    NOT_STRICTLY_DESCENDING,
+    ELEMENT_OUT_OF_ORDER("index", "previous"),
+    NOT_UNIQUE,
+    DUPLICATE_ELEMENT("index", "first"),
+
+    // Objetos
+    /** Agrupa os erros de uma propriedade; as mensagens dos erros agrupados entram em {@code {causes}}. */
+    INVALID_FIELD("field"),
+    UNKNOWN_PROPERTY,
+
+    // Lote/entrada
+    INVALID_JSON("detail"),
+    UNBOUND,
+    TIMEOUT;
+
+    private final String key;
+    private final List<String> params;
+
+    IssueCode(String... params) {
+        this.key = name().toLowerCase(Locale.ROOT);
+        this.params = List.of(params);
+    }
+
+    /**
+     * Chave da mensagem no bundle (o nome em minúsculas, ex: {@code array_too_short}).
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Nomes dos parâmetros, na ordem em que são guardados no {@link Issue}.
+     */
+    public List<String> params() {
+        return params;
+    }
+
+    int indexOf(String param) {
+        return params.indexOf(param);
+    }
+}
@@ -0,0 +1,19 @@
+package studio.styx.schemaEXtended.core.issues;
+
+import java.util.Locale;
+
+/**
+ * Transforma um {@link Issue} em texto. Chamado só quando alguém lê a mensagem
+ * ({@code ParseResult.getErrors()}, {@link Issue#getMessage()}), nunca durante a validação.
+ */
+@FunctionalInterface
+public interface IssueFormatter {
+    String format(Issue issue);
+
+    /**
+     * Formatter com as mensagens padrão do idioma (bundle {@code studio.styx.schemaEXtended.messages}).
+     */
+    static IssueFormatter forLocale(Locale locale) {
+        return new BundleIssueFormatter(locale);
+    }
+}
@@ -0,0 +1,89 @@
+package studio.styx.schemaEXtended.core.issues;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configuração global das mensagens e agregação de issues por código.
+ */
+public final class Issues {
+    private static volatile IssueFormatter formatter = new BundleIssueFormatter(Locale.ROOT);
+
+    private Issues() {}
+
+    public static IssueFormatter formatter() {
+        return formatter;
+    }
+
+    /**
+     * Troca o formatter usado por {@code ParseResult.getErrors()} e {@link Issue#getMessage()}.
+     */
+    public static void setFormatter(IssueFormatter formatter) {
+        if (formatter == null) {
+            throw new IllegalArgumentException("formatter cannot be null");
+        }
+        Issues.formatter = formatter;
+    }
+
+    /**
+     * Atalho para {@code setFormatter(IssueFormatter.forLocale(locale))}.
+     */
+    public static void setLocale(Locale locale) {
+        setFormatter(IssueFormatter.forLocale(locale));
+    }
+
+    /**
+     * Erros de fato (as folhas da árvore) agrupados pelo caminho em JSON Pointer (RFC 6901), ex:
+     * {@code /orders/3/price}. Erros do próprio valor ficam no caminho {@code ""}. O caminho é montado aqui,
+     * a partir dos issues que agrupam elementos e propriedades; a validação não acompanha caminho nenhum.
+     */
+    public static Map<String, List<Issue>> byPath(List<Issue> issues) {
+        Map<String, List<Issue>> paths = new LinkedHashMap<>();
+        addPaths(issues, "", paths);
+        return paths;
+    }
+
+    private static void addPaths(List<Issue> issues, String path, Map<String, List<Issue>> paths) {
+        for (Issue issue : issues) {
+            Object segment = issue.getSegment();
+            if (segment != null && !issue.getCauses().isEmpty()) {
+                addPaths(issue.getCauses(), path + "/" + escape(String.valueOf(segment)), paths);
+            } else {
+                paths.computeIfAbsent(path, key -> new ArrayList<>()).add(issue);
+            }
+        }
+    }
+
+    // RFC 6901: "~" vira "~0" e "/" vira "~1"
+    private static String escape(String segment) {
+        if (segment.indexOf('~') < 0 && segment.indexOf('/') < 0) return segment;
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Conta os erros de fato (as folhas): issues que só agrupam outros, como {@link IssueCode#INVALID_ELEMENT},
+     * são abertos e não contam. Não formata nenhuma mensagem.
+     */
+    public static Map<IssueCode, Integer> countByCode(List<Issue> issues) {
+        Map<IssueCode, Integer> counts = new EnumMap<>(IssueCode.class);
+        addCounts(issues, counts);
+        return counts;
+    }
+
+    /**
+     * Igual a {@link #countByCode(List)}, somando em {@code counts} (ex: para agregar as rejeições de um lote).
+     */
+    public static void addCounts(List<Issue> issues, Map<IssueCode, Integer> counts) {
+        for (Issue issue : issues) {
+            if (issue.getCauses().isEmpty()) {
+                counts.merge(issue.getCode(), 1, Integer::sum);
+            } else {
+                addCounts(issue.getCauses(), counts);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package studio.styx.schemaEXtended.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("studio.styx.schemaEXtended.ArrayValidation")
+@Label("Array Validation")
+@Category({"Schema eXtended", "Validation"})
+@Description("Validação de um ArraySchema (lista, array, texto ou JSON)")
+@Threshold("10 ms")
+public final class ArrayValidationEvent extends ValidationEvent {
+}
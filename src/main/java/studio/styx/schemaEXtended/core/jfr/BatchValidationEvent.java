@@ -0,0 +1,30 @@
+package studio.styx.schemaEXtended.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Uma validação de lote inteira; {@code elements} é o número de entradas e {@code failures} o de entradas rejeitadas.
+ */
+@Name("studio.styx.schemaEXtended.BatchValidation")
+@Label("Batch Validation")
+@Category({"Schema eXtended", "Validation"})
+@Description("Validação de um BatchValidator")
+@Threshold("20 ms")
+public final class BatchValidationEvent extends ValidationEvent {
+    @Label("Mode")
+    @Description("bound, values ou concurrent")
+    private String mode;
+
+    public void set(String schema, String mode, int entries, int rejected) {
+        this.schema = schema;
+        this.mode = mode;
+        this.inputSize = -1;
+        this.elements = entries;
+        this.failures = rejected;
+        this.success = rejected == 0;
+    }
+}
@@ -0,0 +1,53 @@
+package studio.styx.schemaEXtended.core.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.issues.Issue;
+
+import java.util.List;
+
+/**
+ * Campos comuns dos eventos de validação. Os campos só são preenchidos (e os erros contados) depois de
+ * {@link #shouldCommit()}: com o evento desligado, ou abaixo do threshold, a validação não paga nada além
+ * do {@code begin()/end()}, que o JIT elimina quando o evento está desligado.
+ */
+public abstract class ValidationEvent extends Event {
+    @Label("Schema")
+    @Description("Nome do schema (Schema.name) ou a classe, se não tiver nome")
+    protected String schema;
+
+    @Label("Input Size")
+    @Description("Tamanho da entrada: caracteres do texto ou bytes do JSON; -1 se não se aplica")
+    @DataAmount(DataAmount.BYTES)
+    protected long inputSize;
+
+    @Label("Elements")
+    @Description("Elementos do array ou chaves do Map validados; -1 se não se sabe")
+    protected long elements;
+
+    @Label("Failures")
+    @Description("Erros de fato (as folhas da árvore de issues)")
+    protected int failures;
+
+    @Label("Success")
+    protected boolean success;
+
+    public void set(String schema, long inputSize, long elements, ParseResult<?> result) {
+        this.schema = schema;
+        this.inputSize = inputSize;
+        this.elements = elements;
+        this.success = result.isSuccess();
+        this.failures = result.isSuccess() ? 0 : countLeaves(result.getIssues());
+    }
+
+    static int countLeaves(List<Issue> issues) {
+        int count = 0;
+        for (Issue issue : issues) {
+            count += issue.getCauses().isEmpty() ? 1 : countLeaves(issue.getCauses());
+        }
+        return count;
+    }
+}
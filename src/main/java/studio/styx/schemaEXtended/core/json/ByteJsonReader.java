@@ -0,0 +1,131 @@
+package studio.styx.schemaEXtended.core.json;
+
+import studio.styx.schemaEXtended.core.ObjectShape;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link JsonReader} sobre bytes UTF-8 (array ou {@link ByteBuffer} direct). O UTF-8 das strings é validado
+ * durante a leitura, chaves são comparadas em bytes com a {@link ObjectShape} e só viram String
+ * os valores que o schema realmente materializa.
+ */
+final class ByteJsonReader extends JsonReader {
+    // Exatamente um dos dois é usado: array (heap) ou buffer (acesso absoluto, não altera a posição)
+    private final byte[] array;
+    private final ByteBuffer buffer;
+
+    ByteJsonReader(byte[] array, ByteBuffer buffer, int start, int limit) {
+        super(start, limit);
+        this.array = array;
+        this.buffer = buffer;
+    }
+
+    @Override
+    protected int at(int index) {
+        return (array != null ? array[index] : buffer.get(index)) & 0xFF;
+    }
+
+    @Override
+    protected int sequenceEnd(int index) {
+        int lead = at(index);
+        int length;
+        int min;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+            min = 0x80;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            min = 0x800;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            min = 0x10000;
+        } else {
+            pos = index;
+            throw error("Invalid UTF-8 sequence");
+        }
+
+        if (index + length > limit) {
+            pos = index;
+            throw error("Truncated UTF-8 sequence");
+        }
+
+        int codePoint = lead & (0xFF >> (length + 1));
+        for (int k = 1; k < length; k++) {
+            int b = at(index + k);
+            if ((b & 0xC0) != 0x80) {
+                pos = index;
+                throw error("Invalid UTF-8 sequence");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+
+        // Rejeita formas longas demais, surrogates codificados e valores acima de U+10FFFF
+        if (codePoint < min || (codePoint >= 0xD800 && codePoint <= 0xDFFF) || codePoint > 0x10FFFF) {
+            pos = index;
+            throw error("Invalid UTF-8 sequence");
+        }
+        return index + length;
+    }
+
+    @Override
+    protected String decode(int start, int end, boolean escaped) {
+        if (!escaped) {
+            if (array != null) {
+                return new String(array, start, end - start, StandardCharsets.UTF_8);
+            }
+            byte[] copy = new byte[end - start];
+            buffer.get(start, copy);
+            return new String(copy, StandardCharsets.UTF_8);
+        }
+
+        // Com escapes: UTF-8 já validado no scan, decodificado junto com os escapes
+        StringBuilder sb = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            int c = at(i);
+            if (c == '\\') {
+                int e = at(i + 1);
+                if (e == 'u') {
+                    int code = 0;
+                    for (int k = 2; k <= 5; k++) {
+                        code = (code << 4) | hexValue(at(i + k));
+                    }
+                    sb.append((char) code);
+                    i += 6;
+                } else {
+                    sb.append(unescapeSimple(e));
+                    i += 2;
+                }
+            } else if (c < 0x80) {
+                sb.append((char) c);
+                i++;
+            } else {
+                int length = c >= 0xF0 ? 4 : c >= 0xE0 ? 3 : 2;
+                int codePoint = c & (0xFF >> (length + 1));
+                for (int k = 1; k < length; k++) {
+                    codePoint = (codePoint << 6) | (at(i + k) & 0x3F);
+                }
+                sb.appendCodePoint(codePoint);
+                i += length;
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected int matchKey(ObjectShape shape, int start, int end, int hash) {
+        return array != null
+                ? shape.indexOfUtf8(array, start, end, hash)
+                : shape.indexOfUtf8(buffer, start, end, hash);
+    }
+
+    @Override
+    protected String ascii(int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) at(start + i);
+        }
+        return new String(chars);
+    }
+}
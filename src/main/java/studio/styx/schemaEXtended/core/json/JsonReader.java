@@ -0,0 +1,519 @@
+package studio.styx.schemaEXtended.core.json;
+
+import studio.styx.schemaEXtended.core.ObjectShape;
+import studio.styx.schemaEXtended.core.exceptions.JsonParseException;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Leitor JSON pull de passada única, sem dependências. Os schemas compilados validam enquanto leem
+ * (ver {@link studio.styx.schemaEXtended.core.CompiledSchema#parseJson(JsonReader)}): chaves são comparadas
+ * direto com a {@link ObjectShape} e valores de chaves desconhecidas são pulados sem serem materializados.
+ * <p>
+ * Uma instância lê um único documento e não é thread-safe. Erros de sintaxe lançam {@link JsonParseException}.
+ */
+public abstract class JsonReader {
+    private static final int MAX_DEPTH = 512;
+
+    protected final int start;
+    protected final int limit;
+    protected int pos;
+
+    // Um nível por objeto/array aberto: true depois do primeiro elemento (o próximo exige vírgula)
+    private boolean[] afterElement = new boolean[16];
+    private int depth;
+    private boolean elementReady;
+
+    // Última string/chave lida (conteúdo entre as aspas)
+    private int stringStart;
+    private int stringEnd;
+    private boolean stringEscaped;
+    private int stringHash;
+
+    // Último número lido
+    private int numberStart;
+    private boolean numberIntegral;
+    private int numberDigits;
+    private long numberValue;
+
+    protected JsonReader(int start, int limit) {
+        this.start = start;
+        this.pos = start;
+        this.limit = limit;
+    }
+
+    public static JsonReader of(String json) {
+        return new StringJsonReader(json);
+    }
+
+    /**
+     * Lê JSON em UTF-8 direto dos bytes, sem decodificar o documento inteiro.
+     */
+    public static JsonReader of(byte[] utf8, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return new ByteJsonReader(utf8, null, offset, offset + length);
+    }
+
+    /**
+     * Lê os bytes entre {@code position} e {@code limit} (heap ou direct) sem alterar a posição do buffer.
+     */
+    public static JsonReader of(ByteBuffer utf8) {
+        if (utf8.hasArray()) {
+            int offset = utf8.arrayOffset();
+            return new ByteJsonReader(utf8.array(), null, offset + utf8.position(), offset + utf8.limit());
+        }
+        return new ByteJsonReader(null, utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Lê {@code length} bytes a partir do índice absoluto {@code offset}, ignorando position/limit do buffer
+     * (útil para fatiar um buffer mapeado sem criar views).
+     */
+    public static JsonReader of(ByteBuffer utf8, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, utf8.capacity());
+        if (utf8.hasArray()) {
+            int arrayOffset = utf8.arrayOffset();
+            return new ByteJsonReader(utf8.array(), null, arrayOffset + offset, arrayOffset + offset + length);
+        }
+        return new ByteJsonReader(null, utf8, offset, offset + length);
+    }
+
+    // --- Acesso à fonte ---
+
+    /**
+     * Unidade de código na posição (char para texto), sempre com {@code index < limit}.
+     */
+    protected abstract int at(int index);
+
+    /**
+     * Conteúdo de uma string JSON, com escapes resolvidos se {@code escaped}.
+     */
+    protected abstract String decode(int start, int end, boolean escaped);
+
+    /**
+     * Slot da chave sem escapes em {@code [start, end)}, ou -1. {@code hash} é o hash polinomial
+     * (31) das unidades de código do trecho.
+     */
+    protected abstract int matchKey(ObjectShape shape, int start, int end, int hash);
+
+    /**
+     * Trecho ASCII da fonte (usado para números fora do caminho rápido).
+     */
+    protected abstract String ascii(int start, int end);
+
+    // --- Navegação ---
+
+    public JsonToken peek() {
+        skipWhitespace();
+        if (pos >= limit) return JsonToken.END_DOCUMENT;
+
+        int c = at(pos);
+        switch (c) {
+            case '{':
+                return JsonToken.BEGIN_OBJECT;
+            case '}':
+                return JsonToken.END_OBJECT;
+            case '[':
+                return JsonToken.BEGIN_ARRAY;
+            case ']':
+                return JsonToken.END_ARRAY;
+            case '"':
+                return JsonToken.STRING;
+            case 't':
+            case 'f':
+                return JsonToken.BOOLEAN;
+            case 'n':
+                return JsonToken.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) return JsonToken.NUMBER;
+                throw error("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    public void beginObject() {
+        open('{');
+    }
+
+    public void endObject() {
+        close('}');
+    }
+
+    public void beginArray() {
+        open('[');
+    }
+
+    public void endArray() {
+        close(']');
+    }
+
+    /**
+     * Indica se o objeto/array atual tem mais um elemento, consumindo a vírgula que o precede.
+     */
+    public boolean hasNext() {
+        if (elementReady) return true;
+        if (depth == 0) throw new IllegalStateException("Not inside an object or array");
+
+        skipWhitespace();
+        if (pos >= limit) throw error("Unexpected end of input");
+
+        int c = at(pos);
+        if (c == '}' || c == ']') return false;
+
+        if (afterElement[depth - 1]) {
+            if (c != ',') throw error("Expected ',' or closing bracket");
+            pos++;
+            skipWhitespace();
+            if (pos < limit && (at(pos) == '}' || at(pos) == ']')) throw error("Trailing comma");
+        }
+        afterElement[depth - 1] = true;
+        elementReady = true;
+        return true;
+    }
+
+    /**
+     * Lê a próxima chave (e o ':') e retorna seu slot na forma, ou -1 se ela não pertence à forma.
+     * A chave só vira String se tiver escapes; use {@link #lastKey()} para obtê-la.
+     */
+    public int nextKeySlot(ObjectShape shape) {
+        readKey();
+        return stringEscaped ? shape.indexOf(lastKey()) : matchKey(shape, stringStart, stringEnd, stringHash);
+    }
+
+    public String nextKey() {
+        readKey();
+        return lastKey();
+    }
+
+    public String lastKey() {
+        return decode(stringStart, stringEnd, stringEscaped);
+    }
+
+    public String nextString() {
+        begin();
+        if (pos >= limit || at(pos) != '"') throw error("Expected string");
+        scanString();
+        return decode(stringStart, stringEnd, stringEscaped);
+    }
+
+    /**
+     * Inteiros viram Integer, Long ou BigInteger (o menor que couber); decimais viram Double.
+     */
+    public Number nextNumber() {
+        begin();
+        scanNumber();
+        if (numberIntegral && numberDigits <= 18) {
+            int asInt = (int) numberValue;
+            return asInt == numberValue ? (Number) asInt : (Number) numberValue;
+        }
+
+        String text = ascii(numberStart, pos);
+        if (numberIntegral) {
+            BigInteger big = new BigInteger(text);
+            return big.bitLength() < 64 ? (Number) big.longValue() : big;
+        }
+        return Double.parseDouble(text);
+    }
+
+    /**
+     * Texto do próximo número, como está no JSON (ex: {@code "12345678901234567.89"}), para quem precisa
+     * do valor exato em vez do Double de {@link #nextNumber()}.
+     */
+    public String nextNumberText() {
+        begin();
+        scanNumber();
+        return ascii(numberStart, pos);
+    }
+
+    public boolean nextBoolean() {
+        begin();
+        if (matchLiteral("true")) return true;
+        if (matchLiteral("false")) return false;
+        throw error("Expected boolean");
+    }
+
+    public void nextNull() {
+        begin();
+        if (!matchLiteral("null")) throw error("Expected null");
+    }
+
+    /**
+     * Materializa o próximo valor: Map (LinkedHashMap), List, String, Number, Boolean ou null.
+     */
+    public Object readValue() {
+        switch (peek()) {
+            case BEGIN_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                beginObject();
+                while (hasNext()) {
+                    String key = nextKey();
+                    map.put(key, readValue());
+                }
+                endObject();
+                return map;
+            }
+            case BEGIN_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                beginArray();
+                while (hasNext()) {
+                    list.add(readValue());
+                }
+                endArray();
+                return list;
+            }
+            case STRING -> {
+                return nextString();
+            }
+            case NUMBER -> {
+                return nextNumber();
+            }
+            case BOOLEAN -> {
+                return nextBoolean();
+            }
+            case NULL -> {
+                nextNull();
+                return null;
+            }
+            default -> throw error(pos >= limit ? "Unexpected end of input" : "Unexpected token");
+        }
+    }
+
+    /**
+     * Pula o próximo valor validando a sintaxe, sem criar Strings, números ou coleções.
+     */
+    public void skipValue() {
+        switch (peek()) {
+            case BEGIN_OBJECT -> {
+                beginObject();
+                while (hasNext()) {
+                    readKey();
+                    skipValue();
+                }
+                endObject();
+            }
+            case BEGIN_ARRAY -> {
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+            }
+            case STRING -> {
+                begin();
+                scanString();
+            }
+            case NUMBER -> {
+                begin();
+                scanNumber();
+            }
+            case BOOLEAN -> nextBoolean();
+            case NULL -> nextNull();
+            default -> throw error(pos >= limit ? "Unexpected end of input" : "Unexpected token");
+        }
+    }
+
+    /**
+     * Garante que só resta espaço em branco depois do documento.
+     */
+    public void endDocument() {
+        skipWhitespace();
+        if (pos < limit) throw error("Unexpected trailing content");
+    }
+
+    /**
+     * Posição atual, relativa ao início da entrada.
+     */
+    public int position() {
+        return pos - start;
+    }
+
+    // --- Scanner ---
+
+    private void open(char c) {
+        expect(c);
+        if (depth == MAX_DEPTH) throw error("Maximum nesting depth exceeded");
+        if (depth == afterElement.length) afterElement = Arrays.copyOf(afterElement, depth * 2);
+        afterElement[depth++] = false;
+    }
+
+    private void close(char c) {
+        expect(c);
+        depth--;
+    }
+
+    private void expect(char c) {
+        begin();
+        if (pos >= limit || at(pos) != c) throw error("Expected '" + c + "'");
+        pos++;
+    }
+
+    private void begin() {
+        elementReady = false;
+        skipWhitespace();
+    }
+
+    private void readKey() {
+        begin();
+        if (pos >= limit || at(pos) != '"') throw error("Expected property name");
+        scanString();
+        expect(':');
+    }
+
+    private void skipWhitespace() {
+        while (pos < limit) {
+            int c = at(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return;
+            pos++;
+        }
+    }
+
+    /**
+     * Valida uma string a partir da aspa de abertura, guardando limites e hash do conteúdo.
+     */
+    private void scanString() {
+        int begin = ++pos;
+        int hash = 0;
+        boolean escaped = false;
+
+        while (true) {
+            if (pos >= limit) throw error("Unterminated string");
+            int c = at(pos);
+            if (c == '"') break;
+
+            if (c == '\\') {
+                escaped = true;
+                if (++pos >= limit) throw error("Unterminated string");
+                int e = at(pos);
+                if (e == 'u') {
+                    for (int k = 1; k <= 4; k++) {
+                        if (pos + k >= limit || hexValue(at(pos + k)) < 0) throw error("Invalid unicode escape");
+                    }
+                    pos += 4;
+                } else if ("\"\\/bfnrt".indexOf(e) < 0) {
+                    throw error("Invalid escape sequence");
+                }
+            } else if (c < 0x20) {
+                throw error("Unescaped control character in string");
+            } else if (c >= 0x80) {
+                // Sequência multi-unidade (UTF-8): validada pela fonte e incluída no hash
+                for (int end = sequenceEnd(pos); pos < end; pos++) {
+                    hash = 31 * hash + at(pos);
+                }
+                continue;
+            }
+            hash = 31 * hash + c;
+            pos++;
+        }
+
+        stringStart = begin;
+        stringEnd = pos++;
+        stringEscaped = escaped;
+        stringHash = hash;
+    }
+
+    /**
+     * Valida um número pela gramática JSON. Até 18 dígitos inteiros o valor já sai acumulado.
+     */
+    private void scanNumber() {
+        numberStart = pos;
+        boolean negative = false;
+        if (current() == '-') {
+            negative = true;
+            pos++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int c = current();
+        if (c == '0') {
+            pos++;
+            digits = 1;
+        } else if (c >= '1' && c <= '9') {
+            while ((c = current()) >= '0' && c <= '9') {
+                if (digits < 18) value = value * 10 + (c - '0');
+                digits++;
+                pos++;
+            }
+        } else {
+            throw error("Invalid number");
+        }
+
+        boolean integral = true;
+        if (current() == '.') {
+            integral = false;
+            pos++;
+            requireDigits();
+        }
+        c = current();
+        if (c == 'e' || c == 'E') {
+            integral = false;
+            pos++;
+            c = current();
+            if (c == '+' || c == '-') pos++;
+            requireDigits();
+        }
+
+        numberIntegral = integral;
+        numberDigits = digits;
+        numberValue = negative ? -value : value;
+    }
+
+    private void requireDigits() {
+        int c = current();
+        if (c < '0' || c > '9') throw error("Invalid number");
+        while ((c = current()) >= '0' && c <= '9') pos++;
+    }
+
+    /**
+     * Fim (exclusivo) da sequência que começa em {@code index} com uma unidade {@code >= 0x80}.
+     * Texto já é UTF-16 válido; fontes de bytes validam o UTF-8 aqui.
+     */
+    protected int sequenceEnd(int index) {
+        return index + 1;
+    }
+
+    private boolean matchLiteral(String literal) {
+        int length = literal.length();
+        if (pos + length > limit) return false;
+        for (int i = 0; i < length; i++) {
+            if (at(pos + i) != literal.charAt(i)) return false;
+        }
+        pos += length;
+        return true;
+    }
+
+    private int current() {
+        return pos < limit ? at(pos) : -1;
+    }
+
+    protected static int hexValue(int c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    /**
+     * Valor de um escape simples ({@code \n}, {@code \"}, ...). {@code \}{@code u} é tratado por quem chama.
+     */
+    protected static char unescapeSimple(int c) {
+        return switch (c) {
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            default -> (char) c;
+        };
+    }
+
+    protected JsonParseException error(String message) {
+        return new JsonParseException(message, pos - start);
+    }
+}
@@ -0,0 +1,59 @@
+package studio.styx.schemaEXtended.core.json;
+
+import studio.styx.schemaEXtended.core.ObjectShape;
+
+/**
+ * {@link JsonReader} sobre uma String: strings sem escape viram um único {@code substring}
+ * e chaves são comparadas no próprio texto.
+ */
+final class StringJsonReader extends JsonReader {
+    private final String source;
+
+    StringJsonReader(String source) {
+        super(0, source.length());
+        this.source = source;
+    }
+
+    @Override
+    protected int at(int index) {
+        return source.charAt(index);
+    }
+
+    @Override
+    protected String decode(int start, int end, boolean escaped) {
+        if (!escaped) {
+            return source.substring(start, end);
+        }
+
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char e = source.charAt(++i);
+            if (e == 'u') {
+                int code = 0;
+                for (int k = 1; k <= 4; k++) {
+                    code = (code << 4) | hexValue(source.charAt(i + k));
+                }
+                sb.append((char) code);
+                i += 4;
+            } else {
+                sb.append(unescapeSimple(e));
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected int matchKey(ObjectShape shape, int start, int end, int hash) {
+        return shape.indexOf(source, start, end, hash);
+    }
+
+    @Override
+    protected String ascii(int start, int end) {
+        return source.substring(start, end);
+    }
+}
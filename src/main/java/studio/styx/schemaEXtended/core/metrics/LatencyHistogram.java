@@ -0,0 +1,101 @@
+package studio.styx.schemaEXtended.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latência com faixas fixas em potências de 2 (o bucket {@code i} guarda durações
+ * de 2^i a 2^(i+1)-1 ns). Registrar é um {@link Long#numberOfLeadingZeros} e um incremento num
+ * {@link LongAdder}: sem locks e sem alocação, mesmo com muitas threads.
+ */
+public final class LatencyHistogram {
+    /** 2^40 ns passa de 18 minutos; durações maiores caem no último bucket. */
+    public static final int BUCKETS = 41;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) return;
+        int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos | 1));
+        buckets[bucket].increment();
+        totalNanos.add(nanos);
+    }
+
+    /**
+     * Leitura dos buckets. Com gravações em andamento cada bucket é lido de forma independente,
+     * então a soma pode diferir por poucas unidades de {@link Snapshot#count()} lido depois.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(counts, totalNanos.sum());
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long totalNanos;
+        private final long count;
+
+        Snapshot(long[] counts, long totalNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            long sum = 0;
+            for (long c : counts) sum += c;
+            this.count = sum;
+        }
+
+        /**
+         * Quantidade de validações medidas (só as amostradas).
+         */
+        public long count() {
+            return count;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Validações no bucket {@code i}, que vai de {@link #lowerBoundNanos} a {@link #upperBoundNanos}.
+         */
+        public long count(int bucket) {
+            return counts[bucket];
+        }
+
+        public static long lowerBoundNanos(int bucket) {
+            return bucket == 0 ? 0 : 1L << bucket;
+        }
+
+        public static long upperBoundNanos(int bucket) {
+            return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+        }
+
+        /**
+         * Limite superior do bucket que contém o percentil (ex: {@code 0.99}); a precisão é de um fator 2.
+         */
+        public long percentileNanos(double percentile) {
+            if (count == 0) return 0;
+            long target = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= target && counts[i] > 0) {
+                    return upperBoundNanos(i);
+                }
+            }
+            return upperBoundNanos(BUCKETS - 1);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package studio.styx.schemaEXtended.core.metrics;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.cache.MemoizedSchema;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+
+import java.util.function.Function;
+
+/**
+ * Plano que repassa para outro e registra cada validação num {@link ValidationMetrics.Recorder}.
+ * Criado por {@code Schema.compile()} quando o schema tem métricas; sem métricas o plano não é embrulhado.
+ */
+public final class MeteredSchema<T> implements CompiledSchema<T> {
+    private final CompiledSchema<T> plan;
+    private final ValidationMetrics.Recorder recorder;
+    private final boolean coerce;
+
+    private MeteredSchema(CompiledSchema<T> plan, ValidationMetrics.Recorder recorder, boolean coerce) {
+        this.plan = plan;
+        this.recorder = recorder;
+        this.coerce = coerce;
+    }
+
+    /**
+     * @param coerce se o schema faz coerção; só então as coerções são contadas
+     */
+    public static <T> CompiledSchema<T> of(CompiledSchema<T> plan, ValidationMetrics.Recorder recorder, boolean coerce) {
+        return new MeteredSchema<>(plan, recorder, coerce);
+    }
+
+    /**
+     * Mede {@code other} com o mesmo recorder de {@code original}; sem medição se {@code original} não for medido.
+     * Serve para planos derivados (ex: {@code ObjectSchema.compileInto}).
+     */
+    public static <R> CompiledSchema<R> like(CompiledSchema<?> original, CompiledSchema<R> other) {
+        CompiledSchema<?> plan = original instanceof MemoizedSchema<?> memoized ? memoized.delegate() : original;
+        return plan instanceof MeteredSchema<?> metered ? new MeteredSchema<>(other, metered.recorder, metered.coerce) : other;
+    }
+
+    @Override
+    public CompiledSchema<T> unwrap() {
+        return plan.unwrap();
+    }
+
+    @Override
+    public ParseResult<T> parse(Object value) {
+        if (!recorder.isEnabled()) {
+            return plan.parse(value);
+        }
+        boolean timed = recorder.sample();
+        long start = timed ? System.nanoTime() : 0;
+        ParseResult<T> result = plan.parse(value);
+        recorder.record(timed ? System.nanoTime() - start : -1, result, coerce && coerced(value, result));
+        return result;
+    }
+
+    @Override
+    public ParseResult<T> parseJson(JsonReader reader) {
+        if (!recorder.isEnabled()) {
+            return plan.parseJson(reader);
+        }
+        boolean timed = recorder.sample();
+        long start = timed ? System.nanoTime() : 0;
+        ParseResult<T> result = plan.parseJson(reader);
+        // O valor lido do JSON não fica disponível aqui: coerções não são contadas
+        recorder.record(timed ? System.nanoTime() - start : -1, result, false);
+        return result;
+    }
+
+    /**
+     * Mede uma validação que usa um método próprio do plano base (ex: {@code parseDocument} com bytes JSON).
+     */
+    public ParseResult<T> measure(Object input, Function<CompiledSchema<T>, ParseResult<T>> parse) {
+        if (!recorder.isEnabled()) {
+            return parse.apply(plan.unwrap());
+        }
+        boolean timed = recorder.sample();
+        long start = timed ? System.nanoTime() : 0;
+        ParseResult<T> result = parse.apply(plan.unwrap());
+        recorder.record(timed ? System.nanoTime() - start : -1, result, coerce && coerced(input, result));
+        return result;
+    }
+
+    /**
+     * Coerção = texto aceito como outro tipo (número, boolean, objeto, array) ou número aceito como boolean.
+     */
+    static boolean coerced(Object input, ParseResult<?> result) {
+        Object value = result.getValue();
+        if (!result.isSuccess() || value == null) return false;
+        if (input instanceof CharSequence) return !(value instanceof CharSequence);
+        return input instanceof Number && value instanceof Boolean;
+    }
+}
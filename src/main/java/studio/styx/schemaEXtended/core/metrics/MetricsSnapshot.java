@@ -0,0 +1,24 @@
+package studio.styx.schemaEXtended.core.metrics;
+
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.util.Map;
+
+/**
+ * Números de um schema (ou de uma propriedade dele) no momento do {@link SchemaMetrics#snapshot()}.
+ *
+ * @param property        null para o schema inteiro
+ * @param failuresByCode  erros de fato (as folhas da árvore de issues) por código; uma validação que falha
+ *                        em duas regras conta nas duas
+ * @param latency         só as validações amostradas
+ */
+public record MetricsSnapshot(String schema, String property, long parses, long failures, long coercions,
+                              Map<IssueCode, Long> failuresByCode, LatencyHistogram.Snapshot latency) {
+
+    /**
+     * {@code schema} ou {@code schema.property}.
+     */
+    public String name() {
+        return property == null ? schema : schema + "." + property;
+    }
+}
@@ -0,0 +1,155 @@
+package studio.styx.schemaEXtended.core.metrics;
+
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ValidationMetrics} em memória: contadores em {@link LongAdder} e um {@link LatencyHistogram} por
+ * schema/propriedade. Uma instância pode ser compartilhada por vários schemas e threads.
+ *
+ * <pre>{@code
+ * SchemaMetrics metrics = new SchemaMetrics().sampleOneIn(16);
+ * ObjectSchema user = new ObjectSchema().metrics("user", metrics) ...;
+ * for (MetricsSnapshot s : metrics.snapshot()) export(s);
+ * }</pre>
+ */
+public final class SchemaMetrics implements ValidationMetrics {
+    private static final IssueCode[] CODES = IssueCode.values();
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+    private volatile int sampleOneIn = 1;
+
+    /**
+     * Mede o tempo de só 1 a cada {@code n} validações (escolhidas ao acaso); contadores continuam exatos.
+     */
+    public SchemaMetrics sampleOneIn(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1");
+        }
+        this.sampleOneIn = n;
+        return this;
+    }
+
+    /**
+     * Liga/desliga a medição de todos os schemas ligados a esta instância, sem recompilar.
+     */
+    public SchemaMetrics enabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    @Override
+    public Recorder recorder(String schema, String property) {
+        String key = property == null ? schema : schema + "." + property;
+        return counters.computeIfAbsent(key, k -> new Counters(schema, property));
+    }
+
+    /**
+     * Leitura de todos os schemas/propriedades registrados, sem ordem definida. Não zera os contadores.
+     */
+    public List<MetricsSnapshot> snapshot() {
+        List<MetricsSnapshot> snapshots = new ArrayList<>(counters.size());
+        for (Counters c : counters.values()) {
+            snapshots.add(c.snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Snapshot de um schema ({@code property} null) ou de uma propriedade; null se nada foi registrado com esse nome.
+     */
+    public MetricsSnapshot snapshot(String schema, String property) {
+        Counters c = counters.get(property == null ? schema : schema + "." + property);
+        return c == null ? null : c.snapshot();
+    }
+
+    /**
+     * Zera tudo. Os schemas já compilados continuam gravando nos mesmos contadores.
+     */
+    public void reset() {
+        counters.values().forEach(Counters::reset);
+    }
+
+    private final class Counters implements Recorder {
+        final String schema;
+        final String property;
+        final LongAdder parses = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder coercions = new LongAdder();
+        // Um contador por IssueCode; LongAdder sem disputa ocupa poucos bytes
+        final LongAdder[] byCode = new LongAdder[CODES.length];
+        volatile LatencyHistogram latency = new LatencyHistogram();
+
+        Counters(String schema, String property) {
+            this.schema = schema;
+            this.property = property;
+            for (int i = 0; i < byCode.length; i++) {
+                byCode[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public boolean sample() {
+            int n = sampleOneIn;
+            return n == 1 || ThreadLocalRandom.current().nextInt(n) == 0;
+        }
+
+        @Override
+        public void record(long nanos, ParseResult<?> result, boolean coerced) {
+            parses.increment();
+            if (!result.isSuccess()) {
+                failures.increment();
+                countLeaves(result.getIssues());
+            }
+            if (coerced) {
+                coercions.increment();
+            }
+            latency.record(nanos);
+        }
+
+        private void countLeaves(List<Issue> issues) {
+            for (Issue issue : issues) {
+                if (issue.getCauses().isEmpty()) {
+                    byCode[issue.getCode().ordinal()].increment();
+                } else {
+                    countLeaves(issue.getCauses());
+                }
+            }
+        }
+
+        MetricsSnapshot snapshot() {
+            Map<IssueCode, Long> codes = new EnumMap<>(IssueCode.class);
+            for (int i = 0; i < byCode.length; i++) {
+                long count = byCode[i].sum();
+                if (count > 0) codes.put(CODES[i], count);
+            }
+            return new MetricsSnapshot(schema, property, parses.sum(), failures.sum(), coercions.sum(),
+                    codes, latency.snapshot());
+        }
+
+        void reset() {
+            parses.reset();
+            failures.reset();
+            coercions.reset();
+            for (LongAdder counter : byCode) {
+                counter.reset();
+            }
+            latency = new LatencyHistogram();
+        }
+    }
+}
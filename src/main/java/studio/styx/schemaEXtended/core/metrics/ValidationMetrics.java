@@ -0,0 +1,43 @@
+package studio.styx.schemaEXtended.core.metrics;
+
+import studio.styx.schemaEXtended.core.ParseResult;
+
+/**
+ * Destino das métricas de validação, ligado a um schema com {@code Schema.metrics(name, metrics)} ou a um
+ * {@code BatchValidator}. A implementação padrão é {@link SchemaMetrics}; outras podem repassar direto para o
+ * sistema de monitoramento.
+ * <p>
+ * O {@link Recorder} de cada schema/propriedade é obtido uma única vez, na compilação do schema: o caminho de
+ * {@code parse} não faz busca nenhuma por nome.
+ */
+@FunctionalInterface
+public interface ValidationMetrics {
+
+    /**
+     * @param schema   nome dado ao schema (ou ao lote)
+     * @param property propriedade do objeto (ou chave do lote); null para o schema inteiro
+     */
+    Recorder recorder(String schema, String property);
+
+    interface Recorder {
+        /**
+         * Lido a cada validação; false desliga a medição sem recompilar (o parse fica só com esta leitura).
+         */
+        default boolean isEnabled() {
+            return true;
+        }
+
+        /**
+         * Se esta validação terá o tempo medido. Os contadores são registrados sempre.
+         */
+        default boolean sample() {
+            return true;
+        }
+
+        /**
+         * @param nanos   duração da validação, ou -1 se ela não foi amostrada
+         * @param coerced se o valor aceito precisou de coerção (ex: texto convertido em número)
+         */
+        void record(long nanos, ParseResult<?> result, boolean coerced);
+    }
+}
@@ -0,0 +1,304 @@
+package studio.styx.schemaEXtended.core.reflect;
+
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ObjectShape;
+import studio.styx.schemaEXtended.core.exceptions.SchemaBindingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano de escrita dos slots de um {@link ObjectShape} direto numa classe de destino:
+ * construtor canônico para records, ou construtor sem argumentos + setters/campos para POJOs.
+ * Resolvido uma única vez por par (classe, forma).
+ */
+public final class ObjectBinder<R> {
+    private final Class<R> type;
+    private final ObjectShape shape;
+    private final boolean record;
+
+    // Records: construtor canônico como (Object[])Object e o slot de cada parâmetro (-1 = ausente)
+    private final MethodHandle constructor;
+    private final int[] argSlots;
+    private final Class<?>[] argTypes;
+    private final String[] argNames;
+
+    // POJOs: um writer (Object,Object)void por slot que tem propriedade correspondente
+    private final int[] writerSlots;
+    private final MethodHandle[] writers;
+    private final Class<?>[] writerTypes;
+
+    private ObjectBinder(Class<R> type, ObjectShape shape) {
+        this.type = type;
+        this.shape = shape;
+        this.record = type.isRecord();
+
+        if (record) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            this.argSlots = new int[components.length];
+            this.argNames = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                argNames[i] = components[i].getName();
+                argSlots[i] = shape.indexOf(components[i].getName());
+            }
+            this.argTypes = parameterTypes;
+            this.constructor = canonicalConstructor(type, parameterTypes);
+            this.writerSlots = new int[0];
+            this.writers = new MethodHandle[0];
+            this.writerTypes = new Class<?>[0];
+        } else {
+            this.argSlots = new int[0];
+            this.argTypes = new Class<?>[0];
+            this.argNames = new String[0];
+            this.constructor = noArgConstructor(type);
+
+            List<Integer> slots = new ArrayList<>();
+            List<MethodHandle> handles = new ArrayList<>();
+            List<Class<?>> types = new ArrayList<>();
+            for (int slot = 0; slot < shape.size(); slot++) {
+                Writer writer = findWriter(type, shape.key(slot));
+                if (writer != null) {
+                    slots.add(slot);
+                    handles.add(writer.handle());
+                    types.add(writer.type());
+                }
+            }
+            this.writerSlots = slots.stream().mapToInt(Integer::intValue).toArray();
+            this.writers = handles.toArray(new MethodHandle[0]);
+            this.writerTypes = types.toArray(new Class<?>[0]);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException se a classe não for um record nem tiver construtor sem argumentos
+     */
+    public static <R> ObjectBinder<R> of(Class<R> type, ObjectShape shape) {
+        return new ObjectBinder<>(type, shape);
+    }
+
+    public Class<R> getType() {
+        return type;
+    }
+
+    /**
+     * Tipo declarado da propriedade na classe de destino (componente do record, parâmetro do setter
+     * ou tipo do campo), ou null se a classe não tem essa propriedade.
+     */
+    public static Class<?> propertyType(Class<?> type, String name) {
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.getName().equals(name)) return component.getType();
+            }
+            return null;
+        }
+        Method setter = findSetter(type, name);
+        if (setter != null) return setter.getParameterTypes()[0];
+        Field field = findField(type, name);
+        return field != null ? field.getType() : null;
+    }
+
+    /**
+     * Indica se faz sentido montar a classe a partir de um objeto validado
+     * (records e classes concretas que não são Map, wrappers ou tipos do JDK).
+     */
+    public static boolean isBindable(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum()) return false;
+        if (Modifier.isAbstract(type.getModifiers())) return false;
+        if (type == Object.class || type == ObjectSchemaResult.class) return false;
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    public R bind(Object[] values, long[] primitives) {
+        if (record) {
+            Object[] args = new Object[argSlots.length];
+            for (int i = 0; i < args.length; i++) {
+                int slot = argSlots[i];
+                Object value = slot < 0 ? null : shape.value(values, primitives, slot);
+                args[i] = adapt(value, argTypes[i], argNames[i]);
+            }
+            return type.cast(invoke(constructor, args));
+        }
+
+        Object target = invoke(constructor, null);
+        for (int i = 0; i < writers.length; i++) {
+            int slot = writerSlots[i];
+            Object value = shape.value(values, primitives, slot);
+            if (value == null) continue; // Mantém o valor padrão do POJO
+
+            String name = shape.key(slot);
+            Object adapted = adapt(value, writerTypes[i], name);
+            try {
+                writers[i].invokeExact(target, adapted);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new SchemaBindingException(name, "Failed to write property '" + name + "'", t);
+            }
+        }
+        return type.cast(target);
+    }
+
+    // --- Conversão de valores ---
+
+    private static Object adapt(Object value, Class<?> target, String name) {
+        if (value == null) {
+            return target.isPrimitive() ? zero(target) : null;
+        }
+
+        Class<?> boxed = MethodType.methodType(target).wrap().returnType();
+        if (boxed.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof Number) {
+            Object converted = convertNumber((Number) value, boxed);
+            if (converted != null) return converted;
+        }
+
+        if (value instanceof ObjectSchemaResult && Map.class.isAssignableFrom(target)) {
+            return ((ObjectSchemaResult) value).asMap();
+        }
+
+        throw new SchemaBindingException(name,
+                "Value of type " + value.getClass().getSimpleName() + " is not compatible with " + target.getSimpleName());
+    }
+
+    private static Object convertNumber(Number number, Class<?> boxed) {
+        boolean integral = number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte || number instanceof BigInteger;
+        try {
+            if (boxed == Double.class) return number.doubleValue();
+            if (boxed == Float.class) return number.floatValue();
+            if (boxed == BigDecimal.class) {
+                return number instanceof BigInteger ? new BigDecimal((BigInteger) number) : new BigDecimal(number.toString());
+            }
+            if (!integral) {
+                // Decimais só viram inteiros se não houver parte fracionária
+                BigDecimal decimal = new BigDecimal(number.toString());
+                if (decimal.stripTrailingZeros().scale() > 0) return null;
+                number = decimal.toBigIntegerExact();
+            }
+            BigInteger big = number instanceof BigInteger ? (BigInteger) number : BigInteger.valueOf(number.longValue());
+            if (boxed == BigInteger.class) return big;
+            if (boxed == Long.class) return big.longValueExact();
+            if (boxed == Integer.class) return big.intValueExact();
+            if (boxed == Short.class) return big.shortValueExact();
+            if (boxed == Byte.class) return big.byteValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static Object zero(Class<?> primitive) {
+        if (primitive == boolean.class) return false;
+        if (primitive == char.class) return '\0';
+        if (primitive == long.class) return 0L;
+        if (primitive == double.class) return 0d;
+        if (primitive == float.class) return 0f;
+        if (primitive == short.class) return (short) 0;
+        if (primitive == byte.class) return (byte) 0;
+        return 0;
+    }
+
+    // --- Resolução dos handles ---
+
+    private static Object invoke(MethodHandle constructor, Object[] args) {
+        try {
+            return args == null ? (Object) constructor.invokeExact() : (Object) constructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate target object", t);
+        }
+    }
+
+    private static MethodHandle canonicalConstructor(Class<?> type, Class<?>[] parameterTypes) {
+        try {
+            Constructor<?> ctor = type.getDeclaredConstructor(parameterTypes);
+            return lookupFor(type, ctor).unreflectConstructor(ctor)
+                    .asType(MethodType.genericMethodType(parameterTypes.length))
+                    .asSpreader(Object[].class, parameterTypes.length);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access canonical constructor of " + type.getName(), e);
+        }
+    }
+
+    private static MethodHandle noArgConstructor(Class<?> type) {
+        try {
+            Constructor<?> ctor = type.getDeclaredConstructor();
+            return lookupFor(type, ctor).unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(type.getName() + " must be a record or declare a no-arg constructor", e);
+        }
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> owner, java.lang.reflect.AccessibleObject member) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            member.setAccessible(true);
+            return MethodHandles.lookup();
+        }
+    }
+
+    private record Writer(MethodHandle handle, Class<?> type) {}
+
+    private static Writer findWriter(Class<?> type, String name) {
+        MethodType writerType = MethodType.methodType(void.class, Object.class, Object.class);
+        try {
+            Method setter = findSetter(type, name);
+            if (setter != null) {
+                MethodHandle handle = lookupFor(setter.getDeclaringClass(), setter).unreflect(setter);
+                return new Writer(MethodHandles.dropReturn(handle).asType(writerType), setter.getParameterTypes()[0]);
+            }
+
+            Field field = findField(type, name);
+            if (field != null && !Modifier.isFinal(field.getModifiers())) {
+                MethodHandle handle = lookupFor(field.getDeclaringClass(), field).unreflectSetter(field);
+                return new Writer(handle.asType(writerType), field.getType());
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            // Propriedade inacessível: não é escrita
+        }
+        return null;
+    }
+
+    private static Method findSetter(Class<?> type, String name) {
+        if (name.isEmpty()) return null;
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(setterName) && method.getParameterCount() == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) return field;
+            } catch (NoSuchFieldException ignored) {
+                // Continua na superclasse
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package studio.styx.schemaEXtended.core.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Getters de todas as propriedades de uma classe, resolvidos uma única vez e guardados
+ * num {@link ClassValue}. Records usam os accessors dos componentes; as demais classes
+ * usam os campos de instância de toda a hierarquia (campos da subclasse escondem os da superclasse).
+ * Todos os {@link MethodHandle}s têm o tipo {@code (Object)Object}.
+ */
+public final class PropertyAccessors {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<PropertyAccessors> CACHE = new ClassValue<>() {
+        @Override
+        protected PropertyAccessors computeValue(Class<?> type) {
+            return new PropertyAccessors(type);
+        }
+    };
+
+    private final Map<String, MethodHandle> getters;
+
+    private PropertyAccessors(Class<?> type) {
+        Map<String, MethodHandle> resolved = new LinkedHashMap<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                MethodHandle getter = unreflect(type, component);
+                if (getter != null) resolved.put(component.getName(), getter);
+            }
+        } else {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+                    if (resolved.containsKey(field.getName())) continue;
+
+                    MethodHandle getter = unreflect(current, field);
+                    if (getter != null) resolved.put(field.getName(), getter);
+                }
+            }
+        }
+        this.getters = Collections.unmodifiableMap(resolved);
+    }
+
+    public static PropertyAccessors of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Getter {@code (Object)Object} da propriedade, ou null se ela não existe (ou não é acessível).
+     */
+    public MethodHandle getter(String name) {
+        return getters.get(name);
+    }
+
+    public Set<String> names() {
+        return getters.keySet();
+    }
+
+    public static Object read(MethodHandle getter, Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read property", t);
+        }
+    }
+
+    private static MethodHandle unreflect(Class<?> owner, Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            try {
+                field.setAccessible(true); // Permite ler campos privados
+                return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (RuntimeException | IllegalAccessException ignored) {
+                // Campo inacessível (módulo fechado): tratado como ausente
+                return null;
+            }
+        }
+    }
+
+    private static MethodHandle unreflect(Class<?> owner, RecordComponent component) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            return lookup.unreflect(component.getAccessor()).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            try {
+                component.getAccessor().setAccessible(true);
+                return MethodHandles.lookup().unreflect(component.getAccessor()).asType(GETTER_TYPE);
+            } catch (RuntimeException | IllegalAccessException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+/**
+ * Varreduras dos arrays primitivos. Cada método retorna o primeiro índice inválido a partir de {@code from},
+ * ou -1. Com o módulo {@code jdk.incubator.vector} carregado ({@code --add-modules jdk.incubator.vector})
+ * as varreduras usam SIMD ({@link VectorArrayKernels}); sem ele, os laços escalares abaixo.
+ * <p>
+ * Ordenação: o índice retornado é o do elemento que quebra a ordem em relação ao anterior.
+ * NaN nunca viola limites nem ordem (mesmas comparações do {@link studio.styx.schemaEXtended.core.schemas.numbersSchemas.NumberSchema});
+ * use {@code finite()} para rejeitá-lo.
+ */
+final class ArrayKernels {
+    static final boolean VECTORIZED = vectorApiAvailable();
+
+    private ArrayKernels() {}
+
+    // --- Limites ---
+
+    static int firstOutside(int[] values, int from, int min, int max) {
+        return VECTORIZED
+                ? VectorArrayKernels.firstOutside(values, from, min, max)
+                : scalarFirstOutside(values, from, min, max);
+    }
+
+    static int firstOutside(long[] values, int from, long min, long max) {
+        return VECTORIZED
+                ? VectorArrayKernels.firstOutside(values, from, min, max)
+                : scalarFirstOutside(values, from, min, max);
+    }
+
+    static int firstInvalid(double[] values, int from, double min, double max, boolean finite) {
+        return VECTORIZED
+                ? VectorArrayKernels.firstInvalid(values, from, min, max, finite)
+                : scalarFirstInvalid(values, from, min, max, finite);
+    }
+
+    // --- Ordem ---
+
+    static int firstUnordered(int[] values, int from, boolean descending, boolean strict) {
+        return VECTORIZED
+                ? VectorArrayKernels.firstUnordered(values, from, descending, strict)
+                : scalarFirstUnordered(values, from, descending, strict);
+    }
+
+    static int firstUnordered(long[] values, int from, boolean descending, boolean strict) {
+        return VECTORIZED
+                ? VectorArrayKernels.firstUnordered(values, from, descending, strict)
+                : scalarFirstUnordered(values, from, descending, strict);
+    }
+
+    static int firstUnordered(double[] values, int from, boolean descending, boolean strict) {
+        return VECTORIZED
+                ? VectorArrayKernels.firstUnordered(values, from, descending, strict)
+                : scalarFirstUnordered(values, from, descending, strict);
+    }
+
+    // --- Laços escalares (fallback e cauda dos laços vetoriais) ---
+
+    static int scalarFirstOutside(int[] values, int from, int min, int max) {
+        for (int i = from; i < values.length; i++) {
+            if (values[i] < min || values[i] > max) return i;
+        }
+        return -1;
+    }
+
+    static int scalarFirstOutside(long[] values, int from, long min, long max) {
+        for (int i = from; i < values.length; i++) {
+            if (values[i] < min || values[i] > max) return i;
+        }
+        return -1;
+    }
+
+    static int scalarFirstInvalid(double[] values, int from, double min, double max, boolean finite) {
+        for (int i = from; i < values.length; i++) {
+            double value = values[i];
+            if (value < min || value > max || (finite && !Double.isFinite(value))) return i;
+        }
+        return -1;
+    }
+
+    static int scalarFirstUnordered(int[] values, int from, boolean descending, boolean strict) {
+        for (int i = Math.max(from, 1); i < values.length; i++) {
+            int current = values[i];
+            int previous = values[i - 1];
+            if (descending ? (strict ? current >= previous : current > previous)
+                           : (strict ? current <= previous : current < previous)) return i;
+        }
+        return -1;
+    }
+
+    static int scalarFirstUnordered(long[] values, int from, boolean descending, boolean strict) {
+        for (int i = Math.max(from, 1); i < values.length; i++) {
+            long current = values[i];
+            long previous = values[i - 1];
+            if (descending ? (strict ? current >= previous : current > previous)
+                           : (strict ? current <= previous : current < previous)) return i;
+        }
+        return -1;
+    }
+
+    static int scalarFirstUnordered(double[] values, int from, boolean descending, boolean strict) {
+        for (int i = Math.max(from, 1); i < values.length; i++) {
+            double current = values[i];
+            double previous = values[i - 1];
+            if (descending ? (strict ? current >= previous : current > previous)
+                           : (strict ? current <= previous : current < previous)) return i;
+        }
+        return -1;
+    }
+
+    // O módulo incubador só existe no boot layer quando a aplicação sobe com --add-modules
+    private static boolean vectorApiAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+        try {
+            return VectorArrayKernels.isUsable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
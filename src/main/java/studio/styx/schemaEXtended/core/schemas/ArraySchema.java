@@ -1,26 +1,41 @@
 package studio.styx.schemaEXtended.core.schemas;
 
+import studio.styx.schemaEXtended.core.CompiledSchema;
 import studio.styx.schemaEXtended.core.ObjectSchemaResult;
 import studio.styx.schemaEXtended.core.ParseResult;
 import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
 import studio.styx.schemaEXtended.core.schemas.numbersSchemas.NumberSchema;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 public class ArraySchema<T> extends Schema<List<T>> {
     private Schema<T> elementSchema;
     private Integer minLength;
     private Integer maxLength;
-    private String minLengthError = "Array must have at least {min} elements";
-    private String maxLengthError = "Array must have at most {max} elements";
-    private String parseError = "The provided value is not an array";
-    private String elementError = "One or more array elements are invalid";
+    // Mensagens null = mensagem padrão do código; {min}/{max} só são substituídos quando a mensagem é lida
+    private IssueCode minLengthCode = IssueCode.ARRAY_TOO_SHORT;
+    private IssueCode maxLengthCode = IssueCode.ARRAY_TOO_LONG;
+    private String minLengthError;
+    private String maxLengthError;
+    private String parseError;
+    private String elementError;
     private List<T> defaultValue;
     private boolean unique = false;
-    private String uniqueError = "Array must contain unique elements";
+    private String uniqueError;
     private Function<T, Object> uniqueBy; // Para unicidade baseada em propriedade
+    private int parallelThreshold = 0; // 0 = validação sequencial
+    private Executor parallelExecutor;
+    private boolean dedupeElements = false;
 
     public ArraySchema(Schema<T> elementSchema) {
         this.elementSchema = elementSchema;
@@ -35,85 +50,135 @@ public class ArraySchema<T> extends Schema<List<T>> {
     }
 
     // Métodos de configuração
+    @Override
+    public ArraySchema<T> abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public ArraySchema<T> abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public ArraySchema<T> name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public ArraySchema<T> metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public ArraySchema<T> memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
     public ArraySchema<T> minLength(int minLength) {
         this.minLength = minLength;
-        this.minLengthError = this.minLengthError.replace("{min}", String.valueOf(minLength));
+        this.minLengthCode = IssueCode.ARRAY_TOO_SHORT;
+        changed();
         return this;
     }
 
     public ArraySchema<T> maxLength(int maxLength) {
         this.maxLength = maxLength;
-        this.maxLengthError = this.maxLengthError.replace("{max}", String.valueOf(maxLength));
+        this.maxLengthCode = IssueCode.ARRAY_TOO_LONG;
+        changed();
         return this;
     }
 
     public ArraySchema<T> minLength(int minLength, String msg) {
         this.minLength = minLength;
+        this.minLengthCode = IssueCode.ARRAY_TOO_SHORT;
         this.minLengthError = msg;
+        changed();
         return this;
     }
 
     public ArraySchema<T> maxLength(int maxLength, String msg) {
         this.maxLength = maxLength;
+        this.maxLengthCode = IssueCode.ARRAY_TOO_LONG;
         this.maxLengthError = msg;
+        changed();
         return this;
     }
 
     public ArraySchema<T> length(int exactLength) {
         this.minLength = exactLength;
         this.maxLength = exactLength;
-        this.minLengthError = "Array must have exactly " + exactLength + " elements";
-        this.maxLengthError = "Array must have exactly " + exactLength + " elements";
+        this.minLengthCode = IssueCode.ARRAY_LENGTH;
+        this.maxLengthCode = IssueCode.ARRAY_LENGTH;
+        this.minLengthError = null;
+        this.maxLengthError = null;
+        changed();
         return this;
     }
 
     public ArraySchema<T> length(int exactLength, String errorMessage) {
         this.minLength = exactLength;
         this.maxLength = exactLength;
+        this.minLengthCode = IssueCode.ARRAY_LENGTH;
+        this.maxLengthCode = IssueCode.ARRAY_LENGTH;
         this.minLengthError = errorMessage;
         this.maxLengthError = errorMessage;
+        changed();
         return this;
     }
 
     public ArraySchema<T> minLengthError(String minLengthError) {
         this.minLengthError = minLengthError;
+        changed();
         return this;
     }
 
     public ArraySchema<T> maxLengthError(String maxLengthError) {
         this.maxLengthError = maxLengthError;
+        changed();
         return this;
     }
 
     public ArraySchema<T> parseError(String parseError) {
         this.parseError = parseError;
+        changed();
         return this;
     }
 
     public ArraySchema<T> elementError(String elementError) {
         this.elementError = elementError;
+        changed();
         return this;
     }
 
     public ArraySchema<T> defaultValue(List<T> defaultValue) {
         this.defaultValue = defaultValue;
+        changed();
         return this;
     }
 
     public ArraySchema<T> unique() {
         this.unique = true;
+        changed();
         return this;
     }
 
     public ArraySchema<T> unique(String errorMessage) {
         this.unique = true;
         this.uniqueError = errorMessage;
+        changed();
         return this;
     }
 
     public ArraySchema<T> uniqueBy(Function<T, Object> uniqueBy) {
         this.unique = true;
         this.uniqueBy = uniqueBy;
+        changed();
         return this;
     }
 
@@ -121,166 +186,116 @@ public class ArraySchema<T> extends Schema<List<T>> {
         this.unique = true;
         this.uniqueBy = uniqueBy;
         this.uniqueError = errorMessage;
+        changed();
         return this;
     }
 
-    public ArraySchema<T> nonEmpty() {
-        this.minLength = 1;
-        this.minLengthError = "Array must not be empty";
-        return this;
+    /**
+     * Valida os elementos em paralelo (no {@link java.util.concurrent.ForkJoinPool#commonPool()}) quando o array
+     * tiver pelo menos {@code threshold} elementos. A ordem dos elementos e os índices dos erros são preservados.
+     * Vale para List/arrays já materializados; arrays JSON (String/bytes) continuam validados durante a leitura.
+     */
+    public ArraySchema<T> parallel(int threshold) {
+        return parallel(threshold, null);
     }
 
-    @Override
-    public ParseResult<List<T>> parse(Object value) {
-        List<String> errors = new ArrayList<>();
-
-        // Tratamento de null
-        if (value == null) {
-            if (defaultValue != null) {
-                return ParseResult.success(new ArrayList<>(defaultValue));
-            }
-            if (this.isOptional()) {
-                return ParseResult.success(new ArrayList<>());
-            } else {
-                return ParseResult.failure(List.of(parseError));
-            }
+    /**
+     * Igual a {@link #parallel(int)}, usando o executor informado (null = common pool).
+     */
+    public ArraySchema<T> parallel(int threshold, Executor executor) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be at least 1");
         }
+        this.parallelThreshold = threshold;
+        this.parallelExecutor = executor;
+        changed();
+        return this;
+    }
 
-        // Coercion e conversão para lista
-        List<Object> array = convertToList(value, errors);
-        if (!errors.isEmpty()) {
-            return ParseResult.failure(errors);
-        }
+    public ArraySchema<T> sequential() {
+        this.parallelThreshold = 0;
+        this.parallelExecutor = null;
+        changed();
+        return this;
+    }
 
-        // Validações de array
-        validateArraySize(array, errors);
-        if (!errors.isEmpty()) {
-            return ParseResult.failure(errors);
-        }
+    /**
+     * Dentro de uma mesma validação, elementos iguais (String, números, Boolean) são validados uma vez só e o
+     * resultado é reaproveitado: vale a pena em arrays grandes com poucos valores diferentes (ex: status, país).
+     * Erros continuam sendo reportados em todos os índices. Para reaproveitar entre chamadas, use
+     * {@code memoize(...)} no schema dos elementos.
+     */
+    public ArraySchema<T> dedupeElements() {
+        this.dedupeElements = true;
+        changed();
+        return this;
+    }
 
-        // Validação de elementos
-        List<T> parsedElements = new ArrayList<>();
-        List<String> elementErrors = new ArrayList<>();
-
-        for (int i = 0; i < array.size(); i++) {
-            Object element = array.get(i);
-            ParseResult<T> elementResult = elementSchema.parse(element);
-
-            if (elementResult.isSuccess()) {
-                if (elementResult.getValue() != null) {
-                    parsedElements.add(elementResult.getValue());
-                }
-            } else {
-                String errorMsg = "Element at index " + i + ": " +
-                        String.join(", ", elementResult.getErrors());
-                elementErrors.add(errorMsg);
-            }
-        }
+    public ArraySchema<T> dedupeElements(boolean dedupeElements) {
+        this.dedupeElements = dedupeElements;
+        changed();
+        return this;
+    }
 
-        // Validação de unicidade
-        if (unique && !elementErrors.isEmpty()) {
-            validateUniqueness(parsedElements, errors);
-        }
+    public ArraySchema<T> nonEmpty() {
+        this.minLength = 1;
+        this.minLengthCode = IssueCode.ARRAY_EMPTY;
+        this.minLengthError = null;
+        changed();
+        return this;
+    }
 
-        // Combinar erros
-        if (!elementErrors.isEmpty()) {
-            errors.add(elementError);
-            errors.addAll(elementErrors);
-        }
+    @Override
+    public ParseResult<List<T>> parse(Object value) {
+        return compile().parse(value);
+    }
 
-        return errors.isEmpty()
-                ? ParseResult.success(parsedElements)
-                : ParseResult.failure(errors);
+    /**
+     * Valida um array JSON em UTF-8 direto dos bytes (heap ou direct), validando cada elemento durante a leitura.
+     * Lê de {@code position} até {@code limit} sem alterar a posição do buffer. Não depende de {@code coerce()}.
+     */
+    public ParseResult<List<T>> parse(ByteBuffer json) {
+        return parseWithPlan(json, plan -> ((CompiledArraySchema<T>) plan).parseDocument(JsonReader.of(json)));
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Object> convertToList(Object value, List<String> errors) {
-        if (value instanceof List) {
-            return (List<Object>) value;
+    public ParseResult<List<T>> parse(byte[] json, int offset, int length) {
+        return parseWithPlan(json, plan -> ((CompiledArraySchema<T>) plan).parseDocument(JsonReader.of(json, offset, length)));
+    }
+
+    @Override
+    protected CompiledSchema<List<T>> createCompiledSchema(boolean abortEarly) {
+        List<IntPredicate> sizeChecks = new ArrayList<>();
+        List<Issue> sizeIssues = new ArrayList<>();
+
+        if (minLength != null) {
+            int min = minLength;
+            sizeChecks.add(size -> size >= min);
+            sizeIssues.add(sizeIssue(minLengthCode, minLengthError, min));
         }
 
-        if (this.isCoerce()) {
-            // Coercion de array para lista
-            if (value instanceof Object[]) {
-                Object[] array = (Object[]) value;
-                List<Object> list = new ArrayList<>();
-                for (Object item : array) {
-                    list.add(item);
-                }
-                return list;
-            }
-            // Coercion de string para lista (ex: "1,2,3" -> ["1", "2", "3"])
-            else if (value instanceof String) {
-                String str = (String) value;
-                if (str.trim().startsWith("[") && str.trim().endsWith("]")) {
-                    // Tenta parsear como JSON array simples
-                    try {
-                        String content = str.trim().substring(1, str.length() - 1);
-                        String[] parts = content.split(",");
-                        List<Object> list = new ArrayList<>();
-                        for (String part : parts) {
-                            list.add(part.trim());
-                        }
-                        return list;
-                    } catch (Exception e) {
-                        errors.add(parseError);
-                        return null;
-                    }
-                } else {
-                    // Split por vírgula
-                    String[] parts = ((String) value).split(",");
-                    List<Object> list = new ArrayList<>();
-                    for (String part : parts) {
-                        list.add(part.trim());
-                    }
-                    return list;
-                }
-            }
+        if (maxLength != null) {
+            int max = maxLength;
+            sizeChecks.add(size -> size <= max);
+            sizeIssues.add(sizeIssue(maxLengthCode, maxLengthError, max));
         }
 
-        errors.add(parseError);
-        return null;
+        return new CompiledArraySchema<>(
+                getName(), elementSchema.compile(abortEarly), this.isCoerce(), this.isOptional(), abortEarly,
+                Issue.withMessage(IssueCode.NOT_ARRAY, parseError), Issue.withMessage(IssueCode.INVALID_ELEMENTS, elementError),
+                defaultValue, sizeChecks, sizeIssues, unique, uniqueBy, Issue.withMessage(IssueCode.NOT_UNIQUE, uniqueError),
+                parallelThreshold, parallelExecutor, dedupeElements
+        );
     }
 
-    private void validateArraySize(List<Object> array, List<String> errors) {
-        if (array == null) return;
-
-        int size = array.size();
-
-        if (minLength != null && size < minLength) {
-            errors.add(minLengthError);
-        }
-
-        if (maxLength != null && size > maxLength) {
-            errors.add(maxLengthError);
-        }
+    @Override
+    protected Collection<? extends Schema<?>> children() {
+        return List.of(elementSchema);
     }
 
-    private void validateUniqueness(List<T> elements, List<String> errors) {
-        if (elements == null || elements.isEmpty()) return;
-
-        if (uniqueBy != null) {
-            // Unicidade baseada em propriedade
-            List<Object> keys = new ArrayList<>();
-            for (T element : elements) {
-                Object key = uniqueBy.apply(element);
-                if (keys.contains(key)) {
-                    errors.add(uniqueError);
-                    return;
-                }
-                keys.add(key);
-            }
-        } else {
-            // Unicidade padrão
-            List<Object> seen = new ArrayList<>();
-            for (T element : elements) {
-                if (seen.contains(element)) {
-                    errors.add(uniqueError);
-                    return;
-                }
-                seen.add(element);
-            }
-        }
+    static Issue sizeIssue(IssueCode code, String message, int limit) {
+        return code == IssueCode.ARRAY_EMPTY
+                ? Issue.withMessage(code, message)
+                : Issue.withMessage(code, message, limit);
     }
 
     // Métodos auxiliares estáticos para criação rápida
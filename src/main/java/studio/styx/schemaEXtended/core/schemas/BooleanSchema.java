@@ -1,28 +1,88 @@
 package studio.styx.schemaEXtended.core.schemas;
 
+import studio.styx.schemaEXtended.core.CompiledSchema;
 import studio.styx.schemaEXtended.core.ParseResult;
 import studio.styx.schemaEXtended.core.Schema;
-
-import java.util.List;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
 
 public class BooleanSchema extends Schema<Boolean> {
-    private String parseError = "The provided value is not a boolean";
+    private String parseError; // null = mensagem padrão
     private Boolean defaultValue;
 
     public BooleanSchema() {}
     public BooleanSchema(String errorMsg) { this.parseError = errorMsg; }
 
+    @Override
+    public BooleanSchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public BooleanSchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public BooleanSchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
     public BooleanSchema defaultValue(Boolean defaultValue) {
         this.defaultValue = defaultValue;
+        changed();
         return this;
     }
 
     public BooleanSchema parseError(String parseError) {
         this.parseError = parseError;
+        changed();
         return this;
     }
 
-    private Boolean coerceType(Object value) {
+    @Override
+    public ParseResult<Boolean> parse(Object value) {
+        return compile().parse(value);
+    }
+
+    @Override
+    protected CompiledSchema<Boolean> createCompiledSchema(boolean abortEarly) {
+        ParseResult<Boolean> parseFailure = ParseResult.invalid(Issue.withMessage(IssueCode.NOT_BOOLEAN, parseError));
+        ParseResult<Boolean> nullResult;
+        if (defaultValue != null) {
+            nullResult = ParseResult.success(defaultValue);
+        } else if (this.isOptional()) {
+            nullResult = ParseResult.success(null);
+        } else {
+            nullResult = parseFailure;
+        }
+
+        boolean coerce = this.isCoerce();
+        return value -> {
+            if (value == null) {
+                return nullResult;
+            }
+
+            if (coerce) {
+                Boolean coercedValue = coerceType(value);
+                if (coercedValue != null) {
+                    return ParseResult.success(coercedValue);
+                }
+            }
+
+            if (value instanceof Boolean) {
+                return ParseResult.success((Boolean) value);
+            } else {
+                return parseFailure;
+            }
+        };
+    }
+
+    private static Boolean coerceType(Object value) {
         if (value instanceof String) {
             return switch ((String) value) {
                 case "true", "1", "yes", "on", "y" -> true;
@@ -39,31 +99,4 @@ public class BooleanSchema extends Schema<Boolean> {
 
         return null;
     }
-
-    @Override
-    public ParseResult<Boolean> parse(Object value) {
-        if (value == null) {
-            if (defaultValue != null) {
-                return ParseResult.success(defaultValue);
-            }
-            if (this.isOptional()) {
-                return ParseResult.success(null);
-            } else {
-                return ParseResult.failure(List.of(parseError));
-            }
-        }
-
-        if (this.isCoerce()) {
-            Boolean coercedValue = coerceType(value);
-            if (coercedValue != null) {
-                return ParseResult.success(coercedValue);
-            }
-        }
-
-        if (value instanceof Boolean) {
-            return ParseResult.success((Boolean) value);
-        } else {
-            return ParseResult.failure(List.of(parseError));
-        }
-    }
-}
+}
\ No newline at end of file
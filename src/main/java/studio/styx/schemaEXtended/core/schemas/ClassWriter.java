@@ -0,0 +1,379 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Escritor mínimo de arquivos .class, só com o necessário para as classes ocultas geradas a partir
+ * dos planos (campos estáticos, chamadas, saltos condicionais). Nomes no formato interno
+ * ({@code java/lang/Object}); pilha, variáveis locais e frames de verificação são informados por quem gera.
+ * Interno: usado só pelo {@link ObjectPlanGenerator}.
+ */
+final class ClassWriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    static final int ALOAD = 0x19;
+    static final int ASTORE = 0x3A;
+    static final int ARETURN = 0xB0;
+    static final int RETURN = 0xB1;
+    static final int GETSTATIC = 0xB2;
+    static final int PUTSTATIC = 0xB3;
+    static final int INVOKEVIRTUAL = 0xB6;
+    static final int INVOKESPECIAL = 0xB7;
+    static final int INVOKESTATIC = 0xB8;
+    static final int INVOKEINTERFACE = 0xB9;
+    static final int CHECKCAST = 0xC0;
+    static final int INSTANCEOF = 0xC1;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9A;
+
+    // Java 17: a menor versão suportada pelo projeto com classes ocultas e class data
+    private static final int VERSION = 61;
+
+    private final ConstantPool pool = new ConstantPool();
+    private final int access;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    ClassWriter(int access, String name, String superName, String... interfaces) {
+        this.access = access;
+        this.thisClass = pool.classRef(name);
+        this.superClass = pool.classRef(superName);
+        this.interfaces = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            this.interfaces[i] = pool.classRef(interfaces[i]);
+        }
+    }
+
+    void field(int access, String name, String descriptor) {
+        Bytes out = new Bytes();
+        out.u2(access).u2(pool.utf8(name)).u2(pool.utf8(descriptor)).u2(0);
+        fields.add(out.toByteArray());
+    }
+
+    Code method(int access, String name, String descriptor) {
+        return new Code(access, name, descriptor);
+    }
+
+    byte[] toByteArray() {
+        Bytes out = new Bytes();
+        out.u4(0xCAFEBABE).u2(0).u2(VERSION);
+        pool.writeTo(out);
+        out.u2(access).u2(thisClass).u2(superClass).u2(interfaces.length);
+        for (int i : interfaces) out.u2(i);
+        out.u2(fields.size());
+        for (byte[] field : fields) out.bytes(field);
+        out.u2(methods.size());
+        for (byte[] method : methods) out.bytes(method);
+        out.u2(0); // sem atributos de classe
+        return out.toByteArray();
+    }
+
+    /**
+     * Posição no código, marcada com {@link Code#mark(Label)} e usada como destino de saltos.
+     */
+    static final class Label {
+        private int offset = -1;
+        private final List<Integer> jumps = new ArrayList<>();
+    }
+
+    /**
+     * Corpo de um método. Termina com {@link #end(int, int)}, que o adiciona à classe.
+     */
+    final class Code {
+        private final int access;
+        private final String name;
+        private final String descriptor;
+        private final Bytes code = new Bytes();
+        private final Bytes frames = new Bytes();
+        private final List<Label> labels = new ArrayList<>();
+        private int frameCount;
+        private int lastFrame = -1;
+
+        private Code(int access, String name, String descriptor) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        Code op(int opcode) {
+            code.u1(opcode);
+            return this;
+        }
+
+        Code var(int opcode, int index) {
+            if (index < 4) {
+                // aload_0..3 / astore_0..3
+                code.u1((opcode == ALOAD ? 0x2A : 0x4B) + index);
+            } else {
+                code.u1(opcode).u1(index);
+            }
+            return this;
+        }
+
+        Code type(int opcode, String internalName) {
+            code.u1(opcode).u2(pool.classRef(internalName));
+            return this;
+        }
+
+        Code field(int opcode, String owner, String name, String descriptor) {
+            code.u1(opcode).u2(pool.member(9, owner, name, descriptor));
+            return this;
+        }
+
+        Code invoke(int opcode, String owner, String name, String descriptor) {
+            if (opcode == INVOKEINTERFACE) {
+                code.u1(opcode).u2(pool.member(11, owner, name, descriptor)).u1(argumentSlots(descriptor) + 1).u1(0);
+            } else {
+                code.u1(opcode).u2(pool.member(10, owner, name, descriptor));
+            }
+            return this;
+        }
+
+        Code ldc(String value) {
+            return ldcIndex(pool.string(value));
+        }
+
+        Code ldcClass(String internalName) {
+            return ldcIndex(pool.classRef(internalName));
+        }
+
+        Code push(int value) {
+            if (value >= -1 && value <= 5) {
+                code.u1(0x03 + value); // iconst_m1..iconst_5
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.u1(0x10).u1(value); // bipush
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                code.u1(0x11).u2(value); // sipush
+            } else {
+                ldcIndex(pool.integer(value));
+            }
+            return this;
+        }
+
+        Code jump(int opcode, Label target) {
+            target.jumps.add(code.size());
+            code.u1(opcode).u2(0);
+            return this;
+        }
+
+        Code mark(Label label) {
+            label.offset = code.size();
+            return this;
+        }
+
+        /**
+         * Frame de verificação na posição atual: mesmas variáveis locais do frame anterior, pilha vazia.
+         */
+        Code sameFrame() {
+            int delta = frameDelta();
+            if (delta < 64) {
+                frames.u1(delta);
+            } else {
+                frames.u1(251).u2(delta); // same_frame_extended
+            }
+            return this;
+        }
+
+        /**
+         * Frame de verificação na posição atual: as variáveis do frame anterior mais as informadas
+         * (até 3, todas referências), pilha vazia.
+         */
+        Code appendFrame(String... localTypes) {
+            frames.u1(251 + localTypes.length).u2(frameDelta());
+            for (String type : localTypes) {
+                frames.u1(7).u2(pool.classRef(type));
+            }
+            return this;
+        }
+
+        private int frameDelta() {
+            int offset = code.size();
+            int delta = lastFrame < 0 ? offset : offset - lastFrame - 1;
+            lastFrame = offset;
+            frameCount++;
+            return delta;
+        }
+
+        private Code ldcIndex(int index) {
+            if (index < 256) {
+                code.u1(0x12).u1(index); // ldc
+            } else {
+                code.u1(0x13).u2(index); // ldc_w
+            }
+            return this;
+        }
+
+        void end(int maxStack, int maxLocals) {
+            byte[] body = code.toByteArray();
+            patchJumps(body);
+
+            Bytes attributes = new Bytes();
+            int attributeCount = 0;
+            if (frameCount > 0) {
+                byte[] table = frames.toByteArray();
+                attributes.u2(pool.utf8("StackMapTable")).u4(table.length + 2).u2(frameCount).bytes(table);
+                attributeCount++;
+            }
+            byte[] attributeBytes = attributes.toByteArray();
+
+            Bytes out = new Bytes();
+            out.u2(access).u2(pool.utf8(name)).u2(pool.utf8(descriptor)).u2(1);
+            out.u2(pool.utf8("Code")).u4(12 + body.length + attributeBytes.length);
+            out.u2(maxStack).u2(maxLocals).u4(body.length).bytes(body);
+            out.u2(0); // sem tabela de exceções
+            out.u2(attributeCount).bytes(attributeBytes);
+            methods.add(out.toByteArray());
+        }
+
+        private void patchJumps(byte[] body) {
+            for (Label label : labels) {
+                if (label.offset < 0) throw new IllegalStateException("Label not marked");
+                for (int at : label.jumps) {
+                    int delta = label.offset - at;
+                    body[at + 1] = (byte) (delta >> 8);
+                    body[at + 2] = (byte) delta;
+                }
+            }
+        }
+
+        Label newLabel() {
+            Label label = new Label();
+            labels.add(label);
+            return label;
+        }
+    }
+
+    // Referências ocupam 1 slot; long/double ocupam 2
+    private static int argumentSlots(String descriptor) {
+        int slots = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            if (c == 'J' || c == 'D') {
+                slots += 2;
+                i++;
+            } else {
+                slots++;
+                while (descriptor.charAt(i) == '[') i++;
+                i = descriptor.charAt(i) == 'L' ? descriptor.indexOf(';', i) + 1 : i + 1;
+            }
+        }
+        return slots;
+    }
+
+    private static final class ConstantPool {
+        private final Bytes entries = new Bytes();
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return indexes.computeIfAbsent("U" + value, k -> add(out -> out.u1(1).utf(value)));
+        }
+
+        int integer(int value) {
+            return indexes.computeIfAbsent("I" + value, k -> add(out -> out.u1(3).u4(value)));
+        }
+
+        int classRef(String name) {
+            Integer existing = indexes.get("C" + name);
+            if (existing != null) return existing;
+            int nameIndex = utf8(name);
+            int index = add(out -> out.u1(7).u2(nameIndex));
+            indexes.put("C" + name, index);
+            return index;
+        }
+
+        int string(String value) {
+            Integer existing = indexes.get("S" + value);
+            if (existing != null) return existing;
+            int valueIndex = utf8(value);
+            int index = add(out -> out.u1(8).u2(valueIndex));
+            indexes.put("S" + value, index);
+            return index;
+        }
+
+        // tag 9 = campo, 10 = método, 11 = método de interface
+        int member(int tag, String owner, String name, String descriptor) {
+            String key = tag + owner + '.' + name + descriptor;
+            Integer existing = indexes.get(key);
+            if (existing != null) return existing;
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = indexes.computeIfAbsent("N" + name + descriptor,
+                    k -> add(out -> out.u1(12).u2(nameIndex).u2(descriptorIndex)));
+            int index = add(out -> out.u1(tag).u2(ownerIndex).u2(nameAndType));
+            indexes.put(key, index);
+            return index;
+        }
+
+        private int add(Consumer<Bytes> entry) {
+            if (count >= 0xFFFF) throw new IllegalStateException("Constant pool too large");
+            entry.accept(entries);
+            return count++;
+        }
+
+        void writeTo(Bytes out) {
+            out.u2(count).bytes(entries.toByteArray());
+        }
+    }
+
+    private static final class Bytes {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(buffer);
+
+        Bytes u1(int value) {
+            buffer.write(value);
+            return this;
+        }
+
+        Bytes u2(int value) {
+            buffer.write(value >>> 8);
+            buffer.write(value);
+            return this;
+        }
+
+        Bytes u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        Bytes bytes(byte[] value) {
+            buffer.writeBytes(value);
+            return this;
+        }
+
+        // UTF-8 modificado, como a JVM espera
+        Bytes utf(String value) {
+            try {
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        int size() {
+            return buffer.size();
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+}
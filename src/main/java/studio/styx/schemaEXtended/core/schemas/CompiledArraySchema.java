@@ -0,0 +1,453 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.cache.DedupeScope;
+import studio.styx.schemaEXtended.core.exceptions.JsonParseException;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.jfr.ArrayValidationEvent;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Plano imutável de um {@link ArraySchema}, com o schema dos elementos já compilado.
+ */
+final class CompiledArraySchema<T> implements CompiledSchema<List<T>> {
+    // Menor fatia entregue a uma tarefa no modo paralelo
+    private static final int MIN_SEGMENT = 256;
+
+    private final String name;
+    private final CompiledSchema<T> elementSchema;
+    private final boolean coerce;
+    private final boolean abortEarly;
+    private final Issue elementIssue;
+    private final ParseResult<List<T>> nullResult;
+    private final ParseResult<List<T>> parseFailure;
+    private final IntPredicate[] sizeChecks;
+    private final Issue[] sizeIssues;
+    private final boolean unique;
+    private final Function<T, Object> uniqueBy;
+    private final Issue uniqueIssue;
+    private final int parallelThreshold;
+    private final Executor executor;
+    private final int parallelism;
+    private final boolean dedupe;
+
+    CompiledArraySchema(String name, CompiledSchema<T> elementSchema, boolean coerce, boolean optional, boolean abortEarly,
+                        Issue parseIssue, Issue elementIssue, List<T> defaultValue,
+                        List<IntPredicate> sizeChecks, List<Issue> sizeIssues,
+                        boolean unique, Function<T, Object> uniqueBy, Issue uniqueIssue,
+                        int parallelThreshold, Executor executor, boolean dedupe) {
+        this.name = name;
+        this.elementSchema = elementSchema;
+        this.coerce = coerce;
+        this.abortEarly = abortEarly;
+        this.elementIssue = elementIssue;
+        this.sizeChecks = sizeChecks.toArray(new IntPredicate[0]);
+        this.sizeIssues = sizeIssues.toArray(new Issue[0]);
+        this.unique = unique;
+        this.uniqueBy = uniqueBy;
+        this.uniqueIssue = uniqueIssue;
+        this.parallelThreshold = parallelThreshold;
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+        this.parallelism = this.executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) this.executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.parseFailure = ParseResult.invalid(parseIssue);
+        this.dedupe = dedupe;
+
+        // Default congelado numa cópia imutável, calculada uma única vez
+        if (defaultValue != null) {
+            this.nullResult = ParseResult.success(List.copyOf(defaultValue));
+        } else if (optional) {
+            this.nullResult = ParseResult.success(List.of());
+        } else {
+            this.nullResult = parseFailure;
+        }
+    }
+
+    @Override
+    public ParseResult<List<T>> parse(Object value) {
+        if (value == null) {
+            return nullResult;
+        }
+        ArrayValidationEvent event = new ArrayValidationEvent();
+        event.begin();
+        ParseResult<List<T>> result = parseValue(value);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(name, value instanceof String ? ((String) value).length() : -1, elementCount(value, result), result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private ParseResult<List<T>> parseValue(Object value) {
+        // Coercion de string JSON: validada durante a leitura, sem lista intermediária
+        if (coerce && value instanceof String && startsWith((String) value, '[')) {
+            String text = (String) value;
+            ParseResult<List<T>> result = readStrict(JsonReader.of(text));
+            if (result != null && result.isSuccess()) {
+                return result;
+            }
+            // Compatibilidade: o formato solto das versões anteriores ("[a, b]"), com os elementos como texto.
+            // Vale se o JSON for inválido ou se só o formato solto passar na validação.
+            ParseResult<List<T>> looseResult = validateList(looseList(text));
+            return result == null || looseResult.isSuccess() ? looseResult : result;
+        }
+
+        // Coercion e conversão para lista
+        List<Object> array = convertToList(value);
+        if (array == null) {
+            return parseFailure;
+        }
+        return validateList(array);
+    }
+
+    private ParseResult<List<T>> validateList(List<Object> array) {
+        // Validações de array
+        int size = array.size();
+        ParseResult<List<T>> sizeFailure = checkSize(size);
+        if (sizeFailure != null) {
+            return sizeFailure;
+        }
+
+        // Validação de elementos
+        List<T> parsedElements = new ArrayList<>(size);
+        List<Integer> skipped = unique ? new ArrayList<>() : null;
+        List<Issue> elementErrors = new ArrayList<>();
+
+        if (parallelThreshold > 0 && size >= parallelThreshold) {
+            validateParallel(array, parsedElements, skipped, elementErrors);
+        } else {
+            DedupeScope<T> scope = dedupe ? new DedupeScope<>(elementSchema) : null;
+            for (int i = 0; i < size; i++) {
+                Object element = array.get(i);
+                ParseResult<T> elementResult = scope != null ? scope.parse(element) : elementSchema.parse(element);
+                if (!addElement(i, elementResult, parsedElements, skipped, elementErrors) && abortEarly) break;
+            }
+        }
+
+        return finish(parsedElements, skipped, elementErrors);
+    }
+
+    @Override
+    public ParseResult<List<T>> parseJson(JsonReader reader) {
+        ArrayValidationEvent event = new ArrayValidationEvent();
+        event.begin();
+        int start = reader.position();
+        ParseResult<List<T>> result = readJson(reader);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(name, reader.position() - start, elementCount(null, result), result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private ParseResult<List<T>> readJson(JsonReader reader) {
+        switch (reader.peek()) {
+            case BEGIN_ARRAY -> {
+                return parseJsonArray(reader);
+            }
+            case NULL -> {
+                reader.nextNull();
+                return nullResult;
+            }
+            default -> {
+                // Escalares (ex: string "1,2,3") seguem as regras de coerção normais
+                Object value = reader.readValue();
+                return value == null ? nullResult : parseValue(value);
+            }
+        }
+    }
+
+    /**
+     * Valida um documento JSON completo. JSON inválido (ou conteúdo sobrando depois dele) resulta no erro de parse.
+     */
+    ParseResult<List<T>> parseDocument(JsonReader reader) {
+        try {
+            ParseResult<List<T>> result = parseJson(reader);
+            if (result.isSuccess()) reader.endDocument();
+            return result;
+        } catch (JsonParseException e) {
+            return parseFailure;
+        }
+    }
+
+    // parseDocument sem evento próprio, para texto JSON que já está dentro de parse(Object).
+    // Null se o JSON for inválido (ou sobrar conteúdo depois dele)
+    private ParseResult<List<T>> readStrict(JsonReader reader) {
+        try {
+            ParseResult<List<T>> result = readJson(reader);
+            if (result.isSuccess()) reader.endDocument();
+            return result;
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    // Elementos validados: os do resultado, ou o tamanho da entrada em caso de falha; -1 se não se sabe
+    private static long elementCount(Object value, ParseResult<? extends List<?>> result) {
+        if (result.isSuccess() && result.getValue() != null) return result.getValue().size();
+        if (value instanceof Collection) return ((Collection<?>) value).size();
+        if (value != null && value.getClass().isArray()) return Array.getLength(value);
+        return -1;
+    }
+
+    /**
+     * Valida cada elemento enquanto lê o array. O tamanho só é conhecido no fim, então as
+     * regras de tamanho são conferidas depois, mas continuam tendo precedência sobre os erros de elemento.
+     */
+    private ParseResult<List<T>> parseJsonArray(JsonReader reader) {
+        List<T> parsedElements = new ArrayList<>();
+        List<Integer> skipped = unique ? new ArrayList<>() : null;
+        List<Issue> elementErrors = new ArrayList<>();
+        boolean stopped = false;
+        int size = 0;
+
+        DedupeScope<T> scope = dedupe ? new DedupeScope<>(elementSchema) : null;
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (stopped) {
+                // abortEarly: o resto só é contado para as regras de tamanho
+                reader.skipValue();
+            } else if (!addElement(size, parseElement(reader, scope), parsedElements, skipped, elementErrors)) {
+                stopped = abortEarly;
+            }
+            size++;
+        }
+        reader.endArray();
+
+        ParseResult<List<T>> sizeFailure = checkSize(size);
+        if (sizeFailure != null) {
+            return sizeFailure;
+        }
+        return finish(parsedElements, skipped, elementErrors);
+    }
+
+    // Escalares passam pelo dedupe; objetos e arrays continuam validados durante a leitura
+    private ParseResult<T> parseElement(JsonReader reader, DedupeScope<T> scope) {
+        if (scope == null) {
+            return elementSchema.parseJson(reader);
+        }
+        return switch (reader.peek()) {
+            case STRING, NUMBER, BOOLEAN -> scope.parse(reader.readValue());
+            default -> elementSchema.parseJson(reader);
+        };
+    }
+
+    private ParseResult<List<T>> checkSize(int size) {
+        List<Issue> errors = null;
+        for (int i = 0; i < sizeChecks.length; i++) {
+            if (!sizeChecks[i].test(size)) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(sizeIssues[i]);
+                if (abortEarly) break;
+            }
+        }
+        return errors == null ? null : ParseResult.invalid(errors);
+    }
+
+    /**
+     * Elementos null (optional) ficam fora do resultado; com {@code unique()} o índice deles vai para
+     * {@code skipped}, para os erros de duplicata apontarem a posição da entrada.
+     */
+    private boolean addElement(int index, ParseResult<T> elementResult, List<T> parsedElements,
+                               List<Integer> skipped, List<Issue> elementErrors) {
+        if (elementResult.isSuccess()) {
+            if (elementResult.getValue() != null) {
+                parsedElements.add(elementResult.getValue());
+            } else if (skipped != null) {
+                skipped.add(index);
+            }
+            return true;
+        }
+
+        elementErrors.add(Issue.element(index, elementResult.getIssues()));
+        return false;
+    }
+
+    /**
+     * Divide os elementos em fatias contíguas validadas no executor (a thread atual valida a primeira).
+     * Cada fatia escreve só no seu trecho dos arrays, e o merge segue a ordem original, então o resultado
+     * é idêntico ao sequencial. Com abortEarly, vale o erro de menor índice e as fatias posteriores param cedo.
+     */
+    @SuppressWarnings("unchecked")
+    private void validateParallel(List<Object> array, List<T> parsedElements, List<Integer> skipped,
+                                  List<Issue> elementErrors) {
+        int size = array.size();
+        Object[] values = new Object[size];
+        Issue[] errors = new Issue[size];
+        AtomicInteger firstError = new AtomicInteger(Integer.MAX_VALUE);
+
+        int segments = Math.max(1, Math.min(parallelism * 4, size / MIN_SEGMENT));
+        int step = (size + segments - 1) / segments;
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[segments - 1];
+        for (int s = 1; s < segments; s++) {
+            int from = s * step;
+            int to = Math.min(size, from + step);
+            tasks[s - 1] = CompletableFuture.runAsync(
+                    () -> validateRange(array, from, to, values, errors, firstError), executor);
+        }
+        validateRange(array, 0, Math.min(size, step), values, errors, firstError);
+
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+
+        int stop = abortEarly ? Math.min(firstError.get(), size - 1) : size - 1;
+        for (int i = 0; i <= stop; i++) {
+            if (errors[i] != null) {
+                elementErrors.add(errors[i]);
+            } else if (values[i] != null) {
+                parsedElements.add((T) values[i]);
+            } else if (skipped != null) {
+                skipped.add(i);
+            }
+        }
+    }
+
+    private void validateRange(List<Object> array, int from, int to, Object[] values, Issue[] errors,
+                               AtomicInteger firstError) {
+        DedupeScope<T> scope = dedupe ? new DedupeScope<>(elementSchema) : null;
+        for (int i = from; i < to; i++) {
+            if (abortEarly && i > firstError.get()) return;
+
+            Object element = array.get(i);
+            ParseResult<T> elementResult = scope != null ? scope.parse(element) : elementSchema.parse(element);
+            if (elementResult.isSuccess()) {
+                values[i] = elementResult.getValue();
+            } else {
+                errors[i] = Issue.element(i, elementResult.getIssues());
+                if (abortEarly) {
+                    firstError.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+
+    private ParseResult<List<T>> finish(List<T> parsedElements, List<Integer> skipped, List<Issue> elementErrors) {
+        List<Issue> errors = new ArrayList<>();
+
+        // Validação de unicidade (só faz sentido quando todos os elementos são válidos)
+        if (unique && elementErrors.isEmpty()) {
+            validateUniqueness(parsedElements, skipped, errors);
+        }
+
+        // Combinar erros
+        if (!elementErrors.isEmpty()) {
+            errors.add(elementIssue);
+            errors.addAll(elementErrors);
+        }
+
+        return errors.isEmpty()
+                ? ParseResult.success(parsedElements)
+                : ParseResult.invalid(errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> convertToList(Object value) {
+        if (value instanceof List) {
+            return (List<Object>) value;
+        }
+
+        if (coerce) {
+            // Coercion de array para lista
+            if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                List<Object> list = new ArrayList<>(array.length);
+                for (Object item : array) {
+                    list.add(item);
+                }
+                return list;
+            }
+            // Coercion de string para lista (ex: "1,2,3" -> ["1", "2", "3"]); arrays JSON são lidos em parse()
+            else if (value instanceof String) {
+                String[] parts = ((String) value).split(",");
+                List<Object> list = new ArrayList<>();
+                for (String part : parts) {
+                    list.add(part.trim());
+                }
+                return list;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Leitura das versões anteriores: sem os colchetes, separado por vírgula, sem tirar aspas.
+     */
+    private static List<Object> looseList(String text) {
+        String trimmed = text.trim();
+        String content = trimmed.endsWith("]") ? trimmed.substring(1, trimmed.length() - 1) : trimmed;
+        List<Object> list = new ArrayList<>();
+        for (String part : content.split(",")) {
+            list.add(part.trim());
+        }
+        return list;
+    }
+
+    private static boolean startsWith(String text, char c) {
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (!Character.isWhitespace(current)) return current == c;
+        }
+        return false;
+    }
+
+    /**
+     * Verificação por hash em O(n). Os índices reportados são os da entrada, contando os elementos null
+     * que ficaram fora da lista validada.
+     */
+    private void validateUniqueness(List<T> elements, List<Integer> skipped, List<Issue> errors) {
+        if (elements == null || elements.size() < 2) return;
+
+        List<?> keys = elements;
+        if (uniqueBy != null) {
+            // Unicidade baseada em propriedade
+            List<Object> derived = new ArrayList<>(elements.size());
+            for (T element : elements) {
+                derived.add(uniqueBy.apply(element));
+            }
+            keys = derived;
+        }
+
+        int[] duplicate = UniqueIndex.firstDuplicate(keys);
+        if (duplicate != null) {
+            errors.add(uniqueIssue);
+            errors.add(Issue.of(IssueCode.DUPLICATE_ELEMENT,
+                    inputIndex(duplicate[0], skipped), inputIndex(duplicate[1], skipped)));
+        }
+    }
+
+    // skipped está em ordem crescente: cada null até a posição empurra o índice uma casa
+    private static int inputIndex(int parsedIndex, List<Integer> skipped) {
+        int index = parsedIndex;
+        for (int nullIndex : skipped) {
+            if (nullIndex > index) break;
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,86 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plano imutável de um {@link DoubleArraySchema}.
+ */
+final class CompiledDoubleArraySchema extends CompiledPrimitiveArraySchema<double[]> {
+    private static final double[] EMPTY = new double[0];
+
+    private final boolean checked;
+    private final double min;
+    private final double max;
+    private final boolean finite;
+    private final Issue belowMin;
+    private final Issue aboveMax;
+    private final Issue notFinite;
+
+    CompiledDoubleArraySchema(DoubleArraySchema schema, boolean abortEarly) {
+        super(schema, abortEarly, EMPTY, schema.defaultValue != null ? schema.defaultValue.clone() : null);
+        this.checked = schema.min != null || schema.max != null || schema.finite;
+        this.min = schema.min != null ? schema.min : Double.NEGATIVE_INFINITY;
+        this.max = schema.max != null ? schema.max : Double.POSITIVE_INFINITY;
+        this.finite = schema.finite;
+        this.belowMin = Issue.withMessage(IssueCode.TOO_SMALL, minError, min);
+        this.aboveMax = Issue.withMessage(IssueCode.TOO_BIG, maxError, max);
+        this.notFinite = Issue.withMessage(IssueCode.NOT_FINITE, schema.finiteError);
+    }
+
+    @Override
+    double[] toArray(Object value) {
+        if (value instanceof double[]) {
+            return (double[]) value;
+        }
+
+        List<?> list = coercibleList(value);
+        if (list == null) return null;
+
+        double[] array = new double[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            Object element = list.get(i);
+            if (!(element instanceof Number)) return null;
+            array[i] = ((Number) element).doubleValue();
+        }
+        return array;
+    }
+
+    @Override
+    int length(double[] array) {
+        return array.length;
+    }
+
+    @Override
+    double[] copy(double[] array) {
+        return array.clone();
+    }
+
+    @Override
+    int firstInvalid(double[] array, int from) {
+        return checked ? ArrayKernels.firstInvalid(array, from, min, max, finite) : -1;
+    }
+
+    @Override
+    List<Issue> invalidIssues(double[] array, int index) {
+        double value = array[index];
+        List<Issue> issues = new ArrayList<>(2);
+        if (value < min) issues.add(belowMin);
+        if (value > max) issues.add(aboveMax);
+        if (finite && !Double.isFinite(value)) issues.add(notFinite);
+        return issues;
+    }
+
+    @Override
+    int firstUnordered(double[] array, int from) {
+        return ArrayKernels.firstUnordered(array, from, descending, strictOrder);
+    }
+
+    @Override
+    int[] firstDuplicate(double[] array) {
+        return UniqueIndex.firstDuplicate(array);
+    }
+}
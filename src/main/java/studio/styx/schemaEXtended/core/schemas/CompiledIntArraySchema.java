@@ -0,0 +1,78 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.util.List;
+
+/**
+ * Plano imutável de um {@link IntArraySchema}.
+ */
+final class CompiledIntArraySchema extends CompiledPrimitiveArraySchema<int[]> {
+    private static final int[] EMPTY = new int[0];
+
+    private final boolean bounded;
+    private final int min;
+    private final int max;
+    private final List<Issue> belowMin;
+    private final List<Issue> aboveMax;
+
+    CompiledIntArraySchema(IntArraySchema schema, boolean abortEarly) {
+        super(schema, abortEarly, EMPTY, schema.defaultValue != null ? schema.defaultValue.clone() : null);
+        this.bounded = schema.min != null || schema.max != null;
+        this.min = schema.min != null ? schema.min : Integer.MIN_VALUE;
+        this.max = schema.max != null ? schema.max : Integer.MAX_VALUE;
+        this.belowMin = List.of(Issue.withMessage(IssueCode.TOO_SMALL, minError, min));
+        this.aboveMax = List.of(Issue.withMessage(IssueCode.TOO_BIG, maxError, max));
+    }
+
+    @Override
+    int[] toArray(Object value) {
+        if (value instanceof int[]) {
+            return (int[]) value;
+        }
+
+        List<?> list = coercibleList(value);
+        if (list == null) return null;
+
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            Object element = list.get(i);
+            if (!isIntegral(element)) return null;
+            long number = ((Number) element).longValue();
+            if (number != (int) number) return null;
+            array[i] = (int) number;
+        }
+        return array;
+    }
+
+    @Override
+    int length(int[] array) {
+        return array.length;
+    }
+
+    @Override
+    int[] copy(int[] array) {
+        return array.clone();
+    }
+
+    @Override
+    int firstInvalid(int[] array, int from) {
+        return bounded ? ArrayKernels.firstOutside(array, from, min, max) : -1;
+    }
+
+    @Override
+    List<Issue> invalidIssues(int[] array, int index) {
+        return array[index] < min ? belowMin : aboveMax;
+    }
+
+    @Override
+    int firstUnordered(int[] array, int from) {
+        return ArrayKernels.firstUnordered(array, from, descending, strictOrder);
+    }
+
+    @Override
+    int[] firstDuplicate(int[] array) {
+        return UniqueIndex.firstDuplicate(array);
+    }
+}
@@ -0,0 +1,76 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.util.List;
+
+/**
+ * Plano imutável de um {@link LongArraySchema}.
+ */
+final class CompiledLongArraySchema extends CompiledPrimitiveArraySchema<long[]> {
+    private static final long[] EMPTY = new long[0];
+
+    private final boolean bounded;
+    private final long min;
+    private final long max;
+    private final List<Issue> belowMin;
+    private final List<Issue> aboveMax;
+
+    CompiledLongArraySchema(LongArraySchema schema, boolean abortEarly) {
+        super(schema, abortEarly, EMPTY, schema.defaultValue != null ? schema.defaultValue.clone() : null);
+        this.bounded = schema.min != null || schema.max != null;
+        this.min = schema.min != null ? schema.min : Long.MIN_VALUE;
+        this.max = schema.max != null ? schema.max : Long.MAX_VALUE;
+        this.belowMin = List.of(Issue.withMessage(IssueCode.TOO_SMALL, minError, min));
+        this.aboveMax = List.of(Issue.withMessage(IssueCode.TOO_BIG, maxError, max));
+    }
+
+    @Override
+    long[] toArray(Object value) {
+        if (value instanceof long[]) {
+            return (long[]) value;
+        }
+
+        List<?> list = coercibleList(value);
+        if (list == null) return null;
+
+        long[] array = new long[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            Object element = list.get(i);
+            if (!isIntegral(element)) return null;
+            array[i] = ((Number) element).longValue();
+        }
+        return array;
+    }
+
+    @Override
+    int length(long[] array) {
+        return array.length;
+    }
+
+    @Override
+    long[] copy(long[] array) {
+        return array.clone();
+    }
+
+    @Override
+    int firstInvalid(long[] array, int from) {
+        return bounded ? ArrayKernels.firstOutside(array, from, min, max) : -1;
+    }
+
+    @Override
+    List<Issue> invalidIssues(long[] array, int index) {
+        return array[index] < min ? belowMin : aboveMax;
+    }
+
+    @Override
+    int firstUnordered(long[] array, int from) {
+        return ArrayKernels.firstUnordered(array, from, descending, strictOrder);
+    }
+
+    @Override
+    int[] firstDuplicate(long[] array) {
+        return UniqueIndex.firstDuplicate(array);
+    }
+}
@@ -0,0 +1,678 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ObjectShape;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.exceptions.JsonParseException;
+import studio.styx.schemaEXtended.core.exceptions.SchemaBindingException;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.jfr.ObjectValidationEvent;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+import studio.styx.schemaEXtended.core.json.JsonToken;
+import studio.styx.schemaEXtended.core.metrics.MeteredSchema;
+import studio.styx.schemaEXtended.core.reflect.ObjectBinder;
+import studio.styx.schemaEXtended.core.reflect.PropertyAccessors;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano imutável de um {@link ObjectSchema}, com os schemas filhos já compilados.
+ */
+final class CompiledObjectSchema implements CompiledSchema<ObjectSchemaResult> {
+    private static final List<Issue> UNKNOWN_PROPERTY = List.of(Issue.of(IssueCode.UNKNOWN_PROPERTY));
+    private static final List<Issue> INVALID_VALUE = List.of(Issue.of(IssueCode.INVALID_VALUE));
+    private static final Issue REQUIRED = Issue.of(IssueCode.REQUIRED);
+
+    private final String name;
+    private final boolean coerce;
+    private final boolean optional;
+    private final boolean rejectUnknown;
+    private final boolean abortEarly;
+    private final ParseResult<ObjectSchemaResult> nullResult;
+    private final ParseResult<ObjectSchemaResult> parseFailure;
+    private final ObjectShape shape;
+    private final SlotSink<ObjectSchemaResult> resultSink;
+
+    // Um validador por propriedade declarada; uma chave em properties e partialProperties ocupa o mesmo slot
+    private final String[] names;
+    private final CompiledSchema<?>[] schemas;
+    private final boolean[] required;
+    private final int[] slots;
+    private final boolean[] firstForSlot;
+    // Validadores de cada slot (usado na leitura de JSON, onde o valor chega por chave)
+    private final int[][] slotValidators;
+
+    // Plano gerado (ObjectPlanGenerator), criado no primeiro uso e reaproveitado enquanto este plano viver
+    private volatile CompiledSchema<ObjectSchemaResult> generated;
+
+    private final ClassValue<PojoReader> pojoReaders = new ClassValue<>() {
+        @Override
+        protected PojoReader computeValue(Class<?> type) {
+            return new PojoReader(type);
+        }
+    };
+
+    private final ClassValue<BoundPlan<?>> boundPlans = new ClassValue<>() {
+        @Override
+        protected BoundPlan<?> computeValue(Class<?> type) {
+            return new BoundPlan<>(type);
+        }
+    };
+
+    CompiledObjectSchema(String name, boolean coerce, boolean optional, boolean rejectUnknown, boolean abortEarly,
+                         Issue parseIssue, Map<String, CompiledSchema<?>> properties,
+                         Map<String, CompiledSchema<?>> partialProperties, Map<String, ObjectShape.SlotType> slotTypes) {
+        this.name = name;
+        this.coerce = coerce;
+        this.optional = optional;
+        this.rejectUnknown = rejectUnknown;
+        this.abortEarly = abortEarly;
+        this.parseFailure = ParseResult.invalid(parseIssue);
+
+        this.shape = new ObjectShape(
+                slotTypes.keySet().toArray(new String[0]),
+                slotTypes.values().toArray(new ObjectShape.SlotType[0])
+        );
+        this.resultSink = (values, primitives) -> new ObjectSchemaResult(shape, values, primitives);
+        this.nullResult = optional
+                ? ParseResult.success(new ObjectSchemaResult(shape, new Object[shape.size()], null))
+                : ParseResult.invalid(REQUIRED);
+
+        // Obrigatórias primeiro, parciais depois (mesma ordem do parse original)
+        int size = properties.size() + partialProperties.size();
+        this.names = new String[size];
+        this.schemas = new CompiledSchema<?>[size];
+        this.required = new boolean[size];
+        this.slots = new int[size];
+        this.firstForSlot = new boolean[size];
+
+        boolean[] seen = new boolean[shape.size()];
+        int i = 0;
+        for (Map.Entry<String, CompiledSchema<?>> entry : properties.entrySet()) {
+            required[i] = true;
+            i = addValidator(i, entry.getKey(), entry.getValue(), seen);
+        }
+        for (Map.Entry<String, CompiledSchema<?>> entry : partialProperties.entrySet()) {
+            i = addValidator(i, entry.getKey(), entry.getValue(), seen);
+        }
+
+        int[] counts = new int[shape.size()];
+        for (int slot : slots) counts[slot]++;
+        this.slotValidators = new int[shape.size()][];
+        for (int slot = 0; slot < counts.length; slot++) {
+            slotValidators[slot] = new int[counts[slot]];
+            counts[slot] = 0;
+        }
+        for (int v = 0; v < size; v++) {
+            slotValidators[slots[v]][counts[slots[v]]++] = v;
+        }
+    }
+
+    private int addValidator(int i, String name, CompiledSchema<?> schema, boolean[] seen) {
+        int slot = shape.indexOf(name);
+        names[i] = name;
+        schemas[i] = schema;
+        slots[i] = slot;
+        firstForSlot[i] = !seen[slot];
+        seen[slot] = true;
+        return i + 1;
+    }
+
+    /**
+     * Este plano compilado para uma classe gerada. Uma classe por plano: pais recompilados reaproveitam
+     * a dos filhos que não mudaram.
+     */
+    CompiledSchema<ObjectSchemaResult> generated() {
+        CompiledSchema<ObjectSchemaResult> plan = generated;
+        if (plan == null) {
+            synchronized (this) {
+                plan = generated;
+                if (plan == null) {
+                    plan = ObjectPlanGenerator.generate(this);
+                    generated = plan;
+                }
+            }
+        }
+        return plan;
+    }
+
+    ObjectShape getShape() {
+        return shape;
+    }
+
+    /**
+     * Plano tipado que escreve os valores validados direto na classe de destino. Resolvido uma vez por classe.
+     */
+    @SuppressWarnings("unchecked")
+    <R> CompiledSchema<R> into(Class<R> type) {
+        return (CompiledSchema<R>) boundPlans.get(type);
+    }
+
+    @Override
+    public ParseResult<ObjectSchemaResult> parse(Object value) {
+        if (value == null) {
+            return nullResult;
+        }
+        return parseWith(value, schemas, resultSink);
+    }
+
+    @Override
+    public ParseResult<ObjectSchemaResult> parseJson(JsonReader reader) {
+        return parseJson(reader, schemas, resultSink, nullResult);
+    }
+
+    /**
+     * Valida um documento JSON completo. JSON inválido (ou conteúdo sobrando depois dele) resulta no erro de parse.
+     */
+    ParseResult<ObjectSchemaResult> parseDocument(JsonReader reader) {
+        try {
+            ParseResult<ObjectSchemaResult> result = parseJson(reader);
+            if (result.isSuccess()) reader.endDocument();
+            return result;
+        } catch (JsonParseException e) {
+            return parseFailure;
+        }
+    }
+
+    private <R> ParseResult<R> parseWith(Object value, CompiledSchema<?>[] schemas, SlotSink<R> sink) {
+        ObjectValidationEvent event = new ObjectValidationEvent();
+        event.begin();
+        ParseResult<R> result = parseValue(value, schemas, sink);
+        commit(event, value, result);
+        return result;
+    }
+
+    private void commit(ObjectValidationEvent event, Object value, ParseResult<?> result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(name, value instanceof String ? ((String) value).length() : -1,
+                    value instanceof Map ? ((Map<?, ?>) value).size() : -1, result);
+            event.commit();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> ParseResult<R> parseValue(Object value, CompiledSchema<?>[] schemas, SlotSink<R> sink) {
+        ParseResult<R> failure = (ParseResult<R>) (ParseResult<?>) parseFailure;
+
+        // Caso 1: Já é um Map (apenas lido, não precisa de cópia)
+        if (value instanceof Map) {
+            return parseInternal(asStringMap(value), null, null, schemas, sink);
+        }
+
+        // Caso 2: Se Coerce estiver DESLIGADO, não tentamos converter Strings ou Objetos
+        if (!coerce) {
+            return failure;
+        }
+
+        // Caso 3: É uma String (JSON validado durante a leitura, ou Key-Value)
+        if (value instanceof String) {
+            String text = (String) value;
+            if (startsWith(text, '{')) {
+                ParseResult<R> result;
+                JsonReader reader = JsonReader.of(text);
+                try {
+                    result = parseJsonObject(reader, schemas, sink);
+                    if (result.isSuccess()) reader.endDocument();
+                } catch (JsonParseException e) {
+                    result = null;
+                }
+                if (result != null && result.isSuccess()) {
+                    return result;
+                }
+                // Compatibilidade: o formato solto das versões anteriores ("{'a': 1}") com todos os valores
+                // como texto. Vale se o JSON for inválido ou se só o formato solto passar na validação.
+                String trimmed = text.trim();
+                Map<String, Object> loose = trimmed.endsWith("}")
+                        ? parseLooseJson(trimmed)
+                        : parseKeyValueString(trimmed);
+                ParseResult<R> looseResult = loose == null ? failure : parseInternal(loose, null, null, schemas, sink);
+                return result == null || looseResult.isSuccess() ? looseResult : result;
+            }
+            Map<String, Object> objectMap = parseKeyValueString(text.trim());
+            return objectMap == null ? failure : parseInternal(objectMap, null, null, schemas, sink);
+        }
+
+        // Caso 4: É um Objeto POJO/record - lido direto pelos getters em cache, sem montar Map
+        // Evita tentar converter primitivos ou wrappers como se fossem POJOs complexos
+        if (isPrimitiveOrWrapper(value.getClass())) {
+            return failure;
+        }
+        return parseInternal(null, value, pojoReaders.get(value.getClass()), schemas, sink);
+    }
+
+    // --- Lógica Principal de Validação ---
+
+    private <R> ParseResult<R> parseInternal(Map<String, Object> objectMap, Object pojo, PojoReader reader,
+                                             CompiledSchema<?>[] schemas, SlotSink<R> sink) {
+        Fill fill = new Fill(objectMap, shape, null);
+
+        for (int i = 0; i < names.length; i++) {
+            Object val = reader != null ? reader.read(i, pojo) : objectMap.get(names[i]);
+            // Se o valor não existe no map, passamos null para o schema filho decidir (ele pode ter default value)
+            if (fill(fill, i, schemas[i].parse(val), val)) {
+                return fieldFailure(fill.fieldErrors);
+            }
+        }
+        return finish(fill, reader, sink);
+    }
+
+    /**
+     * Guarda o resultado do validador {@code i}; true se a validação deve parar aqui (abortEarly com erro).
+     */
+    boolean fill(Fill fill, int i, ParseResult<?> result, Object val) {
+        if (fill.map != null && firstForSlot[i] && (val != null || fill.map.containsKey(names[i]))) {
+            fill.knownKeysPresent++;
+        }
+        fill.fieldErrors = apply(i, result, val != null, fill.values, fill.primitives, fill.fieldErrors);
+        fill.aborted = abortEarly && fill.fieldErrors != null;
+        return fill.aborted;
+    }
+
+    private <R> ParseResult<R> finish(Fill fill, PojoReader reader, SlotSink<R> sink) {
+        Map<String, Issue> fieldErrors = fill.fieldErrors;
+
+        // Validação Strict (Campos desconhecidos): só percorre as chaves se sobrou alguma não declarada
+        if (rejectUnknown && reader != null) {
+            for (String key : reader.unknownKeys) {
+                if (fieldErrors == null) fieldErrors = new LinkedHashMap<>();
+                fieldErrors.put(key, Issue.field(key, UNKNOWN_PROPERTY));
+                if (abortEarly) break;
+            }
+        } else if (rejectUnknown && fill.map.size() > fill.knownKeysPresent) {
+            for (String key : fill.map.keySet()) {
+                if (shape.indexOf(key) < 0) {
+                    if (fieldErrors == null) fieldErrors = new LinkedHashMap<>();
+                    fieldErrors.put(key, Issue.field(key, UNKNOWN_PROPERTY));
+                    if (abortEarly) break;
+                }
+            }
+        }
+
+        if (fieldErrors == null) {
+            return ParseResult.success(sink.build(fill.values, fill.primitives));
+        } else {
+            return fieldFailure(fieldErrors);
+        }
+    }
+
+    // --- Entrada do código gerado (ObjectPlanGenerator) ---
+    // O laço sobre as propriedades fica na classe gerada; o resto é o mesmo do caminho interpretado.
+
+    Fill beginMap(Object value) {
+        ObjectValidationEvent event = new ObjectValidationEvent();
+        event.begin();
+        return new Fill(asStringMap(value), shape, event);
+    }
+
+    ParseResult<ObjectSchemaResult> endMap(Fill fill) {
+        ParseResult<ObjectSchemaResult> result = fill.aborted
+                ? fieldFailure(fill.fieldErrors)
+                : finish(fill, null, resultSink);
+        commit(fill.event, fill.map, result);
+        return result;
+    }
+
+    /**
+     * Nome da propriedade de cada validador, na ordem em que são executados.
+     */
+    String[] validatorNames() {
+        return names.clone();
+    }
+
+    CompiledSchema<?>[] validatorSchemas() {
+        return schemas.clone();
+    }
+
+    /**
+     * Estado de uma validação de Map ou POJO: slots preenchidos e erros até aqui.
+     */
+    static final class Fill {
+        final Map<String, Object> map; // null para POJO
+        final Object[] values;
+        final long[] primitives;
+        final ObjectValidationEvent event; // só no código gerado
+        Map<String, Issue> fieldErrors;
+        int knownKeysPresent;
+        boolean aborted;
+
+        Fill(Map<String, Object> map, ObjectShape shape, ObjectValidationEvent event) {
+            this.map = map;
+            this.values = new Object[shape.size()];
+            this.primitives = shape.hasPrimitives() ? new long[shape.size()] : null;
+            this.event = event;
+        }
+
+        Object get(String name) {
+            return map.get(name);
+        }
+    }
+
+    // --- Leitura de JSON (passada única) ---
+
+    private <R> ParseResult<R> parseJson(JsonReader reader, CompiledSchema<?>[] schemas, SlotSink<R> sink,
+                                         ParseResult<R> nullResult) {
+        ObjectValidationEvent event = new ObjectValidationEvent();
+        event.begin();
+        int start = reader.position();
+        ParseResult<R> result = readJson(reader, schemas, sink, nullResult);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(name, reader.position() - start, -1, result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private <R> ParseResult<R> readJson(JsonReader reader, CompiledSchema<?>[] schemas, SlotSink<R> sink,
+                                        ParseResult<R> nullResult) {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT -> {
+                return parseJsonObject(reader, schemas, sink);
+            }
+            case NULL -> {
+                reader.nextNull();
+                return nullResult;
+            }
+            default -> {
+                // Escalares (ex: string "a=1") seguem as regras de coerção normais
+                return parseValue(reader.readValue(), schemas, sink);
+            }
+        }
+    }
+
+    /**
+     * Valida o objeto enquanto lê: cada chave é casada com a forma sem virar String, o valor vai direto
+     * para o schema filho e valores de chaves desconhecidas são pulados sem serem materializados.
+     */
+    private <R> ParseResult<R> parseJsonObject(JsonReader reader, CompiledSchema<?>[] schemas, SlotSink<R> sink) {
+        Object[] values = new Object[shape.size()];
+        long[] primitives = shape.hasPrimitives() ? new long[shape.size()] : null;
+        boolean[] present = new boolean[shape.size()];
+        Map<String, Issue> fieldErrors = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int slot = reader.nextKeySlot(shape);
+            if (slot < 0) {
+                if (rejectUnknown) {
+                    if (fieldErrors == null) fieldErrors = new LinkedHashMap<>();
+                    String key = reader.lastKey();
+                    fieldErrors.put(key, Issue.field(key, UNKNOWN_PROPERTY));
+                }
+                reader.skipValue();
+                if (abortEarly && fieldErrors != null) {
+                    return abortJsonObject(reader, fieldErrors);
+                }
+                continue;
+            }
+
+            int[] validators = slotValidators[slot];
+            if (present[slot]) {
+                // Chave repetida: vale a última ocorrência, como num Map
+                values[slot] = null;
+                if (fieldErrors != null) {
+                    for (int i : validators) fieldErrors.remove(names[i]);
+                }
+            }
+            present[slot] = true;
+
+            boolean hasValue = reader.peek() != JsonToken.NULL;
+            if (validators.length == 1) {
+                int i = validators[0];
+                fieldErrors = apply(i, schemas[i].parseJson(reader), hasValue, values, primitives, fieldErrors);
+            } else {
+                // Mesma chave em properties e partialProperties: o valor é lido uma vez para os dois
+                Object shared = reader.readValue();
+                for (int i : validators) {
+                    fieldErrors = apply(i, schemas[i].parse(shared), hasValue, values, primitives, fieldErrors);
+                }
+            }
+            if (abortEarly && fieldErrors != null) {
+                return abortJsonObject(reader, fieldErrors);
+            }
+        }
+        reader.endObject();
+
+        // Propriedades ausentes: o schema filho decide (default value, optional ou erro)
+        for (int i = 0; i < names.length; i++) {
+            if (!present[slots[i]]) {
+                fieldErrors = apply(i, schemas[i].parse(null), false, values, primitives, fieldErrors);
+                if (abortEarly && fieldErrors != null) {
+                    return fieldFailure(fieldErrors);
+                }
+            }
+        }
+
+        if (fieldErrors == null) {
+            return ParseResult.success(sink.build(values, primitives));
+        } else {
+            return fieldFailure(fieldErrors);
+        }
+    }
+
+    /**
+     * abortEarly no meio do objeto: o resto é pulado até o fechamento, para o leitor de quem chamou
+     * (array ou objeto pai) continuar no lugar certo.
+     */
+    private <R> ParseResult<R> abortJsonObject(JsonReader reader, Map<String, Issue> fieldErrors) {
+        while (reader.hasNext()) {
+            reader.nextKeySlot(shape);
+            reader.skipValue();
+        }
+        reader.endObject();
+        return fieldFailure(fieldErrors);
+    }
+
+    /**
+     * Guarda o resultado de um validador no slot, ou registra o erro do campo.
+     */
+    private Map<String, Issue> apply(int i, ParseResult<?> result, boolean hasValue,
+                                      Object[] values, long[] primitives, Map<String, Issue> fieldErrors) {
+        if (result.isSuccess()) {
+            Object parsed = result.getValue();
+            if (parsed != null) {
+                store(slots[i], parsed, values, primitives);
+            }
+        } else if (required[i] || hasValue) {
+            // Se for opcional (partial) e o valor não existia, ignoramos o erro
+            if (fieldErrors == null) fieldErrors = new LinkedHashMap<>();
+            // O caminho só é montado aqui, quando o campo falha: a árvore do filho é guardada inteira
+            List<Issue> causes = result.getIssues();
+            fieldErrors.put(names[i], Issue.field(names[i], causes.isEmpty() ? INVALID_VALUE : causes));
+        }
+        return fieldErrors;
+    }
+
+    private static <R> ParseResult<R> fieldFailure(Map<String, Issue> fieldErrors) {
+        return ParseResult.invalidFields(new ArrayList<>(fieldErrors.values()));
+    }
+
+    private void store(int slot, Object value, Object[] values, long[] primitives) {
+        switch (shape.type(slot)) {
+            case INT -> {
+                if (value instanceof Integer) {
+                    primitives[slot] = (Integer) value;
+                    values[slot] = ObjectShape.PRIMITIVE;
+                    return;
+                }
+            }
+            case LONG -> {
+                if (value instanceof Long) {
+                    primitives[slot] = (Long) value;
+                    values[slot] = ObjectShape.PRIMITIVE;
+                    return;
+                }
+            }
+            case DOUBLE -> {
+                if (value instanceof Double) {
+                    primitives[slot] = Double.doubleToRawLongBits((Double) value);
+                    values[slot] = ObjectShape.PRIMITIVE;
+                    return;
+                }
+            }
+            default -> {
+            }
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Destino dos slots preenchidos: o {@link ObjectSchemaResult} ou um objeto montado pelo {@link ObjectBinder}.
+     */
+    @FunctionalInterface
+    private interface SlotSink<R> {
+        R build(Object[] values, long[] primitives);
+    }
+
+    /**
+     * Plano tipado para uma classe de destino. Mesmas regras do plano base; propriedades que são
+     * objetos aninhados também são montadas no tipo declarado pela classe (ex: record dentro de record).
+     */
+    private final class BoundPlan<R> implements CompiledSchema<R> {
+        private final ObjectBinder<R> binder;
+        private final CompiledSchema<?>[] boundSchemas;
+        private final ParseResult<R> nullResult;
+
+        BoundPlan(Class<R> type) {
+            this.binder = ObjectBinder.of(type, shape);
+            this.boundSchemas = schemas.clone();
+            for (int i = 0; i < boundSchemas.length; i++) {
+                // Filhos com métricas ou memoização vêm embrulhados: o plano tipado continua medido
+                if (boundSchemas[i].unwrap() instanceof CompiledObjectSchema nested) {
+                    Class<?> propertyType = ObjectBinder.propertyType(type, names[i]);
+                    if (propertyType != null && ObjectBinder.isBindable(propertyType)) {
+                        boundSchemas[i] = MeteredSchema.like(boundSchemas[i], nested.into(propertyType));
+                    }
+                }
+            }
+            this.nullResult = optional
+                    ? ParseResult.success(null)
+                    : ParseResult.invalid(REQUIRED);
+        }
+
+        @Override
+        public ParseResult<R> parse(Object value) {
+            if (value == null) {
+                return nullResult;
+            }
+            try {
+                return parseWith(value, boundSchemas, binder::bind);
+            } catch (SchemaBindingException e) {
+                return ParseResult.failure(Map.of(e.getProperty(), e.getMessage()));
+            }
+        }
+
+        @Override
+        public ParseResult<R> parseJson(JsonReader reader) {
+            try {
+                return CompiledObjectSchema.this.parseJson(reader, boundSchemas, binder::bind, nullResult);
+            } catch (SchemaBindingException e) {
+                return ParseResult.failure(Map.of(e.getProperty(), e.getMessage()));
+            }
+        }
+    }
+
+    // --- Lógica de Conversão ---
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asStringMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static boolean startsWith(String text, char c) {
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (!Character.isWhitespace(current)) return current == c;
+        }
+        return false;
+    }
+
+    /**
+     * Plano de leitura de uma classe POJO/record para este schema: só as propriedades
+     * declaradas no schema são lidas. Calculado uma vez por classe.
+     */
+    private final class PojoReader {
+        private final MethodHandle[] getters;
+        private final List<String> unknownKeys;
+
+        PojoReader(Class<?> type) {
+            PropertyAccessors accessors = PropertyAccessors.of(type);
+            this.getters = new MethodHandle[names.length];
+            for (int i = 0; i < names.length; i++) {
+                getters[i] = accessors.getter(names[i]);
+            }
+
+            List<String> unknown = new ArrayList<>();
+            for (String property : accessors.names()) {
+                if (shape.indexOf(property) < 0) unknown.add(property);
+            }
+            this.unknownKeys = List.copyOf(unknown);
+        }
+
+        Object read(int validator, Object pojo) {
+            MethodHandle getter = getters[validator];
+            return getter == null ? null : PropertyAccessors.read(getter, pojo);
+        }
+    }
+
+    /**
+     * Parser simples para strings estilo: "key=value, key2=value2"
+     * Suporta separadores: , ; &
+     */
+    private static Map<String, Object> parseKeyValueString(String text) {
+        Map<String, Object> map = new HashMap<>();
+        // Quebra por virgula, ponto-virgula ou &
+        String[] pairs = text.split("[,;&]");
+
+        for (String pair : pairs) {
+            String[] kv = pair.split("=", 2);
+            if (kv.length == 2) {
+                String key = kv[0].trim();
+                String val = kv[1].trim();
+                map.put(key, val);
+            }
+        }
+        return map.isEmpty() ? null : map;
+    }
+
+    /**
+     * Parser rudimentar para JSON plano com aspas simples ou duplas (ex: "{'a': 1, 'b': 'texto'}").
+     * Não entende valores com vírgula nem objetos aninhados; todos os valores ficam como String.
+     */
+    private static Map<String, Object> parseLooseJson(String json) {
+        Map<String, Object> map = new HashMap<>();
+        String content = json.substring(1, json.length() - 1);
+
+        for (String entry : content.split(",")) {
+            String[] kv = entry.split(":", 2);
+            if (kv.length == 2) {
+                map.put(unquote(kv[0].trim()), unquote(kv[1].trim()));
+            }
+        }
+        return map;
+    }
+
+    // Remove uma aspa (simples ou dupla) de cada ponta, como o parser original
+    private static String unquote(String text) {
+        int start = text.startsWith("\"") || text.startsWith("'") ? 1 : 0;
+        int end = text.length() > start && (text.endsWith("\"") || text.endsWith("'")) ? text.length() - 1 : text.length();
+        return text.substring(start, end);
+    }
+
+    private static boolean isPrimitiveOrWrapper(Class<?> clazz) {
+        return clazz.isPrimitive() ||
+                clazz == Double.class || clazz == Float.class ||
+                clazz == Long.class || clazz == Integer.class ||
+                clazz == Short.class || clazz == Character.class ||
+                clazz == Byte.class || clazz == Boolean.class ||
+                clazz == String.class;
+    }
+}
\ No newline at end of file
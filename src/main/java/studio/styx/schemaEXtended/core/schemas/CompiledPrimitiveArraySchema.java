@@ -0,0 +1,166 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plano imutável de um {@link PrimitiveArraySchema}. As regras por elemento são varridas pelos
+ * {@link ArrayKernels}; o caminho com erros só é percorrido elemento a elemento a partir do primeiro inválido.
+ */
+abstract class CompiledPrimitiveArraySchema<A> implements CompiledSchema<A> {
+    final boolean coerce;
+    final boolean abortEarly;
+    final boolean descending;
+    final boolean strictOrder;
+    final String minError;
+    final String maxError;
+    private final ParseResult<A> nullResult;
+    private final A defaultValue; // entregue como cópia a cada null: o array devolvido pode ser alterado
+    private final ParseResult<A> parseFailure;
+    private final int minLength;
+    private final int maxLength;
+    private final Issue minLengthIssue;
+    private final Issue maxLengthIssue;
+    private final Issue elementIssue;
+    private final boolean ordered;
+    private final Issue orderIssue;
+    private final boolean unique;
+    private final Issue uniqueIssue;
+
+    CompiledPrimitiveArraySchema(PrimitiveArraySchema<A> schema, boolean abortEarly, A emptyArray, A defaultCopy) {
+        this.coerce = schema.isCoerce();
+        this.abortEarly = abortEarly;
+        this.descending = schema.descending;
+        this.strictOrder = schema.strictOrder;
+        this.minError = schema.minError;
+        this.maxError = schema.maxError;
+        this.minLength = schema.minLength != null ? schema.minLength : 0;
+        this.maxLength = schema.maxLength != null ? schema.maxLength : Integer.MAX_VALUE;
+        this.minLengthIssue = ArraySchema.sizeIssue(schema.minLengthCode, schema.minLengthError, minLength);
+        this.maxLengthIssue = ArraySchema.sizeIssue(schema.maxLengthCode, schema.maxLengthError, maxLength);
+        this.elementIssue = Issue.withMessage(IssueCode.INVALID_ELEMENTS, schema.elementError);
+        this.ordered = schema.ordered;
+        this.orderIssue = Issue.withMessage(schema.orderCode(), schema.orderError);
+        this.unique = schema.unique;
+        this.uniqueIssue = Issue.withMessage(IssueCode.NOT_UNIQUE, schema.uniqueError);
+        this.parseFailure = ParseResult.invalid(Issue.withMessage(IssueCode.NOT_ARRAY, schema.parseError));
+
+        // Default congelado numa cópia; nullResult só é usado sem default
+        this.defaultValue = defaultCopy;
+        if (defaultCopy != null) {
+            this.nullResult = null;
+        } else if (schema.isOptional()) {
+            this.nullResult = ParseResult.success(emptyArray);
+        } else {
+            this.nullResult = parseFailure;
+        }
+    }
+
+    // --- Especialização por tipo ---
+
+    /** O próprio array, uma cópia convertida (só com coerce), ou null se o valor não for aceito. */
+    abstract A toArray(Object value);
+
+    abstract int length(A array);
+
+    abstract A copy(A array);
+
+    /** Primeiro elemento fora dos limites (ou não finito) a partir de {@code from}, ou -1. */
+    abstract int firstInvalid(A array, int from);
+
+    /** Erros do elemento inválido em {@code index}. */
+    abstract List<Issue> invalidIssues(A array, int index);
+
+    abstract int firstUnordered(A array, int from);
+
+    abstract int[] firstDuplicate(A array);
+
+    // --- Validação ---
+
+    @Override
+    public ParseResult<A> parse(Object value) {
+        if (value == null) {
+            return defaultValue != null ? ParseResult.success(copy(defaultValue)) : nullResult;
+        }
+
+        A array = toArray(value);
+        if (array == null) {
+            return parseFailure;
+        }
+
+        return validate(array);
+    }
+
+    private ParseResult<A> validate(A array) {
+        int length = length(array);
+
+        // Validações de tamanho
+        List<Issue> sizeErrors = null;
+        if (length < minLength) {
+            sizeErrors = new ArrayList<>();
+            sizeErrors.add(minLengthIssue);
+        }
+        if (length > maxLength && (sizeErrors == null || !abortEarly)) {
+            if (sizeErrors == null) sizeErrors = new ArrayList<>();
+            sizeErrors.add(maxLengthIssue);
+        }
+        if (sizeErrors != null) {
+            return ParseResult.invalid(sizeErrors);
+        }
+
+        // Limites/finitude: a varredura pula direto para o próximo elemento inválido
+        List<Issue> errors = null;
+        int invalid = firstInvalid(array, 0);
+        if (invalid >= 0) {
+            errors = new ArrayList<>();
+            errors.add(elementIssue);
+            while (invalid >= 0) {
+                errors.add(Issue.element(invalid, invalidIssues(array, invalid)));
+                if (abortEarly) return ParseResult.invalid(errors);
+                invalid = firstInvalid(array, invalid + 1);
+            }
+        }
+
+        // Ordem: reporta a primeira quebra
+        if (ordered) {
+            int unordered = firstUnordered(array, 1);
+            if (unordered >= 0) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(orderIssue);
+                errors.add(Issue.of(IssueCode.ELEMENT_OUT_OF_ORDER, unordered, unordered - 1));
+                if (abortEarly) return ParseResult.invalid(errors);
+            }
+        }
+
+        // Unicidade (só faz sentido quando todos os elementos são válidos)
+        if (unique && errors == null) {
+            int[] duplicate = firstDuplicate(array);
+            if (duplicate != null) {
+                errors = new ArrayList<>(Arrays.asList(uniqueIssue,
+                        Issue.of(IssueCode.DUPLICATE_ELEMENT, duplicate[0], duplicate[1])));
+            }
+        }
+
+        return errors == null
+                ? ParseResult.success(array)
+                : ParseResult.invalid(errors);
+    }
+
+    /** List ou Object[] para a coerção elemento a elemento; null para qualquer outro valor. */
+    final List<?> coercibleList(Object value) {
+        if (!coerce) return null;
+        if (value instanceof List) return (List<?>) value;
+        if (value instanceof Object[]) return Arrays.asList((Object[]) value);
+        return null;
+    }
+
+    static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+}
@@ -0,0 +1,116 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.cache.StringPool;
+import studio.styx.schemaEXtended.core.exceptions.JsonParseException;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Plano imutável de um {@link StringSchema}: só contém as regras configuradas.
+ */
+final class CompiledStringSchema implements CompiledSchema<String> {
+    private final boolean coerce;
+    private final boolean abortEarly;
+    private final boolean trim;
+    private final boolean toLowerCase;
+    private final boolean toUpperCase;
+    private final ParseResult<String> nullResult;
+    private final ParseResult<String> parseFailure;
+    private final Predicate<String>[] checks;
+    private final Issue[] checkIssues;
+    private final StringPool pool; // null = sem intern()
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    CompiledStringSchema(boolean coerce, boolean optional, boolean abortEarly, Issue parseIssue, String defaultValue,
+                         boolean trim, boolean toLowerCase, boolean toUpperCase,
+                         List<Predicate<String>> checks, List<Issue> checkIssues, StringPool pool) {
+        this.coerce = coerce;
+        this.abortEarly = abortEarly;
+        this.trim = trim;
+        this.toLowerCase = toLowerCase;
+        this.toUpperCase = toUpperCase;
+        this.checks = checks.toArray(new Predicate[0]);
+        this.checkIssues = checkIssues.toArray(new Issue[0]);
+        this.parseFailure = ParseResult.invalid(parseIssue);
+        this.pool = pool;
+
+        // Default (já transformado) calculado uma única vez
+        if (defaultValue != null) {
+            this.nullResult = ParseResult.success(applyTransformations(defaultValue));
+        } else if (optional) {
+            this.nullResult = ParseResult.success(null);
+        } else {
+            this.nullResult = parseFailure;
+        }
+    }
+
+    @Override
+    public ParseResult<String> parse(Object value) {
+        if (value == null) {
+            return nullResult;
+        }
+
+        String stringValue;
+        if (value instanceof String) {
+            stringValue = (String) value;
+        } else if (coerce && (value instanceof Number || value instanceof Boolean || value instanceof Character)) {
+            stringValue = String.valueOf(value);
+        } else {
+            return parseFailure;
+        }
+
+        stringValue = applyTransformations(stringValue);
+
+        List<Issue> errors = null;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(stringValue)) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(checkIssues[i]);
+                if (abortEarly) break;
+            }
+        }
+
+        if (errors != null) {
+            return ParseResult.invalid(errors);
+        }
+        // Só valores aceitos vão para o pool: os rejeitados não chegam a quem chamou
+        return ParseResult.success(pool == null ? stringValue : pool.canonical(stringValue));
+    }
+
+    /**
+     * Valida um documento JSON completo. JSON inválido (ou conteúdo sobrando depois dele) resulta no erro de parse.
+     */
+    ParseResult<String> parseDocument(JsonReader reader) {
+        try {
+            ParseResult<String> result = parseJson(reader);
+            if (result.isSuccess()) reader.endDocument();
+            return result;
+        } catch (JsonParseException e) {
+            return parseFailure;
+        }
+    }
+
+    private String applyTransformations(String value) {
+        String result = value;
+
+        if (trim) {
+            result = result.trim();
+        }
+
+        if (toLowerCase) {
+            result = result.toLowerCase();
+        }
+
+        if (toUpperCase) {
+            result = result.toUpperCase();
+        }
+
+        return result;
+    }
+}
\ No newline at end of file
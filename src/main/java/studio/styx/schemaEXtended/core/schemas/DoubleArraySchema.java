@@ -0,0 +1,233 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+/**
+ * Valida um {@code double[]} no próprio array: limites, finitude, ordem e unicidade sem boxing.
+ * Com {@code coerce()} também aceita List/Object[] de números, convertidos para um novo array.
+ * <pre>{@code
+ * ParseResult<double[]> readings = new DoubleArraySchema().finite().min(-40).max(125).parse(sensorBatch);
+ * }</pre>
+ */
+public class DoubleArraySchema extends PrimitiveArraySchema<double[]> {
+    Double min;
+    Double max;
+    boolean finite = false;
+    String finiteError;
+
+    public DoubleArraySchema() {}
+    public DoubleArraySchema(String errorMsg) {
+        this.parseError = errorMsg;
+    }
+
+    // Métodos de configuração
+    public DoubleArraySchema min(double min) {
+        this.min = min;
+        changed();
+        return this;
+    }
+
+    public DoubleArraySchema max(double max) {
+        this.max = max;
+        changed();
+        return this;
+    }
+
+    public DoubleArraySchema min(double min, String error) {
+        this.min = min;
+        this.minError = error;
+        changed();
+        return this;
+    }
+
+    public DoubleArraySchema max(double max, String error) {
+        this.max = max;
+        this.maxError = error;
+        changed();
+        return this;
+    }
+
+    /**
+     * Rejeita NaN e infinitos. Sem ele, NaN passa pelos limites e pela ordem, como no {@code DoubleSchema}.
+     */
+    public DoubleArraySchema finite() {
+        this.finite = true;
+        changed();
+        return this;
+    }
+
+    public DoubleArraySchema finite(String errorMessage) {
+        this.finite = true;
+        this.finiteError = errorMessage;
+        changed();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema minLength(int minLength) {
+        super.minLength(minLength);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema maxLength(int maxLength) {
+        super.maxLength(maxLength);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema minLength(int minLength, String msg) {
+        super.minLength(minLength, msg);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema maxLength(int maxLength, String msg) {
+        super.maxLength(maxLength, msg);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema length(int exactLength) {
+        super.length(exactLength);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema nonEmpty() {
+        super.nonEmpty();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema parseError(String parseError) {
+        super.parseError(parseError);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema elementError(String elementError) {
+        super.elementError(elementError);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema minError(String minError) {
+        super.minError(minError);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema maxError(String maxError) {
+        super.maxError(maxError);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema ascending() {
+        super.ascending();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema strictlyAscending() {
+        super.strictlyAscending();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema descending() {
+        super.descending();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema strictlyDescending() {
+        super.strictlyDescending();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema orderError(String orderError) {
+        super.orderError(orderError);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema unique() {
+        super.unique();
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema unique(String errorMessage) {
+        super.unique(errorMessage);
+        return this;
+    }
+
+    @Override
+    public DoubleArraySchema defaultValue(double[] defaultValue) {
+        super.defaultValue(defaultValue);
+        return this;
+    }
+
+    @Override
+    protected CompiledSchema<double[]> createCompiledSchema(boolean abortEarly) {
+        return new CompiledDoubleArraySchema(this, abortEarly);
+    }
+}
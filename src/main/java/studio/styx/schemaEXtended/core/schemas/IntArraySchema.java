@@ -0,0 +1,215 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+/**
+ * Valida um {@code int[]} no próprio array: limites, ordem e unicidade sem boxing.
+ * Com {@code coerce()} também aceita List/Object[] de números, convertidos para um novo array.
+ * <pre>{@code
+ * ParseResult<int[]> result = new IntArraySchema().min(0).max(100).unique().parse(new int[]{1, 2, 3});
+ * }</pre>
+ */
+public class IntArraySchema extends PrimitiveArraySchema<int[]> {
+    Integer min;
+    Integer max;
+
+    public IntArraySchema() {}
+    public IntArraySchema(String errorMsg) {
+        this.parseError = errorMsg;
+    }
+
+    // Métodos de configuração
+    public IntArraySchema min(int min) {
+        this.min = min;
+        changed();
+        return this;
+    }
+
+    public IntArraySchema max(int max) {
+        this.max = max;
+        changed();
+        return this;
+    }
+
+    public IntArraySchema min(int min, String error) {
+        this.min = min;
+        this.minError = error;
+        changed();
+        return this;
+    }
+
+    public IntArraySchema max(int max, String error) {
+        this.max = max;
+        this.maxError = error;
+        changed();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema minLength(int minLength) {
+        super.minLength(minLength);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema maxLength(int maxLength) {
+        super.maxLength(maxLength);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema minLength(int minLength, String msg) {
+        super.minLength(minLength, msg);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema maxLength(int maxLength, String msg) {
+        super.maxLength(maxLength, msg);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema length(int exactLength) {
+        super.length(exactLength);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema nonEmpty() {
+        super.nonEmpty();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema parseError(String parseError) {
+        super.parseError(parseError);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema elementError(String elementError) {
+        super.elementError(elementError);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema minError(String minError) {
+        super.minError(minError);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema maxError(String maxError) {
+        super.maxError(maxError);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema ascending() {
+        super.ascending();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema strictlyAscending() {
+        super.strictlyAscending();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema descending() {
+        super.descending();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema strictlyDescending() {
+        super.strictlyDescending();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema orderError(String orderError) {
+        super.orderError(orderError);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema unique() {
+        super.unique();
+        return this;
+    }
+
+    @Override
+    public IntArraySchema unique(String errorMessage) {
+        super.unique(errorMessage);
+        return this;
+    }
+
+    @Override
+    public IntArraySchema defaultValue(int[] defaultValue) {
+        super.defaultValue(defaultValue);
+        return this;
+    }
+
+    @Override
+    protected CompiledSchema<int[]> createCompiledSchema(boolean abortEarly) {
+        return new CompiledIntArraySchema(this, abortEarly);
+    }
+}
@@ -0,0 +1,215 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+/**
+ * Valida um {@code long[]} no próprio array: limites, ordem e unicidade sem boxing.
+ * Com {@code coerce()} também aceita List/Object[] de números, convertidos para um novo array.
+ * <pre>{@code
+ * ParseResult<long[]> result = new LongArraySchema().strictlyAscending().parse(timestamps);
+ * }</pre>
+ */
+public class LongArraySchema extends PrimitiveArraySchema<long[]> {
+    Long min;
+    Long max;
+
+    public LongArraySchema() {}
+    public LongArraySchema(String errorMsg) {
+        this.parseError = errorMsg;
+    }
+
+    // Métodos de configuração
+    public LongArraySchema min(long min) {
+        this.min = min;
+        changed();
+        return this;
+    }
+
+    public LongArraySchema max(long max) {
+        this.max = max;
+        changed();
+        return this;
+    }
+
+    public LongArraySchema min(long min, String error) {
+        this.min = min;
+        this.minError = error;
+        changed();
+        return this;
+    }
+
+    public LongArraySchema max(long max, String error) {
+        this.max = max;
+        this.maxError = error;
+        changed();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema minLength(int minLength) {
+        super.minLength(minLength);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema maxLength(int maxLength) {
+        super.maxLength(maxLength);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema minLength(int minLength, String msg) {
+        super.minLength(minLength, msg);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema maxLength(int maxLength, String msg) {
+        super.maxLength(maxLength, msg);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema length(int exactLength) {
+        super.length(exactLength);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema nonEmpty() {
+        super.nonEmpty();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema parseError(String parseError) {
+        super.parseError(parseError);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema elementError(String elementError) {
+        super.elementError(elementError);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema minError(String minError) {
+        super.minError(minError);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema maxError(String maxError) {
+        super.maxError(maxError);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema ascending() {
+        super.ascending();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema strictlyAscending() {
+        super.strictlyAscending();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema descending() {
+        super.descending();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema strictlyDescending() {
+        super.strictlyDescending();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema orderError(String orderError) {
+        super.orderError(orderError);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema unique() {
+        super.unique();
+        return this;
+    }
+
+    @Override
+    public LongArraySchema unique(String errorMessage) {
+        super.unique(errorMessage);
+        return this;
+    }
+
+    @Override
+    public LongArraySchema defaultValue(long[] defaultValue) {
+        super.defaultValue(defaultValue);
+        return this;
+    }
+
+    @Override
+    protected CompiledSchema<long[]> createCompiledSchema(boolean abortEarly) {
+        return new CompiledLongArraySchema(this, abortEarly);
+    }
+}
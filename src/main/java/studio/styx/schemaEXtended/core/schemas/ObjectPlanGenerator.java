@@ -0,0 +1,148 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import static studio.styx.schemaEXtended.core.schemas.ClassWriter.*;
+
+/**
+ * Gera, para um {@link CompiledObjectSchema}, uma classe oculta com o laço das propriedades desenrolado.
+ * <p>
+ * No caminho interpretado, {@code schemas[i].parse(val)} é uma única chamada para todos os tipos de filho
+ * de todos os ObjectSchema (megamórfica). Na classe gerada cada propriedade tem a sua chamada, com o nome
+ * como constante e o filho num {@code static final}: o JIT vê o filho exato e o inlina. Objetos aninhados
+ * também são gerados, então a árvore inteira vira uma cadeia de constantes. Só a entrada Map é desenrolada;
+ * o registro de cada resultado ({@code fill}), JSON, POJO, String e null usam o mesmo código do plano
+ * interpretado, então o resultado é sempre o mesmo.
+ */
+final class ObjectPlanGenerator {
+    // Acima disso o método gerado ficaria grande demais para o JIT compilar
+    private static final int MAX_PROPERTIES = 256;
+
+    private static final String PACKAGE = "studio/styx/schemaEXtended/core/schemas/";
+    private static final String PLAN = PACKAGE + "CompiledObjectSchema";
+    private static final String FILL = PLAN + "$Fill";
+    private static final String COMPILED_SCHEMA = "studio/styx/schemaEXtended/core/CompiledSchema";
+    private static final String PARSE_RESULT = "studio/styx/schemaEXtended/core/ParseResult";
+    private static final String JSON_READER = "studio/styx/schemaEXtended/core/json/JsonReader";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String LOOKUP = "java/lang/invoke/MethodHandles$Lookup";
+
+    private static final MethodHandles.Lookup LOOKUP_IN_PACKAGE = MethodHandles.lookup();
+
+    private ObjectPlanGenerator() {}
+
+    /**
+     * O plano gerado, ou o próprio {@code plan} se a classe não puder ser gerada (ex: propriedades demais).
+     * Cada chamada define uma classe nova: use {@link CompiledObjectSchema#generated()}, que guarda o resultado.
+     */
+    @SuppressWarnings("unchecked")
+    static CompiledSchema<ObjectSchemaResult> generate(CompiledObjectSchema plan) {
+        String[] names = plan.validatorNames();
+        CompiledSchema<?>[] schemas = plan.validatorSchemas();
+        if (names.length > MAX_PROPERTIES) {
+            return plan;
+        }
+
+        List<Object> constants = new ArrayList<>(schemas.length + 1);
+        constants.add(plan);
+        for (CompiledSchema<?> schema : schemas) {
+            // Filhos embrulhados (métricas, memoização) ficam como estão
+            constants.add(schema instanceof CompiledObjectSchema nested ? nested.generated() : schema);
+        }
+
+        try {
+            Class<?> type = LOOKUP_IN_PACKAGE
+                    .defineHiddenClassWithClassData(bytecode(names), List.copyOf(constants), true)
+                    .lookupClass();
+            return (CompiledSchema<ObjectSchemaResult>) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Geração é só otimização: qualquer falha mantém o plano interpretado
+            return plan;
+        }
+    }
+
+    private static byte[] bytecode(String[] names) {
+        String self = PACKAGE + "GeneratedObjectPlan";
+        ClassWriter cw = new ClassWriter(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, self, OBJECT, COMPILED_SCHEMA);
+
+        cw.field(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "PLAN", "L" + PLAN + ";");
+        for (int i = 0; i < names.length; i++) {
+            cw.field(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "S" + i, "L" + COMPILED_SCHEMA + ";");
+        }
+
+        // static {}: PLAN e S0..Sn lidos do class data (List.of(plan, filhos...))
+        ClassWriter.Code clinit = cw.method(ACC_STATIC, "<clinit>", "()V");
+        clinit.invoke(INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup", "()L" + LOOKUP + ";")
+                .var(ASTORE, 0);
+        for (int i = 0; i <= names.length; i++) {
+            String field = i == 0 ? "PLAN" : "S" + (i - 1);
+            String type = i == 0 ? PLAN : COMPILED_SCHEMA;
+            clinit.var(ALOAD, 0).ldc("_").ldcClass(OBJECT).push(i)
+                    .invoke(INVOKESTATIC, "java/lang/invoke/MethodHandles", "classDataAt",
+                            "(L" + LOOKUP + ";Ljava/lang/String;Ljava/lang/Class;I)L" + OBJECT + ";")
+                    .type(CHECKCAST, type)
+                    .field(PUTSTATIC, self, field, "L" + type + ";");
+        }
+        clinit.op(RETURN).end(4, 1);
+
+        ClassWriter.Code init = cw.method(ACC_PUBLIC, "<init>", "()V");
+        init.var(ALOAD, 0).invoke(INVOKESPECIAL, OBJECT, "<init>", "()V").op(RETURN).end(1, 1);
+
+        // parse(Object): Map desenrolado; o resto vai para o plano interpretado
+        ClassWriter.Code parse = cw.method(ACC_PUBLIC, "parse", "(L" + OBJECT + ";)L" + PARSE_RESULT + ";");
+        ClassWriter.Label map = parse.newLabel();
+        ClassWriter.Label end = parse.newLabel();
+        parse.var(ALOAD, 1).type(INSTANCEOF, "java/util/Map").jump(IFNE, map)
+                .field(GETSTATIC, self, "PLAN", "L" + PLAN + ";")
+                .var(ALOAD, 1)
+                .invoke(INVOKEVIRTUAL, PLAN, "parse", "(L" + OBJECT + ";)L" + PARSE_RESULT + ";")
+                .op(ARETURN);
+        parse.mark(map).sameFrame()
+                .field(GETSTATIC, self, "PLAN", "L" + PLAN + ";")
+                .var(ALOAD, 1)
+                .invoke(INVOKEVIRTUAL, PLAN, "beginMap", "(L" + OBJECT + ";)L" + FILL + ";")
+                .var(ASTORE, 2);
+        for (int i = 0; i < names.length; i++) {
+            // Object v = fill.get("nome"); if (PLAN.fill(fill, i, Si.parse(v), v)) goto end;
+            parse.var(ALOAD, 2).ldc(names[i])
+                    .invoke(INVOKEVIRTUAL, FILL, "get", "(Ljava/lang/String;)L" + OBJECT + ";")
+                    .var(ASTORE, 3)
+                    .field(GETSTATIC, self, "PLAN", "L" + PLAN + ";")
+                    .var(ALOAD, 2)
+                    .push(i)
+                    .field(GETSTATIC, self, "S" + i, "L" + COMPILED_SCHEMA + ";")
+                    .var(ALOAD, 3)
+                    .invoke(INVOKEINTERFACE, COMPILED_SCHEMA, "parse", "(L" + OBJECT + ";)L" + PARSE_RESULT + ";")
+                    .var(ALOAD, 3)
+                    .invoke(INVOKEVIRTUAL, PLAN, "fill", "(L" + FILL + ";IL" + PARSE_RESULT + ";L" + OBJECT + ";)Z")
+                    .jump(IFNE, end);
+        }
+        parse.mark(end).appendFrame(FILL)
+                .field(GETSTATIC, self, "PLAN", "L" + PLAN + ";")
+                .var(ALOAD, 2)
+                .invoke(INVOKEVIRTUAL, PLAN, "endMap", "(L" + FILL + ";)L" + PARSE_RESULT + ";")
+                .op(ARETURN)
+                .end(5, 4);
+
+        // parseJson(JsonReader): leitura em passada única do plano interpretado
+        ClassWriter.Code parseJson = cw.method(ACC_PUBLIC, "parseJson", "(L" + JSON_READER + ";)L" + PARSE_RESULT + ";");
+        parseJson.field(GETSTATIC, self, "PLAN", "L" + PLAN + ";")
+                .var(ALOAD, 1)
+                .invoke(INVOKEVIRTUAL, PLAN, "parseJson", "(L" + JSON_READER + ";)L" + PARSE_RESULT + ";")
+                .op(ARETURN)
+                .end(2, 2);
+
+        // unwrap(): o plano interpretado, para parseInto e leitura de bytes
+        ClassWriter.Code unwrap = cw.method(ACC_PUBLIC, "unwrap", "()L" + COMPILED_SCHEMA + ";");
+        unwrap.field(GETSTATIC, self, "PLAN", "L" + PLAN + ";")
+                .op(ARETURN)
+                .end(1, 1);
+
+        return cw.toByteArray();
+    }
+}
@@ -1,23 +1,32 @@
 package studio.styx.schemaEXtended.core.schemas;
 
+import studio.styx.schemaEXtended.core.CompiledSchema;
 import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ObjectShape;
 import studio.styx.schemaEXtended.core.ParseResult;
 import studio.styx.schemaEXtended.core.Schema;
-
-import java.lang.reflect.Field;
-import java.util.Arrays;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+import studio.styx.schemaEXtended.core.metrics.MeteredSchema;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.NumberSchema;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class ObjectSchema extends Schema<ObjectSchemaResult> {
-    private Map<String, Schema<?>> properties = new HashMap<>();
-    private Map<String, Schema<?>> partialProperties = new HashMap<>();
+    private Map<String, Schema<?>> properties = new LinkedHashMap<>();
+    private Map<String, Schema<?>> partialProperties = new LinkedHashMap<>();
     private boolean strict = false;
     private boolean allowUnknown = false;
-    private String parseError = "The provided value is not a valid object or parseable string";
+    private String parseError; // null = mensagem padrão
+    private boolean generateCode = false;
 
     public ObjectSchema() {}
     public ObjectSchema(String errorMsg) { this.parseError = errorMsg; }
@@ -47,33 +56,84 @@ public class ObjectSchema extends Schema<ObjectSchemaResult> {
         return this;
     }
 
+    @Override
+    public ObjectSchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public ObjectSchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public ObjectSchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public ObjectSchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public ObjectSchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
     public ObjectSchema addProperty(String name, Schema<?> schema) {
         this.properties.put(name, schema);
+        changed();
         return this;
     }
 
     public ObjectSchema addPartial(String name, Schema<?> schema) {
         this.partialProperties.put(name, schema);
+        changed();
         return this;
     }
 
     public ObjectSchema strict(boolean strict) {
         this.strict = strict;
+        changed();
         return this;
     }
 
     public ObjectSchema strict() {
         this.strict = true;
+        changed();
         return this;
     }
 
     public ObjectSchema allowUnknown(boolean allowUnknown) {
         this.allowUnknown = allowUnknown;
+        changed();
         return this;
     }
 
     public ObjectSchema parseError(String parseError) {
         this.parseError = parseError;
+        changed();
+        return this;
+    }
+
+    /**
+     * Compila o schema (e os objetos aninhados) para uma classe gerada em tempo de execução, com uma
+     * chamada direta por propriedade no lugar do laço genérico. O resultado é o mesmo do plano normal;
+     * vale a pena em schemas muito usados, quando o JIT já aqueceu. Só a entrada Map usa o código gerado.
+     */
+    public ObjectSchema generateCode() {
+        return generateCode(true);
+    }
+
+    public ObjectSchema generateCode(boolean generateCode) {
+        this.generateCode = generateCode;
+        changed();
         return this;
     }
 
@@ -103,7 +163,7 @@ public class ObjectSchema extends Schema<ObjectSchemaResult> {
      * Parse específico para Map
      */
     public ParseResult<ObjectSchemaResult> parse(Map<String, Object> value) {
-        return parseInternal(value);
+        return compile().parse(value);
     }
 
     /**
@@ -118,182 +178,98 @@ public class ObjectSchema extends Schema<ObjectSchemaResult> {
      */
     @Override
     public ParseResult<ObjectSchemaResult> parse(Object value) {
-        // 1. Tratamento de Null
-        if (value == null) {
-            if (this.isOptional()) {
-                return ParseResult.success(new ObjectSchemaResult(new HashMap<>()));
-            }
-            return ParseResult.failure(List.of("Value cannot be null"));
-        }
-
-        // 2. Coercion e Conversão Inteligente
-        Map<String, Object> objectMap = convertToMap(value);
-
-        if (objectMap == null) {
-            return ParseResult.failure(List.of(parseError));
-        }
-
-        // 3. Executa a validação no Map convertido
-        return parseInternal(objectMap);
+        return compile().parse(value);
     }
 
-    // --- Lógica Principal de Validação ---
-
-    private ParseResult<ObjectSchemaResult> parseInternal(Map<String, Object> objectMap) {
-        Map<String, Object> parsedValues = new HashMap<>();
-        Map<String, String> fieldErrors = new HashMap<>();
-
-        // Validação de Propriedades Obrigatórias
-        for (Map.Entry<String, Schema<?>> entry : properties.entrySet()) {
-            validateProperty(entry.getKey(), entry.getValue(), objectMap, parsedValues, fieldErrors, true);
-        }
-
-        // Validação de Propriedades Parciais
-        for (Map.Entry<String, Schema<?>> entry : partialProperties.entrySet()) {
-            validateProperty(entry.getKey(), entry.getValue(), objectMap, parsedValues, fieldErrors, false);
-        }
-
-        // Validação Strict (Campos desconhecidos)
-        if (strict && !allowUnknown) {
-            for (String key : objectMap.keySet()) {
-                if (!properties.containsKey(key) && !partialProperties.containsKey(key)) {
-                    fieldErrors.put(key, "Unknown property not allowed in strict mode");
-                }
-            }
-        }
-
-        if (fieldErrors.isEmpty()) {
-            return ParseResult.success(new ObjectSchemaResult(parsedValues));
-        } else {
-            return ParseResult.failure(fieldErrors);
-        }
+    /**
+     * Valida JSON em UTF-8 direto dos bytes (heap ou direct), sem decodificar o documento para String:
+     * chaves são comparadas em bytes e só os valores que entram no resultado viram String.
+     * Lê de {@code position} até {@code limit} sem alterar a posição do buffer. Não depende de {@code coerce()}.
+     */
+    public ParseResult<ObjectSchemaResult> parse(ByteBuffer json) {
+        return parseWithPlan(json, plan -> ((CompiledObjectSchema) plan).parseDocument(JsonReader.of(json)));
     }
 
-    private void validateProperty(String name, Schema<?> schema, Map<String, Object> source,
-                                  Map<String, Object> target, Map<String, String> errors, boolean isRequired) {
-        Object val = source.get(name);
-
-        // Se o valor não existe no map, passamos null para o schema filho decidir (ele pode ter default value)
-        ParseResult<?> result = schema.parse(val);
-
-        if (result.isSuccess()) {
-            if (result.getValue() != null) {
-                target.put(name, result.getValue());
-            }
-        } else {
-            // Se for opcional (partial) e o erro for apenas "não encontrado" ou null, ignoramos
-            // Mas se for obrigatório, ou se o valor existia mas estava errado, registramos o erro
-            if (isRequired || val != null) {
-                List<String> errs = result.getErrors();
-                errors.put(name, errs.isEmpty() ? "Invalid value" : errs.get(0));
-            }
-        }
+    public ParseResult<ObjectSchemaResult> parse(byte[] json, int offset, int length) {
+        return parseWithPlan(json, plan -> ((CompiledObjectSchema) plan).parseDocument(JsonReader.of(json, offset, length)));
     }
 
-    // --- Lógica de Conversão ---
+    // --- Binding Tipado ---
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> convertToMap(Object value) {
-        // Caso 1: Já é um Map
-        if (value instanceof Map) {
-            return new HashMap<>((Map<String, Object>) value);
-        }
-
-        // Caso 2: Se Coerce estiver DESLIGADO, não tentamos converter Strings ou Objetos
-        if (!this.isCoerce()) {
-            return null;
-        }
-
-        // Caso 3: É uma String (Tenta JSON-like ou Key-Value)
-        if (value instanceof String) {
-            String strVal = ((String) value).trim();
-            if (strVal.startsWith("{") && strVal.endsWith("}")) {
-                return parseJsonLikeString(strVal);
-            } else {
-                return parseKeyValueString(strVal);
-            }
-        }
+    /**
+     * Valida e escreve o resultado direto num record (construtor canônico) ou POJO
+     * (construtor sem argumentos + setters/campos), sem montar um {@link ObjectSchemaResult}.
+     */
+    public <R> ParseResult<R> parseInto(Object value, Class<R> type) {
+        return compileInto(type).parse(value);
+    }
 
-        // Caso 4: É um Objeto POJO (Java Bean) - Usamos Reflection
-        return convertPojoToMap(value);
+    public <R> R parseIntoOrThrow(Object value, Class<R> type) {
+        return compileInto(type).parseOrThrow(value);
     }
 
     /**
-     * Converte um POJO arbitrário para Map usando Reflection.
-     * Pega todos os campos declarados (mesmo privados).
+     * Plano tipado reutilizável. O mapeamento propriedade -> construtor/setter é resolvido
+     * uma única vez por classe.
+     *
+     * @throws IllegalArgumentException se a classe não for um record nem tiver construtor sem argumentos
      */
-    private Map<String, Object> convertPojoToMap(Object pojo) {
-        Map<String, Object> map = new HashMap<>();
-        Class<?> clazz = pojo.getClass();
-
-        // Evita tentar converter primitivos ou wrappers como se fossem POJOs complexos
-        if (isPrimitiveOrWrapper(clazz)) return null;
-
-        try {
-            // Itera sobre campos da classe e superclasses se necessário
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true); // Permite ler campos privados
-                Object fieldValue = field.get(pojo);
-                map.put(field.getName(), fieldValue);
-            }
-            return map;
-        } catch (IllegalAccessException e) {
-            // Logar erro se necessário
-            return null;
-        }
+    public <R> CompiledSchema<R> compileInto(Class<R> type) {
+        CompiledSchema<ObjectSchemaResult> plan = compile();
+        return MeteredSchema.like(plan, ((CompiledObjectSchema) plan.unwrap()).into(type));
     }
 
-    /**
-     * Parser simples para strings estilo: "key=value, key2=value2"
-     * Suporta separadores: , ; &
-     */
-    private Map<String, Object> parseKeyValueString(String text) {
-        Map<String, Object> map = new HashMap<>();
-        // Quebra por virgula, ponto-virgula ou &
-        String[] pairs = text.split("[,;&]");
-
-        for (String pair : pairs) {
-            String[] kv = pair.split("=", 2);
-            if (kv.length == 2) {
-                String key = kv[0].trim();
-                String val = kv[1].trim();
-                map.put(key, val);
-            }
-        }
-        return map.isEmpty() ? null : map;
+    @Override
+    protected CompiledSchema<ObjectSchemaResult> createCompiledSchema(boolean abortEarly) {
+        CompiledObjectSchema plan = new CompiledObjectSchema(
+                getName(), this.isCoerce(), this.isOptional(), strict && !allowUnknown, abortEarly, Issue.withMessage(IssueCode.NOT_OBJECT, parseError),
+                compileAll(properties, abortEarly), compileAll(partialProperties, abortEarly), slotTypes()
+        );
+        return generateCode ? plan.generated() : plan;
+    }
+
+    @Override
+    protected Collection<? extends Schema<?>> children() {
+        List<Schema<?>> children = new ArrayList<>(properties.values());
+        children.addAll(partialProperties.values());
+        return children;
     }
 
     /**
-     * Parser rudimentar para JSON flat (ex: "{'a': 1, 'b': 'texto'}")
-     * NOTA: Para JSONs complexos/aninhados, ideal é usar Jackson/Gson.
+     * Um slot por chave declarada, na ordem de declaração. Números int/long/double
+     * ficam em slots primitivos no {@link ObjectSchemaResult}.
      */
-    private Map<String, Object> parseJsonLikeString(String json) {
-        Map<String, Object> map = new HashMap<>();
-        // Remove chaves externas
-        String content = json.substring(1, json.length() - 1);
-
-        // Regex simplificado para pegar "chave": "valor" ou "chave": valor
-        // Cuidado: Isso falha se o valor tiver vírgulas dentro.
-        // Para robustez total, use uma lib de JSON.
-        String[] entries = content.split(",");
-
-        for (String entry : entries) {
-            String[] kv = entry.split(":", 2);
-            if (kv.length == 2) {
-                String key = kv[0].trim().replaceAll("^\"|\"$|^'|'$", ""); // Remove aspas da chave
-                String val = kv[1].trim().replaceAll("^\"|\"$|^'|'$", ""); // Remove aspas do valor
-                map.put(key, val);
-            }
+    private Map<String, ObjectShape.SlotType> slotTypes() {
+        Map<String, ObjectShape.SlotType> types = new LinkedHashMap<>();
+        properties.forEach((name, schema) -> types.put(name, slotType(schema)));
+        partialProperties.forEach((name, schema) -> types.merge(name, slotType(schema),
+                (a, b) -> a == b ? a : ObjectShape.SlotType.REFERENCE));
+        return types;
+    }
+
+    private static ObjectShape.SlotType slotType(Schema<?> schema) {
+        if (schema instanceof NumberSchema) {
+            return switch (((NumberSchema<?>) schema).getType()) {
+                case INT -> ObjectShape.SlotType.INT;
+                case LONG -> ObjectShape.SlotType.LONG;
+                case DOUBLE -> ObjectShape.SlotType.DOUBLE;
+                default -> ObjectShape.SlotType.REFERENCE;
+            };
         }
-        return map;
+        return ObjectShape.SlotType.REFERENCE;
     }
 
-    private boolean isPrimitiveOrWrapper(Class<?> clazz) {
-        return clazz.isPrimitive() ||
-                clazz == Double.class || clazz == Float.class ||
-                clazz == Long.class || clazz == Integer.class ||
-                clazz == Short.class || clazz == Character.class ||
-                clazz == Byte.class || clazz == Boolean.class ||
-                clazz == String.class;
+    // Com métricas, cada propriedade também é medida, com o nome "schema.propriedade"
+    private Map<String, CompiledSchema<?>> compileAll(Map<String, Schema<?>> schemas, boolean abortEarly) {
+        ValidationMetrics metrics = getMetrics();
+        Map<String, CompiledSchema<?>> compiled = new LinkedHashMap<>();
+        schemas.forEach((name, schema) -> {
+            CompiledSchema<?> plan = schema.compile(abortEarly);
+            if (metrics != null) {
+                plan = MeteredSchema.of(plan, metrics.recorder(getMetricsName(), name), schema.isCoerce());
+            }
+            compiled.put(name, plan);
+        });
+        return compiled;
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+/**
+ * Base de {@link IntArraySchema}, {@link LongArraySchema} e {@link DoubleArraySchema}: valida arrays
+ * primitivos no próprio array, sem boxing e sem um schema por elemento. O resultado é o mesmo array recebido.
+ */
+public abstract class PrimitiveArraySchema<A> extends Schema<A> {
+    // Mensagens null = mensagem padrão do código
+    Integer minLength;
+    Integer maxLength;
+    IssueCode minLengthCode = IssueCode.ARRAY_TOO_SHORT;
+    IssueCode maxLengthCode = IssueCode.ARRAY_TOO_LONG;
+    String minLengthError;
+    String maxLengthError;
+    String parseError;
+    String elementError;
+    String minError;
+    String maxError;
+    boolean ordered = false;
+    boolean descending = false;
+    boolean strictOrder = false;
+    String orderError;
+    boolean unique = false;
+    String uniqueError;
+    A defaultValue;
+
+    // Métodos de configuração
+    @Override
+    public PrimitiveArraySchema<A> coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public PrimitiveArraySchema<A> memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> minLength(int minLength) {
+        this.minLength = minLength;
+        this.minLengthCode = IssueCode.ARRAY_TOO_SHORT;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> maxLength(int maxLength) {
+        this.maxLength = maxLength;
+        this.maxLengthCode = IssueCode.ARRAY_TOO_LONG;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> minLength(int minLength, String msg) {
+        this.minLength = minLength;
+        this.minLengthCode = IssueCode.ARRAY_TOO_SHORT;
+        this.minLengthError = msg;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> maxLength(int maxLength, String msg) {
+        this.maxLength = maxLength;
+        this.maxLengthCode = IssueCode.ARRAY_TOO_LONG;
+        this.maxLengthError = msg;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> length(int exactLength) {
+        this.minLength = exactLength;
+        this.maxLength = exactLength;
+        this.minLengthCode = IssueCode.ARRAY_LENGTH;
+        this.maxLengthCode = IssueCode.ARRAY_LENGTH;
+        this.minLengthError = null;
+        this.maxLengthError = null;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> nonEmpty() {
+        this.minLength = 1;
+        this.minLengthCode = IssueCode.ARRAY_EMPTY;
+        this.minLengthError = null;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> parseError(String parseError) {
+        this.parseError = parseError;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> elementError(String elementError) {
+        this.elementError = elementError;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> minError(String minError) {
+        this.minError = minError;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> maxError(String maxError) {
+        this.maxError = maxError;
+        changed();
+        return this;
+    }
+
+    /**
+     * Cada elemento deve ser maior ou igual ao anterior.
+     */
+    public PrimitiveArraySchema<A> ascending() {
+        return order(false, false);
+    }
+
+    public PrimitiveArraySchema<A> strictlyAscending() {
+        return order(false, true);
+    }
+
+    public PrimitiveArraySchema<A> descending() {
+        return order(true, false);
+    }
+
+    public PrimitiveArraySchema<A> strictlyDescending() {
+        return order(true, true);
+    }
+
+    public PrimitiveArraySchema<A> orderError(String orderError) {
+        this.orderError = orderError;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> unique() {
+        this.unique = true;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> unique(String errorMessage) {
+        this.unique = true;
+        this.uniqueError = errorMessage;
+        changed();
+        return this;
+    }
+
+    public PrimitiveArraySchema<A> defaultValue(A defaultValue) {
+        this.defaultValue = defaultValue;
+        changed();
+        return this;
+    }
+
+    private PrimitiveArraySchema<A> order(boolean descending, boolean strict) {
+        this.ordered = true;
+        this.descending = descending;
+        this.strictOrder = strict;
+        changed();
+        return this;
+    }
+
+    @Override
+    public ParseResult<A> parse(Object value) {
+        return compile().parse(value);
+    }
+
+    IssueCode orderCode() {
+        if (descending) return strictOrder ? IssueCode.NOT_STRICTLY_DESCENDING : IssueCode.NOT_DESCENDING;
+        return strictOrder ? IssueCode.NOT_STRICTLY_ASCENDING : IssueCode.NOT_ASCENDING;
+    }
+}
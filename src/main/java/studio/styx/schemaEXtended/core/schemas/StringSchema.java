@@ -1,305 +1,400 @@
 package studio.styx.schemaEXtended.core.schemas;
 
+import studio.styx.schemaEXtended.core.CompiledSchema;
 import studio.styx.schemaEXtended.core.ParseResult;
 import studio.styx.schemaEXtended.core.Schema;
-
+import studio.styx.schemaEXtended.core.cache.StringPool;
+import studio.styx.schemaEXtended.core.interfaces.FormatMode;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+import studio.styx.schemaEXtended.core.validators.CompiledPattern;
+import studio.styx.schemaEXtended.core.validators.EmailValidator;
+import studio.styx.schemaEXtended.core.validators.PatternRegistry;
+import studio.styx.schemaEXtended.core.validators.PhoneValidator;
+import studio.styx.schemaEXtended.core.validators.UrlValidator;
+
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public class StringSchema extends Schema<String> {
-    private String parseError = "The provided value is not a string";
+    // Mensagens null = mensagem padrão do código, formatada só quando lida
+    private String parseError;
     private Integer minLength;
     private Integer maxLength;
-    private String minLengthError = "The text length is less than the required length";
-    private String maxLengthError = "The text length is bigger than the required length";
+    private IssueCode minLengthCode = IssueCode.STRING_TOO_SHORT;
+    private IssueCode maxLengthCode = IssueCode.STRING_TOO_LONG;
+    private String minLengthError;
+    private String maxLengthError;
     private String defaultValue;
     private boolean isEmail = false;
-    private String emailError = "The provided email is not a valid email";
+    private FormatMode emailMode = FormatMode.LENIENT;
+    private String emailError;
     private boolean isPhone = false;
-    private String phoneError = "The provided phone is not a valid phone";
+    private FormatMode phoneMode = FormatMode.LENIENT;
+    private String phoneError;
     private boolean isUrl = false;
-    private String urlError = "The provided url is not a valid url";
-    private String regex;
-    private String regexError = "The provided value does not match the required regex";
+    private FormatMode urlMode = FormatMode.LENIENT;
+    private String urlError;
+    private CompiledPattern regex;
+    private String regexError;
     private boolean trim = false;
     private boolean toLowerCase = false;
     private boolean toUpperCase = false;
+    private StringPool pool;
 
     public StringSchema() {}
     public StringSchema(String errorMsg) { this.parseError = errorMsg; }
 
+    @Override
+    public StringSchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public StringSchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public StringSchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
     // Métodos de configuração (fluent interface)
     public StringSchema parseError(String parseError) {
         this.parseError = parseError;
+        changed();
         return this;
     }
 
     public StringSchema minLength(int minLength) {
         this.minLength = minLength;
+        this.minLengthCode = IssueCode.STRING_TOO_SHORT;
+        changed();
         return this;
     }
 
     public StringSchema maxLength(int maxLength) {
         this.maxLength = maxLength;
+        this.maxLengthCode = IssueCode.STRING_TOO_LONG;
+        changed();
         return this;
     }
 
     public StringSchema minLengthError(String minLengthError) {
         this.minLengthError = minLengthError;
+        changed();
         return this;
     }
 
     public StringSchema maxLengthError(String maxLengthError) {
         this.maxLengthError = maxLengthError;
+        changed();
         return this;
     }
 
     public StringSchema defaultValue(String defaultValue) {
         this.defaultValue = defaultValue;
+        changed();
         return this;
     }
 
     public StringSchema email() {
         this.isEmail = true;
+        changed();
         return this;
     }
 
     public StringSchema email(String errorMessage) {
         this.isEmail = true;
         this.emailError = errorMessage;
+        changed();
+        return this;
+    }
+
+    public StringSchema email(FormatMode mode) {
+        this.isEmail = true;
+        this.emailMode = mode;
+        changed();
+        return this;
+    }
+
+    public StringSchema email(FormatMode mode, String errorMessage) {
+        this.isEmail = true;
+        this.emailMode = mode;
+        this.emailError = errorMessage;
+        changed();
         return this;
     }
 
     public StringSchema phone() {
         this.isPhone = true;
+        changed();
         return this;
     }
 
     public StringSchema phone(String errorMessage) {
         this.isPhone = true;
         this.phoneError = errorMessage;
+        changed();
+        return this;
+    }
+
+    public StringSchema phone(FormatMode mode) {
+        this.isPhone = true;
+        this.phoneMode = mode;
+        changed();
+        return this;
+    }
+
+    public StringSchema phone(FormatMode mode, String errorMessage) {
+        this.isPhone = true;
+        this.phoneMode = mode;
+        this.phoneError = errorMessage;
+        changed();
         return this;
     }
 
     public StringSchema url() {
         this.isUrl = true;
+        changed();
         return this;
     }
 
     public StringSchema url(String errorMessage) {
         this.isUrl = true;
         this.urlError = errorMessage;
+        changed();
+        return this;
+    }
+
+    public StringSchema url(FormatMode mode) {
+        this.isUrl = true;
+        this.urlMode = mode;
+        changed();
+        return this;
+    }
+
+    public StringSchema url(FormatMode mode, String errorMessage) {
+        this.isUrl = true;
+        this.urlMode = mode;
+        this.urlError = errorMessage;
+        changed();
         return this;
     }
 
+    /**
+     * A regex é compilada aqui (via {@link PatternRegistry#shared()}), então uma regex
+     * inválida lança {@link java.util.regex.PatternSyntaxException} já na configuração.
+     */
     public StringSchema regex(String regex) {
-        this.regex = regex;
+        this.regex = PatternRegistry.shared().get(regex);
+        changed();
         return this;
     }
 
     public StringSchema regex(String regex, String errorMessage) {
-        this.regex = regex;
+        this.regex = PatternRegistry.shared().get(regex);
+        this.regexError = errorMessage;
+        changed();
+        return this;
+    }
+
+    public StringSchema regex(Pattern pattern) {
+        this.regex = new CompiledPattern(pattern);
+        changed();
+        return this;
+    }
+
+    public StringSchema regex(Pattern pattern, String errorMessage) {
+        this.regex = new CompiledPattern(pattern);
         this.regexError = errorMessage;
+        changed();
         return this;
     }
 
     public StringSchema emailError(String emailError) {
         this.emailError = emailError;
+        changed();
         return this;
     }
 
     public StringSchema phoneError(String phoneError) {
         this.phoneError = phoneError;
+        changed();
         return this;
     }
 
     public StringSchema urlError(String urlError) {
         this.urlError = urlError;
+        changed();
         return this;
     }
 
     public StringSchema regexError(String regexError) {
         this.regexError = regexError;
+        changed();
         return this;
     }
 
     public StringSchema trim() {
         this.trim = true;
+        changed();
         return this;
     }
 
     public StringSchema toLowerCase() {
         this.toLowerCase = true;
+        changed();
         return this;
     }
 
     public StringSchema toUpperCase() {
         this.toUpperCase = true;
+        changed();
         return this;
     }
 
-    @Override
-    public ParseResult<String> parse(Object value) {
-        List<String> errors = new ArrayList<>();
-
-        // Tratamento de null
-        if (value == null) {
-            if (defaultValue != null) {
-                return ParseResult.success(applyTransformations(defaultValue));
-            }
-            if (this.isOptional()) {
-                return ParseResult.success(null);
-            } else {
-                return ParseResult.failure(List.of(parseError));
-            }
-        }
-
-        // Coercion e conversão para string
-        String stringValue = convertToString(value, errors);
-        if (!errors.isEmpty()) {
-            return ParseResult.failure(errors);
-        }
-
-        // Aplicar transformações
-        stringValue = applyTransformations(stringValue);
-
-        // Validações
-        validateString(stringValue, errors);
-
-        return errors.isEmpty()
-                ? ParseResult.success(stringValue)
-                : ParseResult.failure(errors);
+    /**
+     * Valores aceitos iguais passam a ser a mesma instância de String, via {@link StringPool#shared()}.
+     * Útil em lotes grandes com poucos valores distintos (status, países), em que cada {@code trim()}
+     * ou valor lido de JSON criaria uma cópia nova.
+     */
+    public StringSchema intern() {
+        return intern(StringPool.shared());
     }
 
-    private String convertToString(Object value, List<String> errors) {
-        if (value instanceof String) {
-            return (String) value;
-        }
-
-        if (this.isCoerce()) {
-            // Coercion de outros tipos para string
-            if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
-                return String.valueOf(value);
-            } else {
-                errors.add(parseError);
-                return null;
-            }
-        }
-
-        errors.add(parseError);
-        return null;
+    /**
+     * Como {@link #intern()}, com um pool próprio (ex: um por importação, descartado no fim);
+     * {@code null} desliga.
+     */
+    public StringSchema intern(StringPool pool) {
+        this.pool = pool;
+        changed();
+        return this;
     }
 
-    private String applyTransformations(String value) {
-        if (value == null) return null;
-
-        String result = value;
-
-        if (trim) {
-            result = result.trim();
-        }
-
-        if (toLowerCase) {
-            result = result.toLowerCase();
-        }
+    public StringPool getStringPool() {
+        return pool;
+    }
 
-        if (toUpperCase) {
-            result = result.toUpperCase();
-        }
+    @Override
+    public ParseResult<String> parse(Object value) {
+        return compile().parse(value);
+    }
 
-        return result;
+    /**
+     * Valida um valor JSON em UTF-8 (ex: {@code "texto"}) direto dos bytes, heap ou direct. Escapes e UTF-8
+     * são validados na leitura e a String só é criada uma vez, para o resultado.
+     * Lê de {@code position} até {@code limit} sem alterar a posição do buffer. Não depende de {@code coerce()}.
+     */
+    public ParseResult<String> parse(ByteBuffer json) {
+        return parseWithPlan(json, plan -> ((CompiledStringSchema) plan).parseDocument(JsonReader.of(json)));
     }
 
-    private void validateString(String value, List<String> errors) {
-        if (value == null) return;
+    public ParseResult<String> parse(byte[] json, int offset, int length) {
+        return parseWithPlan(json, plan -> ((CompiledStringSchema) plan).parseDocument(JsonReader.of(json, offset, length)));
+    }
 
-        // Validação de comprimento mínimo
-        if (minLength != null && value.length() < minLength) {
-            errors.add(minLengthError);
+    @Override
+    protected CompiledSchema<String> createCompiledSchema(boolean abortEarly) {
+        List<Predicate<String>> checks = new ArrayList<>();
+        List<Issue> checkIssues = new ArrayList<>();
+
+        // Apenas as regras configuradas entram na cadeia
+        if (minLength != null) {
+            int min = minLength;
+            checks.add(v -> v.length() >= min);
+            checkIssues.add(lengthIssue(minLengthCode, minLengthError, min));
         }
 
-        // Validação de comprimento máximo
-        if (maxLength != null && value.length() > maxLength) {
-            errors.add(maxLengthError);
+        if (maxLength != null) {
+            int max = maxLength;
+            checks.add(v -> v.length() <= max);
+            checkIssues.add(lengthIssue(maxLengthCode, maxLengthError, max));
         }
 
-        // Validação de email
-        if (isEmail && !isValidEmail(value)) {
-            errors.add(emailError);
+        if (isEmail) {
+            FormatMode mode = emailMode;
+            checks.add(v -> EmailValidator.isValid(v, mode));
+            checkIssues.add(Issue.withMessage(IssueCode.INVALID_EMAIL, emailError));
         }
 
-        // Validação de telefone
-        if (isPhone && !isValidPhone(value)) {
-            errors.add(phoneError);
+        if (isPhone) {
+            FormatMode mode = phoneMode;
+            checks.add(v -> PhoneValidator.isValid(v, mode));
+            checkIssues.add(Issue.withMessage(IssueCode.INVALID_PHONE, phoneError));
         }
 
-        // Validação de URL
-        if (isUrl && !isValidUrl(value)) {
-            errors.add(urlError);
+        if (isUrl) {
+            FormatMode mode = urlMode;
+            checks.add(v -> UrlValidator.isValid(v, mode));
+            checkIssues.add(Issue.withMessage(IssueCode.INVALID_URL, urlError));
         }
 
-        // Validação de regex
-        if (regex != null && !isValidRegex(value, regex)) {
-            errors.add(regexError);
+        if (regex != null) {
+            CompiledPattern pattern = regex;
+            checks.add(pattern::matches);
+            checkIssues.add(Issue.withMessage(IssueCode.PATTERN_MISMATCH, regexError, pattern.pattern().pattern()));
         }
-    }
 
-    // Métodos de validação
-    private boolean isValidEmail(String email) {
-        // Regex simples para email - pode ser melhorado conforme necessidade
-        String emailRegex = "^[A-Za-z0-9+_.-]+@(.+)$";
-        return Pattern.compile(emailRegex).matcher(email).matches();
+        return new CompiledStringSchema(
+                this.isCoerce(), this.isOptional(), abortEarly, Issue.withMessage(IssueCode.NOT_STRING, parseError),
+                defaultValue, trim, toLowerCase, toUpperCase, checks, checkIssues, pool
+        );
     }
 
-    private boolean isValidPhone(String phone) {
-        // Regex básica para números de telefone - adapte conforme necessidade
-        // Aceita formatos internacionais e locais
-        String phoneRegex = "^[\\+]?[0-9\\s\\-\\(\\)]{10,}$";
-        return Pattern.compile(phoneRegex).matcher(phone.replaceAll("\\s", "")).matches();
-    }
-
-    private boolean isValidUrl(String url) {
-        // Regex básica para URLs
-        String urlRegex = "^(https?|ftp)://[^\\s/$.?#].[^\\s]*$";
-        return Pattern.compile(urlRegex, Pattern.CASE_INSENSITIVE).matcher(url).matches();
-    }
-
-    private boolean isValidRegex(String value, String regex) {
-        try {
-            return Pattern.compile(regex).matcher(value).matches();
-        } catch (Exception e) {
-            // Se o regex for inválido, considera como falha na validação
-            return false;
-        }
+    // STRING_EMPTY não tem parâmetro; os demais códigos de tamanho recebem o limite
+    private static Issue lengthIssue(IssueCode code, String message, int limit) {
+        return code == IssueCode.STRING_EMPTY
+                ? Issue.withMessage(code, message)
+                : Issue.withMessage(code, message, limit);
     }
 
     // Métodos auxiliares para validações específicas
     public StringSchema length(int exactLength) {
         this.minLength = exactLength;
         this.maxLength = exactLength;
-        this.minLengthError = "The text length must be exactly " + exactLength + " characters";
-        this.maxLengthError = "The text length must be exactly " + exactLength + " characters";
+        this.minLengthCode = IssueCode.STRING_LENGTH;
+        this.maxLengthCode = IssueCode.STRING_LENGTH;
+        this.minLengthError = null;
+        this.maxLengthError = null;
+        changed();
         return this;
     }
 
     public StringSchema length(int exactLength, String errorMessage) {
         this.minLength = exactLength;
         this.maxLength = exactLength;
+        this.minLengthCode = IssueCode.STRING_LENGTH;
+        this.maxLengthCode = IssueCode.STRING_LENGTH;
         this.minLengthError = errorMessage;
         this.maxLengthError = errorMessage;
+        changed();
         return this;
     }
 
     public StringSchema nonEmpty() {
         this.minLength = 1;
-        this.minLengthError = "The string must not be empty";
+        this.minLengthCode = IssueCode.STRING_EMPTY;
+        this.minLengthError = null;
+        changed();
         return this;
     }
 
     public StringSchema nonEmpty(String errorMessage) {
         this.minLength = 1;
+        this.minLengthCode = IssueCode.STRING_EMPTY;
         this.minLengthError = errorMessage;
+        changed();
         return this;
     }
 }
\ No newline at end of file
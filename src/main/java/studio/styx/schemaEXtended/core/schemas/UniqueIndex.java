@@ -0,0 +1,129 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detecção de duplicatas do {@code unique()}/{@code uniqueBy()} e dos arrays primitivos em O(n).
+ * <p>
+ * Arrays primitivos e listas só de Integer, Long ou Double usam tabelas de endereçamento aberto com
+ * chaves primitivas (sem boxing nem Entry por elemento); qualquer outra mistura usa um {@link HashMap}. A igualdade é
+ * sempre a do {@code equals()}: Doubles são comparados pelo {@code doubleToLongBits}, como no {@link Double#equals}.
+ */
+final class UniqueIndex {
+    private UniqueIndex() {}
+
+    /**
+     * Índice do primeiro elemento repetido e do elemento anterior igual a ele, ou null se todos forem únicos.
+     */
+    static int[] firstDuplicate(List<?> keys) {
+        int size = keys.size();
+        if (size < 2) return null;
+
+        Class<?> type = commonType(keys);
+        if (type == Integer.class) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) values[i] = (Integer) keys.get(i);
+            return firstDuplicate(values);
+        }
+        if (type == Long.class) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) values[i] = (Long) keys.get(i);
+            return firstDuplicate(values);
+        }
+        if (type == Double.class) {
+            long[] bits = new long[size];
+            for (int i = 0; i < size; i++) bits[i] = Double.doubleToLongBits((Double) keys.get(i));
+            return firstDuplicate(bits);
+        }
+        return objectDuplicate(keys);
+    }
+
+    static int[] firstDuplicate(int[] values) {
+        int size = values.length;
+        if (size < 2) return null;
+
+        int mask = tableSize(size) - 1;
+        int[] table = new int[mask + 1];
+        int[] indexes = new int[mask + 1]; // índice + 1; 0 = posição vazia
+
+        for (int i = 0; i < size; i++) {
+            int key = values[i];
+            int h = mix(key) & mask;
+            while (indexes[h] != 0) {
+                if (table[h] == key) return new int[]{i, indexes[h] - 1};
+                h = (h + 1) & mask;
+            }
+            table[h] = key;
+            indexes[h] = i + 1;
+        }
+        return null;
+    }
+
+    static int[] firstDuplicate(long[] values) {
+        int size = values.length;
+        if (size < 2) return null;
+
+        int mask = tableSize(size) - 1;
+        long[] table = new long[mask + 1];
+        int[] indexes = new int[mask + 1];
+
+        for (int i = 0; i < size; i++) {
+            long key = values[i];
+            int h = mix(key) & mask;
+            while (indexes[h] != 0) {
+                if (table[h] == key) return new int[]{i, indexes[h] - 1};
+                h = (h + 1) & mask;
+            }
+            table[h] = key;
+            indexes[h] = i + 1;
+        }
+        return null;
+    }
+
+    static int[] firstDuplicate(double[] values) {
+        if (values.length < 2) return null;
+
+        long[] bits = new long[values.length];
+        for (int i = 0; i < values.length; i++) bits[i] = Double.doubleToLongBits(values[i]);
+        return firstDuplicate(bits);
+    }
+
+    private static Class<?> commonType(List<?> keys) {
+        Object first = keys.get(0);
+        if (!(first instanceof Integer || first instanceof Long || first instanceof Double)) return null;
+
+        Class<?> type = first.getClass();
+        for (int i = 1, size = keys.size(); i < size; i++) {
+            Object key = keys.get(i);
+            if (key == null || key.getClass() != type) return null;
+        }
+        return type;
+    }
+
+    private static int[] objectDuplicate(List<?> keys) {
+        int size = keys.size();
+        Map<Object, Integer> seen = new HashMap<>(tableSize(size));
+        for (int i = 0; i < size; i++) {
+            Integer previous = seen.putIfAbsent(keys.get(i), i);
+            if (previous != null) return new int[]{i, previous};
+        }
+        return null;
+    }
+
+    // Potência de dois com pelo menos o dobro de posições: sondagem linear curta
+    private static int tableSize(int size) {
+        return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,108 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Versões SIMD das varreduras de {@link ArrayKernels}. Só é carregada quando o módulo
+ * {@code jdk.incubator.vector} está presente; a cauda que não completa um vetor usa o laço escalar.
+ */
+final class VectorArrayKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorArrayKernels() {}
+
+    // Sem registradores SIMD de verdade a API cai em emulação, mais lenta que o laço escalar
+    static boolean isUsable() {
+        return INTS.length() > 1 && LONGS.length() > 1 && DOUBLES.length() > 1;
+    }
+
+    static int firstOutside(int[] values, int from, int min, int max) {
+        int i = from;
+        int bound = from + INTS.loopBound(values.length - from);
+        for (; i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            VectorMask<Integer> invalid = vector.compare(VectorOperators.LT, min)
+                    .or(vector.compare(VectorOperators.GT, max));
+            if (invalid.anyTrue()) return i + invalid.firstTrue();
+        }
+        return ArrayKernels.scalarFirstOutside(values, i, min, max);
+    }
+
+    static int firstOutside(long[] values, int from, long min, long max) {
+        int i = from;
+        int bound = from + LONGS.loopBound(values.length - from);
+        for (; i < bound; i += LONGS.length()) {
+            LongVector vector = LongVector.fromArray(LONGS, values, i);
+            VectorMask<Long> invalid = vector.compare(VectorOperators.LT, min)
+                    .or(vector.compare(VectorOperators.GT, max));
+            if (invalid.anyTrue()) return i + invalid.firstTrue();
+        }
+        return ArrayKernels.scalarFirstOutside(values, i, min, max);
+    }
+
+    static int firstInvalid(double[] values, int from, double min, double max, boolean finite) {
+        int i = from;
+        int bound = from + DOUBLES.loopBound(values.length - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+            VectorMask<Double> invalid = vector.compare(VectorOperators.LT, min)
+                    .or(vector.compare(VectorOperators.GT, max));
+            if (finite) {
+                invalid = invalid.or(vector.test(VectorOperators.IS_FINITE).not());
+            }
+            if (invalid.anyTrue()) return i + invalid.firstTrue();
+        }
+        return ArrayKernels.scalarFirstInvalid(values, i, min, max, finite);
+    }
+
+    // Compara cada elemento com o anterior carregando o mesmo trecho deslocado de uma posição.
+    // O operador precisa ser constante em cada chamada para o JIT gerar a instrução SIMD.
+    static int firstUnordered(int[] values, int from, boolean descending, boolean strict) {
+        int i = Math.max(from, 1);
+        int bound = i + INTS.loopBound(values.length - i);
+        for (; i < bound; i += INTS.length()) {
+            IntVector current = IntVector.fromArray(INTS, values, i);
+            IntVector previous = IntVector.fromArray(INTS, values, i - 1);
+            VectorMask<Integer> invalid = descending
+                    ? (strict ? current.compare(VectorOperators.GE, previous) : current.compare(VectorOperators.GT, previous))
+                    : (strict ? current.compare(VectorOperators.LE, previous) : current.compare(VectorOperators.LT, previous));
+            if (invalid.anyTrue()) return i + invalid.firstTrue();
+        }
+        return ArrayKernels.scalarFirstUnordered(values, i, descending, strict);
+    }
+
+    static int firstUnordered(long[] values, int from, boolean descending, boolean strict) {
+        int i = Math.max(from, 1);
+        int bound = i + LONGS.loopBound(values.length - i);
+        for (; i < bound; i += LONGS.length()) {
+            LongVector current = LongVector.fromArray(LONGS, values, i);
+            LongVector previous = LongVector.fromArray(LONGS, values, i - 1);
+            VectorMask<Long> invalid = descending
+                    ? (strict ? current.compare(VectorOperators.GE, previous) : current.compare(VectorOperators.GT, previous))
+                    : (strict ? current.compare(VectorOperators.LE, previous) : current.compare(VectorOperators.LT, previous));
+            if (invalid.anyTrue()) return i + invalid.firstTrue();
+        }
+        return ArrayKernels.scalarFirstUnordered(values, i, descending, strict);
+    }
+
+    static int firstUnordered(double[] values, int from, boolean descending, boolean strict) {
+        int i = Math.max(from, 1);
+        int bound = i + DOUBLES.loopBound(values.length - i);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector current = DoubleVector.fromArray(DOUBLES, values, i);
+            DoubleVector previous = DoubleVector.fromArray(DOUBLES, values, i - 1);
+            VectorMask<Double> invalid = descending
+                    ? (strict ? current.compare(VectorOperators.GE, previous) : current.compare(VectorOperators.GT, previous))
+                    : (strict ? current.compare(VectorOperators.LE, previous) : current.compare(VectorOperators.LT, previous));
+            if (invalid.anyTrue()) return i + invalid.firstTrue();
+        }
+        return ArrayKernels.scalarFirstUnordered(values, i, descending, strict);
+    }
+}
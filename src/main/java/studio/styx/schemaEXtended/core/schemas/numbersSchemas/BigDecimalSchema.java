@@ -1,8 +1,14 @@
 package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
 
 import studio.styx.schemaEXtended.core.interfaces.NumberType;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
 import java.math.BigDecimal;
 
+/**
+ * Valores decimais exatos. Textos são lidos sem passar por double ({@code "19.90"} vira 19.90 com escala 2)
+ * e os limites são comparados como BigDecimal.
+ */
 public class BigDecimalSchema extends NumberSchema<BigDecimal> {
     public BigDecimalSchema() {
         super(NumberType.BIGDECIMAL);
@@ -11,4 +17,192 @@ public class BigDecimalSchema extends NumberSchema<BigDecimal> {
         super(NumberType.BIGDECIMAL);
         super.parseError(errorMsg);
     }
-}
\ No newline at end of file
+
+    // --- Escala e Precisão ---
+
+    /**
+     * Máximo de casas decimais. Zeros à direita não contam: {@code 10.50} tem uma casa.
+     */
+    public BigDecimalSchema maxScale(int maxScale) {
+        return maxScale(maxScale, null);
+    }
+
+    public BigDecimalSchema maxScale(int maxScale, String errorMessage) {
+        this.maxScale = maxScale;
+        this.scaleError = errorMessage;
+        changed();
+        return this;
+    }
+
+    /**
+     * Máximo de dígitos (parte inteira + casas decimais), como a precisão de um DECIMAL(p, s) do SQL.
+     */
+    public BigDecimalSchema maxPrecision(int maxPrecision) {
+        return maxPrecision(maxPrecision, null);
+    }
+
+    public BigDecimalSchema maxPrecision(int maxPrecision, String errorMessage) {
+        this.maxPrecision = maxPrecision;
+        this.precisionError = errorMessage;
+        changed();
+        return this;
+    }
+
+    // --- Métodos de Configuração (retornam BigDecimalSchema para encadear com maxScale/maxPrecision) ---
+
+    @Override
+    public BigDecimalSchema coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema min(double min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema max(double max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema min(double min, String error) {
+        super.min(min, error);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema max(double max, String error) {
+        super.max(max, error);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema min(Integer min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema max(Integer max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema min(long min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema max(long max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema min(long min, String error) {
+        super.min(min, error);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema max(long max, String error) {
+        super.max(max, error);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema min(BigDecimal min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema max(BigDecimal max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema minError(String minError) {
+        super.minError(minError);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema maxError(String maxError) {
+        super.maxError(maxError);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema parseError(String parseError) {
+        super.parseError(parseError);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema typeError(String typeError) {
+        super.typeError(typeError);
+        return this;
+    }
+
+    @Override
+    public BigDecimalSchema defaultValue(Number defaultValue) {
+        super.defaultValue(defaultValue);
+        return this;
+    }
+}
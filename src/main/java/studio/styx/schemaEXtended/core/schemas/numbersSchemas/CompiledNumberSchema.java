@@ -0,0 +1,433 @@
+package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
+
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException;
+import studio.styx.schemaEXtended.core.interfaces.NumberType;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.json.JsonReader;
+import studio.styx.schemaEXtended.core.json.JsonToken;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+
+/**
+ * Plano imutável de um {@link NumberSchema}: só contém as regras configuradas.
+ * <p>
+ * DOUBLE/FLOAT validam em double. Os tipos exatos (INT/LONG/BIGINT/BIGDECIMAL) nunca passam por double:
+ * inteiros são comparados como long e o resto (texto decimal, BigDecimal, BigInteger) como BigDecimal.
+ */
+final class CompiledNumberSchema<T extends Number> implements CompiledSchema<T> {
+    private static final BigDecimal INT_MIN = BigDecimal.valueOf(Integer.MIN_VALUE);
+    private static final BigDecimal INT_MAX = BigDecimal.valueOf(Integer.MAX_VALUE);
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    // Até 10^18: o caminho rápido aceita 18 dígitos, todos podendo ser casas decimais (".123456789012345678")
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final NumberType type;
+    private final boolean coerce;
+    private final boolean abortEarly;
+    private final ParseResult<T> nullResult;
+    private final ParseResult<T> parseFailure;
+    private final DoublePredicate[] checks;
+    private final Issue[] checkIssues;
+
+    // Tipos exatos: limites como long (entradas inteiras) e como BigDecimal (o resto)
+    private final boolean exact;
+    private final boolean integerOnly;
+    private final long minValue;
+    private final long maxValue;
+    private final long lowest;
+    private final long highest;
+    private final BigDecimal minDecimal;
+    private final BigDecimal maxDecimal;
+    private final BigDecimal lowestDecimal;
+    private final BigDecimal highestDecimal;
+    private final int maxScale;
+    private final int maxPrecision;
+    private final List<Issue> minErrors;
+    private final List<Issue> maxErrors;
+    private final List<Issue> typeErrors;
+    private final List<Issue> scaleErrors;
+    private final List<Issue> precisionErrors;
+    private final List<Issue> parseErrors;
+    private final boolean hasDefault;
+    private final long defaultLong;
+
+    CompiledNumberSchema(NumberType type, boolean coerce, boolean optional, boolean abortEarly, Issue parseIssue,
+                         Number defaultValue, List<DoublePredicate> checks, List<Issue> checkIssues,
+                         Number min, Number max, boolean integerOnly, Issue minIssue, Issue maxIssue, Issue typeIssue,
+                         Integer maxScale, Integer maxPrecision, Issue scaleIssue, Issue precisionIssue) {
+        this.type = type;
+        this.coerce = coerce;
+        this.abortEarly = abortEarly;
+        this.checks = checks.toArray(new DoublePredicate[0]);
+        this.checkIssues = checkIssues.toArray(new Issue[0]);
+        this.parseErrors = List.of(parseIssue);
+        this.parseFailure = ParseResult.invalid(parseErrors);
+
+        this.exact = type == NumberType.INT || type == NumberType.LONG
+                || type == NumberType.BIGINT || type == NumberType.BIGDECIMAL;
+        this.integerOnly = integerOnly;
+        this.minDecimal = toDecimal(min);
+        this.maxDecimal = toDecimal(max);
+        this.minValue = minDecimal == null ? Long.MIN_VALUE : clamp(minDecimal.setScale(0, RoundingMode.CEILING));
+        this.maxValue = maxDecimal == null ? Long.MAX_VALUE : clamp(maxDecimal.setScale(0, RoundingMode.FLOOR));
+        this.lowest = type == NumberType.INT ? Integer.MIN_VALUE : Long.MIN_VALUE;
+        this.highest = type == NumberType.INT ? Integer.MAX_VALUE : Long.MAX_VALUE;
+        // BIGINT/BIGDECIMAL não têm faixa; INT/LONG não podem sair dela
+        this.lowestDecimal = type == NumberType.INT ? INT_MIN : type == NumberType.LONG ? LONG_MIN : null;
+        this.highestDecimal = type == NumberType.INT ? INT_MAX : type == NumberType.LONG ? LONG_MAX : null;
+        this.maxScale = maxScale != null ? maxScale : -1;
+        this.maxPrecision = maxPrecision != null ? maxPrecision : -1;
+        this.minErrors = List.of(minIssue);
+        this.maxErrors = List.of(maxIssue);
+        this.typeErrors = List.of(typeIssue);
+        this.scaleErrors = List.of(scaleIssue);
+        this.precisionErrors = List.of(precisionIssue);
+        this.hasDefault = defaultValue != null;
+        this.defaultLong = hasDefault ? defaultValue.longValue() : 0;
+
+        // Default já convertido para o tipo final, calculado uma única vez
+        if (defaultValue != null) {
+            this.nullResult = ParseResult.success(convertToType(defaultValue));
+        } else if (optional) {
+            this.nullResult = ParseResult.success(null);
+        } else {
+            this.nullResult = parseFailure;
+        }
+    }
+
+    @Override
+    public ParseResult<T> parse(Object value) {
+        if (value == null) {
+            return nullResult;
+        }
+
+        if (exact) {
+            return parseExact(value);
+        }
+
+        Number number;
+        if (value instanceof Number) {
+            number = (Number) value;
+        } else if (coerce && value instanceof String) {
+            try {
+                number = Double.parseDouble((String) value);
+            } catch (NumberFormatException e) {
+                return parseFailure;
+            }
+        } else if (coerce && value instanceof Boolean) {
+            number = (Boolean) value ? 1 : 0;
+        } else {
+            return parseFailure;
+        }
+
+        double doubleValue = number.doubleValue();
+        List<Issue> errors = null;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(doubleValue)) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(checkIssues[i]);
+                if (abortEarly) break;
+            }
+        }
+
+        return errors == null
+                ? ParseResult.success(convertToType(number))
+                : ParseResult.invalid(errors);
+    }
+
+    /**
+     * Tipos exatos leem o texto do número JSON pelo mesmo caminho de {@link #parseText}: decimais como
+     * {@code 12345678901234567.89} não passam pelo Double do {@link JsonReader#nextNumber()}.
+     */
+    @Override
+    public ParseResult<T> parseJson(JsonReader reader) {
+        if (exact && reader.peek() == JsonToken.NUMBER) {
+            return parseText(reader.nextNumberText());
+        }
+        return parse(reader.readValue());
+    }
+
+    // --- Tipos exatos ---
+
+    private ParseResult<T> parseExact(Object value) {
+        if (isIntegral(value)) {
+            return longResult(((Number) value).longValue());
+        }
+        if (value instanceof String) {
+            return coerce ? parseText((String) value) : parseFailure;
+        }
+        if (value instanceof BigDecimal) {
+            return decimalResult((BigDecimal) value);
+        }
+        if (value instanceof BigInteger) {
+            return decimalResult(new BigDecimal((BigInteger) value));
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (!Double.isFinite(number)) return parseFailure;
+            // 50.0 vira long direto; BIGDECIMAL mantém a escala que o Double.toString dá (50.0)
+            if (type != NumberType.BIGDECIMAL && number == Math.rint(number) && Math.abs(number) < 0x1p63) {
+                return longResult((long) number);
+            }
+            return decimalResult(BigDecimal.valueOf(number));
+        }
+        if (value instanceof Boolean && coerce) {
+            return longResult((Boolean) value ? 1 : 0);
+        }
+        if (value instanceof Number) {
+            return decimalResult(BigDecimal.valueOf(((Number) value).doubleValue()));
+        }
+        return parseFailure;
+    }
+
+    /**
+     * Texto decimal lido exatamente. Não depende de {@code coerce()}: quem chama já decidiu aceitar texto.
+     */
+    ParseResult<T> parseText(CharSequence text) {
+        int scale = DecimalText.fastScale(text);
+        if (scale == 0) {
+            return longResult(DecimalText.unscaled(text));
+        }
+        if (scale > 0) {
+            long unscaled = DecimalText.unscaled(text);
+            // "15.00" em INT/LONG/BIGINT continua no caminho long; BIGDECIMAL preserva a escala do texto
+            if (type != NumberType.BIGDECIMAL && unscaled % POWERS_OF_TEN[scale] == 0) {
+                return longResult(unscaled / POWERS_OF_TEN[scale]);
+            }
+            return decimalResult(BigDecimal.valueOf(unscaled, scale));
+        }
+
+        BigDecimal decimal = DecimalText.parse(text);
+        return decimal == null ? parseFailure : decimalResult(decimal);
+    }
+
+    private ParseResult<T> longResult(long number) {
+        List<Issue> errors = checkLong(number);
+        return errors == null
+                ? ParseResult.success(fromLong(number))
+                : ParseResult.invalid(errors);
+    }
+
+    private ParseResult<T> decimalResult(BigDecimal number) {
+        List<Issue> errors = checkDecimal(number);
+        return errors == null
+                ? ParseResult.success(fromDecimal(number))
+                : ParseResult.invalid(errors);
+    }
+
+    /**
+     * Erros de um inteiro (ordem: min, max, tipo, precisão), ou null se for válido.
+     */
+    private List<Issue> checkLong(long number) {
+        List<Issue> errors = null;
+        if (number < minValue) {
+            errors = minErrors;
+            if (abortEarly) return errors;
+        }
+        if (number > maxValue) {
+            errors = append(errors, maxErrors);
+            if (abortEarly) return errors;
+        }
+        if (number < lowest || number > highest) {
+            errors = append(errors, typeErrors);
+            if (abortEarly) return errors;
+        }
+        if (maxPrecision >= 0 && DecimalText.digits(number) > maxPrecision) {
+            errors = append(errors, precisionErrors);
+        }
+        return errors;
+    }
+
+    /**
+     * Igual ao {@link #checkLong}, em BigDecimal; casas decimais contam como erro de tipo em INT/LONG/BIGINT.
+     */
+    private List<Issue> checkDecimal(BigDecimal number) {
+        List<Issue> errors = null;
+        if (minDecimal != null && number.compareTo(minDecimal) < 0) {
+            errors = minErrors;
+            if (abortEarly) return errors;
+        }
+        if (maxDecimal != null && number.compareTo(maxDecimal) > 0) {
+            errors = append(errors, maxErrors);
+            if (abortEarly) return errors;
+        }
+        boolean outOfRange = lowestDecimal != null
+                && (number.compareTo(lowestDecimal) < 0 || number.compareTo(highestDecimal) > 0);
+        if (outOfRange || (integerOnly && !isWhole(number))) {
+            errors = append(errors, typeErrors);
+            if (abortEarly) return errors;
+        }
+        if (maxScale >= 0 && DecimalText.scale(number) > maxScale) {
+            errors = append(errors, scaleErrors);
+            if (abortEarly) return errors;
+        }
+        if (maxPrecision >= 0 && DecimalText.digits(number) > maxPrecision) {
+            errors = append(errors, precisionErrors);
+        }
+        return errors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T fromLong(long number) {
+        Number result = switch (this.type) {
+            case INT -> (int) number;
+            case LONG -> number;
+            case BIGINT -> BigInteger.valueOf(number);
+            default -> BigDecimal.valueOf(number);
+        };
+        return (T) result;
+    }
+
+    // Só é chamado depois das checagens: faixa e parte inteira já conferidas
+    @SuppressWarnings("unchecked")
+    private T fromDecimal(BigDecimal number) {
+        Number result = switch (this.type) {
+            case INT -> number.intValue();
+            case LONG -> number.longValue();
+            case BIGINT -> number.toBigInteger();
+            default -> number;
+        };
+        return (T) result;
+    }
+
+    // --- Caminho primitivo (IntegerSchema.parseInt / LongSchema.parseLong) ---
+
+    /**
+     * Valida sem boxing. Inteiros e textos inteiros simples não alocam; o resto (decimais, expoentes,
+     * BigDecimal...) passa pelas regras gerais. Null só é aceito com defaultValue.
+     */
+    boolean parseLong(Object value, PrimitiveResult into) {
+        // Caso mais comum primeiro: checar interface (CharSequence) antes custa caro para Integer/Long
+        if (value instanceof Number && isIntegral(value)) {
+            long number = ((Number) value).longValue();
+            List<Issue> errors = checkLong(number);
+            return errors == null ? into.succeed(number) : into.fail(errors);
+        }
+        if (value instanceof CharSequence) {
+            return coerce ? parseLong((CharSequence) value, into) : into.fail(parseErrors);
+        }
+        if (value instanceof Boolean && coerce) {
+            long number = (Boolean) value ? 1 : 0;
+            List<Issue> errors = checkLong(number);
+            return errors == null ? into.succeed(number) : into.fail(errors);
+        }
+        if (value == null) {
+            return hasDefault ? into.succeed(defaultLong) : into.fail(parseErrors);
+        }
+        return copy(parse(value), into);
+    }
+
+    /**
+     * Valida um texto numérico. Não depende de {@code coerce()}: a entrada já é explicitamente texto.
+     */
+    boolean parseLong(CharSequence text, PrimitiveResult into) {
+        if (text == null) {
+            return hasDefault ? into.succeed(defaultLong) : into.fail(parseErrors);
+        }
+        if (DecimalText.fastScale(text) == 0) {
+            long number = DecimalText.unscaled(text);
+            List<Issue> errors = checkLong(number);
+            return errors == null ? into.succeed(number) : into.fail(errors);
+        }
+        return copy(parseText(text), into);
+    }
+
+    long parseLongOrThrow(Object value) {
+        // Inteiros já válidos retornam sem criar o resultado intermediário
+        if (value instanceof Number && isIntegral(value)) {
+            long number = ((Number) value).longValue();
+            if (checkLong(number) == null) return number;
+        }
+
+        PrimitiveResult result = new PrimitiveResult();
+        if (!parseLong(value, result)) {
+            throw new SchemaIllegalArgumentException(ParseResult.invalid(result.getIssues()), value);
+        }
+        return result.getLong();
+    }
+
+    long parseLongOrThrow(CharSequence text) {
+        if (text != null && DecimalText.fastScale(text) == 0) {
+            long number = DecimalText.unscaled(text);
+            if (checkLong(number) == null) return number;
+        }
+
+        PrimitiveResult result = new PrimitiveResult();
+        if (!parseLong(text, result)) {
+            throw new SchemaIllegalArgumentException(ParseResult.invalid(result.getIssues()), text);
+        }
+        return result.getLong();
+    }
+
+    // --- Auxiliares ---
+
+    private static List<Issue> append(List<Issue> errors, List<Issue> error) {
+        if (errors == null) return error;
+        List<Issue> merged = new ArrayList<>(errors);
+        merged.addAll(error);
+        return merged;
+    }
+
+    static boolean copy(ParseResult<? extends Number> result, PrimitiveResult into) {
+        if (!result.isSuccess()) return into.fail(result.getIssues());
+        return into.succeed(result.getValue().longValue());
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isWhole(BigDecimal number) {
+        return number.signum() == 0 || number.scale() <= 0 || number.stripTrailingZeros().scale() <= 0;
+    }
+
+    // Limites informados como double passam pelo Double.toString: min(0.1) vale 0.1, não 0.1000000000000000055...
+    private static BigDecimal toDecimal(Number bound) {
+        if (bound == null) return null;
+        if (bound instanceof BigDecimal) return (BigDecimal) bound;
+        if (bound instanceof BigInteger) return new BigDecimal((BigInteger) bound);
+        if (isIntegral(bound)) return BigDecimal.valueOf(bound.longValue());
+
+        double value = bound.doubleValue();
+        if (Double.isNaN(value)) return null;
+        if (Double.isInfinite(value)) return value > 0 ? LONG_MAX.add(BigDecimal.ONE) : LONG_MIN.subtract(BigDecimal.ONE);
+        return BigDecimal.valueOf(value);
+    }
+
+    private static long clamp(BigDecimal integral) {
+        if (integral.compareTo(LONG_MIN) < 0) return Long.MIN_VALUE;
+        if (integral.compareTo(LONG_MAX) > 0) return Long.MAX_VALUE;
+        return integral.longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T convertToType(Number number) {
+        Number result = switch (this.type) {
+            case INT -> number.intValue();
+            case LONG -> number.longValue();
+            case FLOAT -> number.floatValue();
+            case BIGINT -> number instanceof BigInteger ? number
+                    : number instanceof BigDecimal ? ((BigDecimal) number).toBigInteger()
+                    : BigInteger.valueOf(number.longValue());
+            case BIGDECIMAL -> number instanceof BigDecimal ? number
+                    : number instanceof BigInteger ? new BigDecimal((BigInteger) number)
+                    : isIntegral(number) ? BigDecimal.valueOf(number.longValue())
+                    : BigDecimal.valueOf(number.doubleValue());
+            default -> number.doubleValue();
+        };
+
+        return (T) result;
+    }
+}
@@ -0,0 +1,92 @@
+package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
+
+import java.math.BigDecimal;
+
+/**
+ * Leitura exata de números em texto, sem passar por double.
+ * <p>
+ * Textos simples ({@code -123}, {@code 19.90}) com até 18 dígitos são lidos direto para um long
+ * (dígitos sem o ponto) mais a escala, sem alocar nada. O resto (espaços, expoente, mais dígitos)
+ * vai para o {@link BigDecimal}, que também é exato.
+ */
+final class DecimalText {
+    // Expoentes acima disso são rejeitados: 1e999999999 viraria um BigInteger gigantesco
+    private static final int MAX_SCALE = 10_000;
+
+    private DecimalText() {}
+
+    /**
+     * Escala (casas decimais) de um texto simples, ou -1 se o texto precisar do caminho lento.
+     */
+    static int fastScale(CharSequence text) {
+        int length = text.length();
+        int i = length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || digits > 18) return -1;
+        return Math.max(scale, 0);
+    }
+
+    /**
+     * Dígitos de um texto aceito por {@link #fastScale}, ignorando o ponto.
+     */
+    static long unscaled(CharSequence text) {
+        int length = text.length();
+        boolean negative = text.charAt(0) == '-';
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Caminho lento: aceita espaços nas pontas e expoente. Null se o texto não for um número decimal
+     * (NaN, Infinity, hexadecimal e sufixos como "1.5f" não são aceitos).
+     */
+    static BigDecimal parse(CharSequence text) {
+        try {
+            BigDecimal value = new BigDecimal(text.toString().trim());
+            return Math.abs(value.scale()) > MAX_SCALE ? null : value;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Total de dígitos em notação fixa (parte inteira + casas decimais), ignorando zeros à direita
+     * das casas decimais: a precisão de um DECIMAL(p, s) do SQL.
+     */
+    static int digits(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return Math.max(stripped.precision() - stripped.scale(), 0) + Math.max(stripped.scale(), 0);
+    }
+
+    static int digits(long value) {
+        int digits = 1;
+        while (value <= -10 || value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Casas decimais, ignorando zeros à direita ({@code 10.50} tem 1).
+     */
+    static int scale(BigDecimal value) {
+        return Math.max(value.stripTrailingZeros().scale(), 0);
+    }
+}
@@ -1,6 +1,9 @@
 package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
 
 import studio.styx.schemaEXtended.core.interfaces.NumberType;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+import java.math.BigDecimal;
 
 public class IntegerSchema extends NumberSchema<Integer> {
     public IntegerSchema() {
@@ -10,4 +13,193 @@ public class IntegerSchema extends NumberSchema<Integer> {
         super(NumberType.INT);
         super.parseError(errorMsg);
     }
-}
\ No newline at end of file
+
+    // --- Métodos de Configuração (retornam IntegerSchema para permitir o parseInt no fim da cadeia) ---
+
+    @Override
+    public IntegerSchema coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public IntegerSchema coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public IntegerSchema optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public IntegerSchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema min(double min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema max(double max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema min(double min, String error) {
+        super.min(min, error);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema max(double max, String error) {
+        super.max(max, error);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema min(Integer min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema max(Integer max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema min(long min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema max(long max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema min(long min, String error) {
+        super.min(min, error);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema max(long max, String error) {
+        super.max(max, error);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema min(BigDecimal min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema max(BigDecimal max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema minError(String minError) {
+        super.minError(minError);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema maxError(String maxError) {
+        super.maxError(maxError);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema parseError(String parseError) {
+        super.parseError(parseError);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema typeError(String typeError) {
+        super.typeError(typeError);
+        return this;
+    }
+
+    @Override
+    public IntegerSchema defaultValue(Number defaultValue) {
+        super.defaultValue(defaultValue);
+        return this;
+    }
+
+    // --- Parse Primitivo ---
+
+    /**
+     * Valida e retorna um int sem boxing. Limites comparados como inteiros; valores fora da faixa de int falham com o typeError.
+     * Com {@code metrics(...)} ou {@code memoize(...)} passa pelas mesmas camadas do {@link #parse(Object)} (e aí há boxing).
+     *
+     * @throws studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException se a validação falhar
+     */
+    public int parseInt(Object value) {
+        return (int) primitiveOrThrow(value);
+    }
+
+    /**
+     * Valida um texto numérico. Não depende de {@code coerce()}.
+     */
+    public int parseInt(CharSequence text) {
+        return (int) primitiveOrThrow(text);
+    }
+
+    /**
+     * Valida escrevendo o resultado em {@code into}, que pode ser reaproveitado entre chamadas.
+     * Null só é aceito quando há defaultValue.
+     */
+    public boolean parseInt(Object value, PrimitiveResult into) {
+        return primitive(value, into);
+    }
+
+    public boolean parseInt(CharSequence text, PrimitiveResult into) {
+        return primitive(text, into);
+    }
+}
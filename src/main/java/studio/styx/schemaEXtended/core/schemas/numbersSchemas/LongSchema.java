@@ -1,6 +1,9 @@
 package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
 
 import studio.styx.schemaEXtended.core.interfaces.NumberType;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
+
+import java.math.BigDecimal;
 
 public class LongSchema extends NumberSchema<Long> {
     public LongSchema() {
@@ -10,4 +13,193 @@ public class LongSchema extends NumberSchema<Long> {
         super(NumberType.LONG);
         super.parseError(errorMsg);
     }
-}
\ No newline at end of file
+
+    // --- Métodos de Configuração (retornam LongSchema para permitir o parseLong no fim da cadeia) ---
+
+    @Override
+    public LongSchema coerce() {
+        super.coerce();
+        return this;
+    }
+
+    @Override
+    public LongSchema coerce(boolean coerce) {
+        super.coerce(coerce);
+        return this;
+    }
+
+    @Override
+    public LongSchema optional() {
+        super.optional();
+        return this;
+    }
+
+    @Override
+    public LongSchema optional(boolean optional) {
+        super.optional(optional);
+        return this;
+    }
+
+    @Override
+    public LongSchema abortEarly() {
+        super.abortEarly();
+        return this;
+    }
+
+    @Override
+    public LongSchema abortEarly(boolean abortEarly) {
+        super.abortEarly(abortEarly);
+        return this;
+    }
+
+    @Override
+    public LongSchema name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public LongSchema metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public LongSchema memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
+    @Override
+    public LongSchema min(double min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public LongSchema max(double max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public LongSchema min(double min, String error) {
+        super.min(min, error);
+        return this;
+    }
+
+    @Override
+    public LongSchema max(double max, String error) {
+        super.max(max, error);
+        return this;
+    }
+
+    @Override
+    public LongSchema min(Integer min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public LongSchema max(Integer max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public LongSchema min(long min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public LongSchema max(long max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public LongSchema min(long min, String error) {
+        super.min(min, error);
+        return this;
+    }
+
+    @Override
+    public LongSchema max(long max, String error) {
+        super.max(max, error);
+        return this;
+    }
+
+    @Override
+    public LongSchema min(BigDecimal min) {
+        super.min(min);
+        return this;
+    }
+
+    @Override
+    public LongSchema max(BigDecimal max) {
+        super.max(max);
+        return this;
+    }
+
+    @Override
+    public LongSchema minError(String minError) {
+        super.minError(minError);
+        return this;
+    }
+
+    @Override
+    public LongSchema maxError(String maxError) {
+        super.maxError(maxError);
+        return this;
+    }
+
+    @Override
+    public LongSchema parseError(String parseError) {
+        super.parseError(parseError);
+        return this;
+    }
+
+    @Override
+    public LongSchema typeError(String typeError) {
+        super.typeError(typeError);
+        return this;
+    }
+
+    @Override
+    public LongSchema defaultValue(Number defaultValue) {
+        super.defaultValue(defaultValue);
+        return this;
+    }
+
+    // --- Parse Primitivo ---
+
+    /**
+     * Valida e retorna um long sem boxing. Limites comparados como inteiros; valores fora da faixa de long falham com o typeError.
+     * Com {@code metrics(...)} ou {@code memoize(...)} passa pelas mesmas camadas do {@link #parse(Object)} (e aí há boxing).
+     *
+     * @throws studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException se a validação falhar
+     */
+    public long parseLong(Object value) {
+        return primitiveOrThrow(value);
+    }
+
+    /**
+     * Valida um texto numérico. Não depende de {@code coerce()}.
+     */
+    public long parseLong(CharSequence text) {
+        return primitiveOrThrow(text);
+    }
+
+    /**
+     * Valida escrevendo o resultado em {@code into}, que pode ser reaproveitado entre chamadas.
+     * Null só é aceito quando há defaultValue.
+     */
+    public boolean parseLong(Object value, PrimitiveResult into) {
+        return primitive(value, into);
+    }
+
+    public boolean parseLong(CharSequence text, PrimitiveResult into) {
+        return primitive(text, into);
+    }
+}
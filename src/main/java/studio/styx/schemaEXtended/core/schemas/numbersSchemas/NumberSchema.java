@@ -1,26 +1,38 @@
 package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
 
+import studio.styx.schemaEXtended.core.CompiledSchema;
 import studio.styx.schemaEXtended.core.ParseResult;
 import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException;
 import studio.styx.schemaEXtended.core.interfaces.NumberType;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.metrics.ValidationMetrics;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoublePredicate;
 
 // ADICIONADO <T extends Number> AQUI
 public class NumberSchema<T extends Number> extends Schema<T> {
 
     private NumberType type;
-    private Double min;
-    private Double max;
-    private String minError = "The provided number is less than the minimum required";
-    private String maxError = "The provided number is bigger than the maximum required";
-    private String parseError = "The provided value is not a number";
-    private String typeError = "The provided number does not match the required type";
+    // Double, Long ou BigDecimal: tipos exatos (INT/LONG/BIGINT/BIGDECIMAL) comparam sem passar por double
+    private Number min;
+    private Number max;
+    // Mensagens null = mensagem padrão do código
+    private String minError;
+    private String maxError;
+    private String parseError;
+    private String typeError;
     private Number defaultValue;
     private boolean integerOnly = false;
+    // Regras de escala/precisão (expostas pelo BigDecimalSchema)
+    Integer maxScale;
+    Integer maxPrecision;
+    String scaleError;
+    String precisionError;
 
     @Override
     public NumberSchema<T> coerce() {
@@ -28,6 +40,24 @@ public class NumberSchema<T extends Number> extends Schema<T> {
         return this;
     }
 
+    @Override
+    public NumberSchema<T> name(String name) {
+        super.name(name);
+        return this;
+    }
+
+    @Override
+    public NumberSchema<T> metrics(String name, ValidationMetrics metrics) {
+        super.metrics(name, metrics);
+        return this;
+    }
+
+    @Override
+    public NumberSchema<T> memoize(int maxEntries) {
+        super.memoize(maxEntries);
+        return this;
+    }
+
     public NumberSchema(String parseError) {
         this.type = NumberType.DOUBLE;
         this.parseError(parseError);
@@ -44,58 +74,107 @@ public class NumberSchema<T extends Number> extends Schema<T> {
 
     public NumberSchema<T> min(double min) {
         this.min = min;
+        changed();
         return this;
     }
 
     public NumberSchema<T> max(double max) {
         this.max = max;
+        changed();
         return this;
     }
 
     public NumberSchema<T> min(double min, String error) {
         this.min = min;
         this.minError = error;
+        changed();
         return this;
     }
 
     public NumberSchema<T> max(double max, String error) {
         this.max = max;
         this.maxError = error;
+        changed();
         return this;
     }
 
     public NumberSchema<T> min(Integer min) {
-        this.min = min.doubleValue();
+        this.min = min.longValue();
+        changed();
         return this;
     }
 
     public NumberSchema<T> max(Integer max) {
-        this.max = max.doubleValue();
+        this.max = max.longValue();
+        changed();
+        return this;
+    }
+
+    public NumberSchema<T> min(long min) {
+        this.min = min;
+        changed();
+        return this;
+    }
+
+    public NumberSchema<T> max(long max) {
+        this.max = max;
+        changed();
+        return this;
+    }
+
+    public NumberSchema<T> min(long min, String error) {
+        this.min = min;
+        this.minError = error;
+        changed();
+        return this;
+    }
+
+    public NumberSchema<T> max(long max, String error) {
+        this.max = max;
+        this.maxError = error;
+        changed();
+        return this;
+    }
+
+    public NumberSchema<T> min(BigDecimal min) {
+        this.min = min;
+        changed();
+        return this;
+    }
+
+    public NumberSchema<T> max(BigDecimal max) {
+        this.max = max;
+        changed();
         return this;
     }
 
     public NumberSchema<T> minError(String minError) {
         this.minError = minError;
+        changed();
         return this;
     }
 
     public NumberSchema<T> maxError(String maxError) {
         this.maxError = maxError;
+        changed();
         return this;
     }
 
     public NumberSchema<T> parseError(String parseError) {
         this.parseError = parseError;
+        changed();
         return this;
     }
 
     public NumberSchema<T> typeError(String typeError) {
         this.typeError = typeError;
+        changed();
         return this;
     }
 
     public NumberSchema<T> defaultValue(Number defaultValue) {
         this.defaultValue = defaultValue;
+        changed();
         return this;
     }
 
@@ -104,93 +183,89 @@ public class NumberSchema<T extends Number> extends Schema<T> {
         if (this.type == NumberType.DOUBLE || this.type == NumberType.FLOAT) {
             this.type = NumberType.INT;
         }
+        changed();
         return this;
     }
 
+    public NumberType getType() {
+        return type;
+    }
+
     @Override
     public ParseResult<T> parse(Object value) {
-        List<String> errors = new ArrayList<>();
-
-        // Tratamento de null
-        if (value == null) {
-            if (defaultValue != null) {
-                // Cast seguro pois convertToType garante o retorno T
-                return ParseResult.success(convertToType(defaultValue));
-            }
-            if (this.isOptional()) {
-                return ParseResult.success(null);
-            } else {
-                return ParseResult.failure(List.of(parseError));
-            }
-        }
+        return compile().parse(value);
+    }
 
-        // Coercion de string para número
-        if (this.isCoerce() && value instanceof String) {
-            try {
-                value = Double.parseDouble((String) value);
-            } catch (NumberFormatException e) {
-                return ParseResult.failure(List.of(parseError));
-            }
-        }
+    // --- Parse primitivo (IntegerSchema, LongSchema) ---
+    // Sem métricas e sem memoização vai direto ao plano base, sem boxing. Com elas passa pelo plano completo
+    // como o parse(value); a entrada texto é medida (parseWithPlan), mas não memoizada, já que não depende do coerce.
 
-        // Conversão para número
-        Number number = convertToNumber(value, errors);
-        if (!errors.isEmpty()) {
-            return ParseResult.failure(errors);
+    final long primitiveOrThrow(Object value) {
+        CompiledSchema<T> plan = compile();
+        if (plan == plan.unwrap()) {
+            return ((CompiledNumberSchema<T>) plan).parseLongOrThrow(value);
         }
-
-        // Validações
-        validateNumber(number, errors);
-
-        return errors.isEmpty()
-                ? ParseResult.success(convertToType(number))
-                : ParseResult.failure(errors);
+        return parseOrThrow(value).longValue();
     }
 
-    private Number convertToNumber(Object value, List<String> errors) {
-        if (value instanceof Number) {
-            return (Number) value;
+    final long primitiveOrThrow(CharSequence text) {
+        CompiledSchema<T> plan = compile();
+        if (plan == plan.unwrap()) {
+            return ((CompiledNumberSchema<T>) plan).parseLongOrThrow(text);
         }
-
-        if (this.isCoerce()) {
-            try {
-                if (value instanceof String) {
-                    return Double.parseDouble((String) value);
-                } else if (value instanceof Boolean) {
-                    return (Boolean) value ? 1 : 0;
-                }
-            } catch (NumberFormatException e) {
-                errors.add(parseError);
-                return null;
-            }
+        ParseResult<T> result = parseWithPlan(text, base -> ((CompiledNumberSchema<T>) base).parseText(text));
+        if (!result.isSuccess()) {
+            throw new SchemaIllegalArgumentException(result, text);
         }
-
-        errors.add(parseError);
-        return null;
+        return result.getValue().longValue();
     }
 
-    private void validateNumber(Number number, List<String> errors) {
-        if (number == null) return;
-        double value = number.doubleValue();
+    final boolean primitive(Object value, PrimitiveResult into) {
+        CompiledSchema<T> plan = compile();
+        if (plan == plan.unwrap()) {
+            return ((CompiledNumberSchema<T>) plan).parseLong(value, into);
+        }
+        return CompiledNumberSchema.copy(plan.parse(value), into);
+    }
 
-        if (min != null && value < min) errors.add(minError);
-        if (max != null && value > max) errors.add(maxError);
-        if (integerOnly && value % 1 != 0) errors.add(typeError);
+    final boolean primitive(CharSequence text, PrimitiveResult into) {
+        CompiledSchema<T> plan = compile();
+        if (plan == plan.unwrap()) {
+            return ((CompiledNumberSchema<T>) plan).parseLong(text, into);
+        }
+        return CompiledNumberSchema.copy(parseWithPlan(text, base -> ((CompiledNumberSchema<T>) base).parseText(text)), into);
     }
 
-    @SuppressWarnings("unchecked")
-    private T convertToType(Number number) {
-        if (number == null) return null;
+    @Override
+    protected CompiledSchema<T> createCompiledSchema(boolean abortEarly) {
+        List<DoublePredicate> checks = new ArrayList<>();
+        List<Issue> checkIssues = new ArrayList<>();
+        Issue minIssue = Issue.withMessage(IssueCode.TOO_SMALL, minError, min);
+        Issue maxIssue = Issue.withMessage(IssueCode.TOO_BIG, maxError, max);
+        Issue typeIssue = Issue.withMessage(IssueCode.NUMBER_TYPE, typeError, type);
+
+        if (min != null) {
+            double minValue = min.doubleValue();
+            checks.add(v -> !(v < minValue));
+            checkIssues.add(minIssue);
+        }
+
+        if (max != null) {
+            double maxValue = max.doubleValue();
+            checks.add(v -> !(v > maxValue));
+            checkIssues.add(maxIssue);
+        }
 
-        Number result = switch (this.type) {
-            case INT -> number.intValue();
-            case LONG -> number.longValue();
-            case FLOAT -> number.floatValue();
-            case BIGINT -> BigInteger.valueOf(number.longValue());
-            case BIGDECIMAL -> BigDecimal.valueOf(number.doubleValue());
-            default -> number.doubleValue();
-        };
+        if (integerOnly) {
+            checks.add(v -> v % 1 == 0);
+            checkIssues.add(typeIssue);
+        }
 
-        return (T) result;
+        return new CompiledNumberSchema<>(
+                type, this.isCoerce(), this.isOptional(), abortEarly, Issue.withMessage(IssueCode.NOT_NUMBER, parseError),
+                defaultValue, checks, checkIssues, min, max, integerOnly, minIssue, maxIssue, typeIssue, maxScale, maxPrecision,
+                Issue.withMessage(IssueCode.TOO_MANY_DECIMALS, scaleError, maxScale),
+                Issue.withMessage(IssueCode.TOO_MANY_DIGITS, precisionError, maxPrecision)
+        );
     }
-}
\ No newline at end of file
+}
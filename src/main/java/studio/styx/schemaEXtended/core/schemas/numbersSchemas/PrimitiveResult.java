@@ -0,0 +1,70 @@
+package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
+
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.Issues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado mutável dos parses primitivos ({@link IntegerSchema#parseInt(Object, PrimitiveResult)},
+ * {@link LongSchema#parseLong(Object, PrimitiveResult)}). Reaproveitado entre chamadas, evita o boxing
+ * e o {@link studio.styx.schemaEXtended.core.ParseResult} de cada valor.
+ * <p>
+ * Não é thread-safe: use uma instância por thread.
+ */
+public final class PrimitiveResult {
+    private long value;
+    private List<Issue> issues = List.of();
+    private boolean success;
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int getInt() {
+        checkSuccess();
+        return (int) value;
+    }
+
+    public long getLong() {
+        checkSuccess();
+        return value;
+    }
+
+    public List<Issue> getIssues() {
+        return issues;
+    }
+
+    /**
+     * Mensagens dos erros, formatadas a cada chamada pelo {@link Issues#formatter()} atual.
+     */
+    public List<String> getErrors() {
+        if (issues.isEmpty()) return List.of();
+        List<String> messages = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            messages.add(Issues.formatter().format(issue));
+        }
+        return messages;
+    }
+
+    boolean succeed(long value) {
+        this.value = value;
+        this.issues = List.of();
+        this.success = true;
+        return true;
+    }
+
+    boolean fail(List<Issue> issues) {
+        this.value = 0;
+        this.issues = issues;
+        this.success = false;
+        return false;
+    }
+
+    private void checkSuccess() {
+        if (!success) {
+            throw new IllegalStateException("Validation failed: " + getErrors());
+        }
+    }
+}
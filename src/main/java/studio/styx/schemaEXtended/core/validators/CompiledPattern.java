@@ -0,0 +1,28 @@
+package studio.styx.schemaEXtended.core.validators;
+
+import java.util.regex.Pattern;
+
+/**
+ * {@link Pattern} já compilado. Cada validação cria o seu {@link java.util.regex.Matcher}: é uma alocação
+ * curta, e um Matcher por thread ficaria preso a cada thread (inclusive virtuais) enquanto o schema existir.
+ */
+public final class CompiledPattern {
+    private final Pattern pattern;
+
+    public CompiledPattern(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    public Pattern pattern() {
+        return pattern;
+    }
+
+    public boolean matches(CharSequence input) {
+        return pattern.matcher(input).matches();
+    }
+
+    @Override
+    public String toString() {
+        return pattern.pattern();
+    }
+}
@@ -0,0 +1,107 @@
+package studio.styx.schemaEXtended.core.validators;
+
+import studio.styx.schemaEXtended.core.interfaces.FormatMode;
+
+/**
+ * Validador de email em passada única, sem regex e sem alocação.
+ * <ul>
+ *     <li>{@link FormatMode#STRICT}: local-part dot-atom (RFC 5322, 3.2.3) com no máximo 64 caracteres,
+ *     domínio DNS/IDN com ao menos dois labels ou address literal {@code [IPv4]} / {@code [IPv6:...]}
+ *     (RFC 5321, 4.1.3), total de até 254 caracteres.</li>
+ *     <li>{@link FormatMode#LENIENT}: equivalente a {@code ^[A-Za-z0-9+_.-]+@(.+)$}.</li>
+ * </ul>
+ */
+public final class EmailValidator {
+    private static final int MAX_EMAIL_LENGTH = 254;
+    private static final int MAX_LOCAL_LENGTH = 64;
+
+    private EmailValidator() {}
+
+    public static boolean isValid(CharSequence email, FormatMode mode) {
+        return mode == FormatMode.STRICT ? isValidStrict(email) : isValidLenient(email);
+    }
+
+    private static boolean isValidLenient(CharSequence email) {
+        int length = email.length();
+        int i = 0;
+
+        while (i < length && isLenientLocalChar(email.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i >= length || email.charAt(i) != '@') return false;
+
+        // Domínio: qualquer coisa não vazia sem quebra de linha
+        i++;
+        if (i == length) return false;
+        for (; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isValidStrict(CharSequence email) {
+        int length = email.length();
+        if (length > MAX_EMAIL_LENGTH) return false;
+
+        // Local-part: atoms separados por pontos simples
+        int i = 0;
+        boolean expectAtom = true;
+        while (i < length) {
+            char c = email.charAt(i);
+            if (c == '@') break;
+            if (c == '.') {
+                if (expectAtom) return false; // ponto inicial ou duplo
+                expectAtom = true;
+            } else if (isAtext(c)) {
+                expectAtom = false;
+            } else {
+                return false;
+            }
+            i++;
+        }
+
+        if (i == 0 || i >= length || expectAtom || i > MAX_LOCAL_LENGTH) return false;
+
+        int domainStart = i + 1;
+        if (domainStart >= length) return false;
+
+        // Address literal
+        if (email.charAt(domainStart) == '[') {
+            if (email.charAt(length - 1) != ']') return false;
+            int literalStart = domainStart + 1;
+            int literalEnd = length - 1;
+            if (startsWithIgnoreCase(email, literalStart, literalEnd, "IPv6:")) {
+                return HostValidator.isValidIpv6(email, literalStart + 5, literalEnd);
+            }
+            return HostValidator.isValidIpv4(email, literalStart, literalEnd);
+        }
+
+        return HostValidator.isValidHostname(email, domainStart, length, true);
+    }
+
+    private static boolean isLenientLocalChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    // atext da RFC 5322, seção 3.2.3
+    private static boolean isAtext(char c) {
+        if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) return true;
+        return switch (c) {
+            case '!', '#', '$', '%', '&', '\'', '*', '+', '-', '/', '=', '?', '^', '_', '`', '{', '|', '}', '~' -> true;
+            default -> false;
+        };
+    }
+
+    static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    static boolean startsWithIgnoreCase(CharSequence s, int start, int end, String prefix) {
+        if (end - start < prefix.length()) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(s.charAt(start + i)) != Character.toLowerCase(prefix.charAt(i))) return false;
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package studio.styx.schemaEXtended.core.validators;
+
+/**
+ * Validação de hosts sem regex e sem alocação: nomes DNS (RFC 1035/1123),
+ * IDN em U-label ou A-label punycode (RFC 5890/3492), IPv4 e IPv6 (RFC 4291).
+ * Todos os métodos trabalham sobre o intervalo [start, end) da sequência.
+ */
+final class HostValidator {
+    private static final int MAX_HOST_LENGTH = 253;
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    // Parâmetros do punycode (RFC 3492, seção 5)
+    private static final int BASE = 36;
+    private static final int T_MIN = 1;
+    private static final int T_MAX = 26;
+    private static final int SKEW = 38;
+    private static final int DAMP = 700;
+    private static final int INITIAL_BIAS = 72;
+    private static final int INITIAL_N = 128;
+
+    private HostValidator() {}
+
+    /**
+     * Nome de host DNS. Com {@code requireDot}, exige ao menos dois labels.
+     * O último label nunca pode ser totalmente numérico (evita confundir com IPv4).
+     */
+    static boolean isValidHostname(CharSequence s, int start, int end, boolean requireDot) {
+        int length = end - start;
+        if (length <= 0 || length > MAX_HOST_LENGTH) return false;
+
+        int labels = 0;
+        int labelStart = start;
+        boolean lastLabelNumeric = true;
+
+        for (int i = start; i <= end; i++) {
+            if (i == end || s.charAt(i) == '.') {
+                if (!isValidLabel(s, labelStart, i)) return false;
+                lastLabelNumeric = isAllDigits(s, labelStart, i);
+                labels++;
+                labelStart = i + 1;
+            }
+        }
+
+        if (lastLabelNumeric) return false;
+        return !requireDot || labels >= 2;
+    }
+
+    private static boolean isValidLabel(CharSequence s, int start, int end) {
+        int length = end - start;
+        if (length <= 0 || length > MAX_LABEL_LENGTH) return false;
+        if (s.charAt(start) == '-' || s.charAt(end - 1) == '-') return false;
+
+        boolean ascii = true;
+        for (int i = start; i < end; ) {
+            int cp = Character.codePointAt(s, i);
+            if (cp < 0x80) {
+                if (!isLdh(cp)) return false;
+            } else {
+                // U-label: letras, dígitos e marcas combinantes
+                if (!isIdnCodePoint(cp)) return false;
+                ascii = false;
+            }
+            i += Character.charCount(cp);
+        }
+
+        if (!ascii) return true;
+
+        // Hífens nas posições 3 e 4 são reservados; só "xn--" (A-label) é permitido
+        if (length >= 4 && s.charAt(start + 2) == '-' && s.charAt(start + 3) == '-') {
+            char c0 = s.charAt(start);
+            char c1 = s.charAt(start + 1);
+            if ((c0 == 'x' || c0 == 'X') && (c1 == 'n' || c1 == 'N')) {
+                return isValidPunycode(s, start + 4, end);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Decodifica o punycode apenas para validar, sem montar a string resultante.
+     */
+    static boolean isValidPunycode(CharSequence s, int start, int end) {
+        if (start >= end) return false;
+
+        int delimiter = -1;
+        for (int i = end - 1; i >= start; i--) {
+            if (s.charAt(i) == '-') {
+                delimiter = i;
+                break;
+            }
+        }
+
+        int outputLength = 0;
+        int in = start;
+        if (delimiter >= start) {
+            for (int i = start; i < delimiter; i++) {
+                if (s.charAt(i) >= 0x80) return false;
+                outputLength++;
+            }
+            in = delimiter + 1;
+        }
+
+        if (in >= end) return false; // A-label sem nenhum code point não-ASCII
+
+        int n = INITIAL_N;
+        int i = 0;
+        int bias = INITIAL_BIAS;
+
+        while (in < end) {
+            int oldi = i;
+            int w = 1;
+            for (int k = BASE; ; k += BASE) {
+                if (in >= end) return false;
+                int digit = decodeDigit(s.charAt(in++));
+                if (digit < 0) return false;
+                if (digit > (Integer.MAX_VALUE - i) / w) return false;
+                i += digit * w;
+
+                int t = k <= bias ? T_MIN : (k >= bias + T_MAX ? T_MAX : k - bias);
+                if (digit < t) break;
+
+                if (w > Integer.MAX_VALUE / (BASE - t)) return false;
+                w *= BASE - t;
+            }
+
+            outputLength++;
+            bias = adapt(i - oldi, outputLength, oldi == 0);
+
+            if (i / outputLength > Integer.MAX_VALUE - n) return false;
+            n += i / outputLength;
+            i %= outputLength;
+
+            if (n < 0x80 || n > Character.MAX_CODE_POINT) return false;
+            if (n >= Character.MIN_SURROGATE && n <= Character.MAX_SURROGATE) return false;
+            i++;
+        }
+        return true;
+    }
+
+    private static int adapt(int delta, int numPoints, boolean firstTime) {
+        delta = firstTime ? delta / DAMP : delta / 2;
+        delta += delta / numPoints;
+
+        int k = 0;
+        while (delta > ((BASE - T_MIN) * T_MAX) / 2) {
+            delta /= BASE - T_MIN;
+            k += BASE;
+        }
+        return k + (BASE - T_MIN + 1) * delta / (delta + SKEW);
+    }
+
+    private static int decodeDigit(char c) {
+        if (c >= '0' && c <= '9') return c - '0' + 26;
+        if (c >= 'a' && c <= 'z') return c - 'a';
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        return -1;
+    }
+
+    /**
+     * IPv4 em notação decimal com quatro octetos (0-255), sem zeros à esquerda.
+     */
+    static boolean isValidIpv4(CharSequence s, int start, int end) {
+        int octets = 0;
+        int i = start;
+
+        while (octets < 4) {
+            int digits = 0;
+            int value = 0;
+            int octetStart = i;
+            while (i < end && isDigit(s.charAt(i))) {
+                value = value * 10 + (s.charAt(i) - '0');
+                digits++;
+                i++;
+                if (digits > 3) return false;
+            }
+            if (digits == 0 || value > 255) return false;
+            if (digits > 1 && s.charAt(octetStart) == '0') return false;
+            octets++;
+
+            if (octets < 4) {
+                if (i >= end || s.charAt(i) != '.') return false;
+                i++;
+            }
+        }
+        return i == end;
+    }
+
+    /**
+     * IPv6 textual (RFC 4291, seção 2.2), com compressão "::" e IPv4 embutido no final.
+     */
+    static boolean isValidIpv6(CharSequence s, int start, int end) {
+        if (start >= end) return false;
+
+        int groups = 0;
+        boolean compressed = false;
+        int i = start;
+
+        if (s.charAt(i) == ':') {
+            if (i + 1 >= end || s.charAt(i + 1) != ':') return false;
+            compressed = true;
+            i += 2;
+            if (i == end) return true; // "::"
+        }
+
+        while (i < end) {
+            int groupStart = i;
+            int hexDigits = 0;
+            while (i < end && isHex(s.charAt(i))) {
+                hexDigits++;
+                i++;
+            }
+
+            // Final em IPv4 embutido (ex: ::ffff:192.0.2.1)
+            if (i < end && s.charAt(i) == '.') {
+                if (groups > 6 || !isValidIpv4(s, groupStart, end)) return false;
+                groups += 2;
+                i = end;
+                break;
+            }
+
+            if (hexDigits == 0 || hexDigits > 4) return false;
+            groups++;
+
+            if (i == end) break;
+            if (s.charAt(i) != ':') return false;
+            i++;
+
+            if (i < end && s.charAt(i) == ':') {
+                if (compressed) return false;
+                compressed = true;
+                i++;
+                if (i == end) break;
+            } else if (i == end) {
+                return false; // ':' solto no final
+            }
+        }
+
+        return compressed ? groups <= 7 : groups == 8;
+    }
+
+    private static boolean isAllDigits(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isLdh(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    private static boolean isIdnCodePoint(int cp) {
+        if (Character.isLetterOrDigit(cp)) return true;
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
\ No newline at end of file
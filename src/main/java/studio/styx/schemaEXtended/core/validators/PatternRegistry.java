@@ -0,0 +1,103 @@
+package studio.styx.schemaEXtended.core.validators;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de regex compiladas com cache LRU limitado por tamanho.
+ * Uma instância compartilhada por processo fica disponível em {@link #shared()}.
+ */
+public final class PatternRegistry {
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final PatternRegistry SHARED = new PatternRegistry(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final Map<Key, CompiledPattern> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PatternRegistry(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompiledPattern> eldest) {
+                if (size() > PatternRegistry.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static PatternRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retorna a regex compilada, compilando e guardando no cache se necessário.
+     *
+     * @throws java.util.regex.PatternSyntaxException se a regex for inválida
+     */
+    public CompiledPattern get(String regex) {
+        return get(regex, 0);
+    }
+
+    public CompiledPattern get(String regex, int flags) {
+        Key key = new Key(regex, flags);
+
+        synchronized (cache) {
+            CompiledPattern cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        // Compila fora do lock para não bloquear as outras threads
+        misses.increment();
+        CompiledPattern compiled = new CompiledPattern(Pattern.compile(regex, flags));
+
+        synchronized (cache) {
+            CompiledPattern existing = cache.putIfAbsent(key, compiled);
+            return existing != null ? existing : compiled;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private record Key(String regex, int flags) {}
+}
@@ -0,0 +1,62 @@
+package studio.styx.schemaEXtended.core.validators;
+
+import studio.styx.schemaEXtended.core.interfaces.FormatMode;
+
+/**
+ * Validador de telefone em passada única, sem regex e sem alocação.
+ * <ul>
+ *     <li>{@link FormatMode#STRICT}: número E.164 ({@code +} seguido de 2 a 15 dígitos, o primeiro diferente de zero,
+ *     sem separadores).</li>
+ *     <li>{@link FormatMode#LENIENT}: ignora espaços e aceita {@code +} opcional seguido de ao menos
+ *     10 caracteres entre dígitos, {@code -}, {@code (} e {@code )}.</li>
+ * </ul>
+ */
+public final class PhoneValidator {
+    private static final int E164_MAX_DIGITS = 15;
+    private static final int E164_MIN_DIGITS = 2;
+    private static final int LENIENT_MIN_CHARS = 10;
+
+    private PhoneValidator() {}
+
+    public static boolean isValid(CharSequence phone, FormatMode mode) {
+        return mode == FormatMode.STRICT ? isValidE164(phone) : isValidLenient(phone);
+    }
+
+    private static boolean isValidE164(CharSequence phone) {
+        int length = phone.length();
+        int digits = length - 1;
+        if (digits < E164_MIN_DIGITS || digits > E164_MAX_DIGITS) return false;
+        if (phone.charAt(0) != '+') return false;
+
+        char first = phone.charAt(1);
+        if (first < '1' || first > '9') return false;
+
+        for (int i = 2; i < length; i++) {
+            if (!HostValidator.isDigit(phone.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isValidLenient(CharSequence phone) {
+        int length = phone.length();
+        int count = 0;
+        boolean first = true;
+
+        for (int i = 0; i < length; i++) {
+            char c = phone.charAt(i);
+            if (UrlValidator.isRegexWhitespace(c)) continue;
+
+            if (first) {
+                first = false;
+                if (c == '+') continue;
+            }
+
+            if (HostValidator.isDigit(c) || c == '-' || c == '(' || c == ')') {
+                count++;
+            } else {
+                return false;
+            }
+        }
+        return count >= LENIENT_MIN_CHARS;
+    }
+}
\ No newline at end of file
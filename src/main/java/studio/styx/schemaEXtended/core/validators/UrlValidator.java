@@ -0,0 +1,183 @@
+package studio.styx.schemaEXtended.core.validators;
+
+import studio.styx.schemaEXtended.core.interfaces.FormatMode;
+
+/**
+ * Validador de URL (http, https e ftp) em passada única, sem regex e sem alocação.
+ * <ul>
+ *     <li>{@link FormatMode#STRICT}: sintaxe da RFC 3986 ({@code scheme://[userinfo@]host[:port][path][?query][#fragment]}),
+ *     host DNS/IDN, IPv4 ou {@code [IPv6]}, porta até 65535, percent-encoding válido e caracteres
+ *     não-ASCII apenas fora de espaços/controles (IRI, RFC 3987).</li>
+ *     <li>{@link FormatMode#LENIENT}: equivalente a {@code ^(https?|ftp)://[^\s/$.?#].[^\s]*$} (case-insensitive).</li>
+ * </ul>
+ */
+public final class UrlValidator {
+    private static final int MAX_PORT = 65535;
+
+    private UrlValidator() {}
+
+    public static boolean isValid(CharSequence url, FormatMode mode) {
+        int authorityStart = schemeEnd(url);
+        if (authorityStart < 0) return false;
+
+        return mode == FormatMode.STRICT
+                ? isValidStrict(url, authorityStart)
+                : isValidLenient(url, authorityStart);
+    }
+
+    /**
+     * Retorna o índice logo após "://" ou -1 se o esquema não for http, https ou ftp.
+     */
+    private static int schemeEnd(CharSequence url) {
+        int length = url.length();
+        if (EmailValidator.startsWithIgnoreCase(url, 0, length, "https://")) return 8;
+        if (EmailValidator.startsWithIgnoreCase(url, 0, length, "http://")) return 7;
+        if (EmailValidator.startsWithIgnoreCase(url, 0, length, "ftp://")) return 6;
+        return -1;
+    }
+
+    private static boolean isValidLenient(CharSequence url, int i) {
+        int length = url.length();
+        if (i >= length) return false;
+
+        int first = Character.codePointAt(url, i);
+        if (isRegexWhitespace(first) || first == '/' || first == '$' || first == '.' || first == '?' || first == '#') {
+            return false;
+        }
+        i += Character.charCount(first);
+
+        if (i >= length) return false;
+        int second = Character.codePointAt(url, i);
+        if (second <= 0xFFFF && EmailValidator.isLineTerminator((char) second)) return false;
+        i += Character.charCount(second);
+
+        for (; i < length; i++) {
+            if (isRegexWhitespace(url.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isValidStrict(CharSequence url, int authorityStart) {
+        int length = url.length();
+
+        int authorityEnd = authorityStart;
+        int at = -1;
+        while (authorityEnd < length) {
+            char c = url.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') break;
+            if (c == '@') at = authorityEnd;
+            authorityEnd++;
+        }
+
+        int hostStart = authorityStart;
+        if (at >= 0) {
+            if (!isValidUserInfo(url, authorityStart, at)) return false;
+            hostStart = at + 1;
+        }
+
+        if (!isValidHostAndPort(url, hostStart, authorityEnd)) return false;
+
+        // path-abempty, query e fragment
+        boolean inFragment = false;
+        for (int i = authorityEnd; i < length; i++) {
+            char c = url.charAt(i);
+            if (c == '#') {
+                if (inFragment) return false;
+                inFragment = true;
+                continue;
+            }
+            if (c == '%') {
+                if (i + 2 >= length || !HostValidator.isHex(url.charAt(i + 1)) || !HostValidator.isHex(url.charAt(i + 2))) {
+                    return false;
+                }
+                i += 2;
+                continue;
+            }
+            if (!isPathChar(c)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isValidHostAndPort(CharSequence url, int start, int end) {
+        if (start >= end) return false;
+
+        int hostEnd = end;
+        if (url.charAt(start) == '[') {
+            int close = -1;
+            for (int i = start + 1; i < end; i++) {
+                if (url.charAt(i) == ']') {
+                    close = i;
+                    break;
+                }
+            }
+            if (close < 0 || !HostValidator.isValidIpv6(url, start + 1, close)) return false;
+            hostEnd = close + 1;
+            if (hostEnd < end && url.charAt(hostEnd) != ':') return false;
+        } else {
+            for (int i = start; i < end; i++) {
+                if (url.charAt(i) == ':') {
+                    hostEnd = i;
+                    break;
+                }
+            }
+            if (!HostValidator.isValidIpv4(url, start, hostEnd)
+                    && !HostValidator.isValidHostname(url, start, hostEnd, false)) {
+                return false;
+            }
+        }
+
+        if (hostEnd == end) return true;
+
+        // Porta
+        int portStart = hostEnd + 1;
+        int digits = end - portStart;
+        if (digits <= 0 || digits > 5) return false;
+        int port = 0;
+        for (int i = portStart; i < end; i++) {
+            char c = url.charAt(i);
+            if (!HostValidator.isDigit(c)) return false;
+            port = port * 10 + (c - '0');
+        }
+        return port <= MAX_PORT;
+    }
+
+    private static boolean isValidUserInfo(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= end || !HostValidator.isHex(s.charAt(i + 1)) || !HostValidator.isHex(s.charAt(i + 2))) {
+                    return false;
+                }
+                i += 2;
+            } else if (!(isUnreserved(c) || isSubDelim(c) || c == ':')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // pchar + "/" + "?" (RFC 3986, 3.3 a 3.5), aceitando ucschar da RFC 3987
+    private static boolean isPathChar(char c) {
+        if (c >= 0x80) {
+            return !Character.isWhitespace(c) && !Character.isISOControl(c) && !Character.isSpaceChar(c);
+        }
+        return isUnreserved(c) || isSubDelim(c) || c == ':' || c == '@' || c == '/' || c == '?';
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static boolean isSubDelim(char c) {
+        return switch (c) {
+            case '!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '=' -> true;
+            default -> false;
+        };
+    }
+
+    // \s do java.util.regex: [ \t\n\x0B\f\r]
+    static boolean isRegexWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
\ No newline at end of file
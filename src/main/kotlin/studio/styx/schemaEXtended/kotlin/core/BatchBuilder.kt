@@ -3,6 +3,9 @@ package studio.styx.schemaEXtended.kotlin.core
 import studio.styx.schemaEXtended.core.Schema
 import studio.styx.schemaEXtended.core.batch.BatchResult
 import studio.styx.schemaEXtended.core.batch.BatchValidator
+import java.util.concurrent.Executor
+import kotlin.time.Duration
+import kotlin.time.toJavaDuration
 
 class BatchBuilder {
     val validator = BatchValidator()
@@ -21,8 +24,29 @@ class BatchBuilder {
 }
 
 // A função principal
-fun validateBatch(block: BatchBuilder.() -> Unit): BatchResult {
+// concurrent = true valida cada entrada numa virtual thread; executor tem prioridade sobre concurrent
+// timeout só vale para a validação concorrente
+fun validateBatch(
+    concurrent: Boolean = false,
+    executor: Executor? = null,
+    timeout: Duration? = null,
+    block: BatchBuilder.() -> Unit
+): BatchResult {
     val builder = BatchBuilder()
     builder.block()
-    return builder.validator.validate()
-}
\ No newline at end of file
+    timeout?.let { builder.validator.timeout(it.toJavaDuration()) }
+    return when {
+        executor != null -> builder.validator.validate(executor)
+        concurrent -> builder.validator.validateConcurrently()
+        else -> builder.validator.validate()
+    }
+}
+
+// Validador reutilizável: só as regras, os valores chegam no validate(map)
+// val rules = batchRules { "username" rules StringSchema().minLength(3) }
+// rules.validate(mapOf("username" to "Jo"))
+fun batchRules(block: BatchBuilder.() -> Unit): BatchValidator {
+    val builder = BatchBuilder()
+    builder.block()
+    return builder.validator
+}
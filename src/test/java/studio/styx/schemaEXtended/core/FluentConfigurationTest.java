@@ -0,0 +1,37 @@
+package studio.styx.schemaEXtended.core;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.metrics.SchemaMetrics;
+import studio.styx.schemaEXtended.core.schemas.BooleanSchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.DoubleSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.NumberSchema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentConfigurationTest {
+
+    @Test
+    void readmeMemoizeExampleKeepsTheSchemaType() {
+        StringSchema currency = new StringSchema().regex("^[A-Z]{3}$").memoize(1_000);
+
+        assertTrue(currency.parse("BRL").isSuccess());
+        assertTrue(currency.parse("BRL").isSuccess());
+        assertFalse(currency.parse("brl").isSuccess());
+        assertEquals(1, currency.getCacheStats().hits());
+    }
+
+    @Test
+    void sharedOptionsChainIntoSchemaSpecificOptions() {
+        SchemaMetrics metrics = new SchemaMetrics();
+
+        StringSchema name = new StringSchema().name("name").metrics("name", metrics).memoize(10).minLength(2);
+        BooleanSchema active = new BooleanSchema().name("active").metrics("active", metrics).memoize(10).defaultValue(true);
+        NumberSchema<Double> price = new DoubleSchema().name("price").metrics("price", metrics).memoize(10).min(0.0);
+
+        assertFalse(name.parse("a").isSuccess());
+        assertEquals(Boolean.TRUE, active.parse(null).getValue());
+        assertFalse(price.parse(-1.0).isSuccess());
+        assertEquals(3, metrics.snapshot().size());
+    }
+}
@@ -0,0 +1,105 @@
+package studio.styx.schemaEXtended.core;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.schemas.ArraySchema;
+import studio.styx.schemaEXtended.core.schemas.ObjectSchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaCompileCacheTest {
+
+    @Test
+    void planIsReusedWhileConfigurationIsUnchanged() {
+        StringSchema schema = new StringSchema().minLength(2);
+        assertSame(schema.compile(), schema.compile());
+    }
+
+    @Test
+    void configuringAnotherSchemaKeepsThePlan() {
+        StringSchema schema = new StringSchema().memoize(100);
+        CompiledSchema<String> plan = schema.compile();
+        schema.parse("abc");
+        schema.parse("abc");
+
+        new StringSchema().minLength(1);
+
+        assertSame(plan, schema.compile());
+        assertEquals(1, schema.getCacheStats().hits());
+    }
+
+    @Test
+    void ownChangeRebuildsThePlan() {
+        StringSchema schema = new StringSchema();
+        CompiledSchema<String> plan = schema.compile();
+        schema.minLength(3);
+
+        assertNotSame(plan, schema.compile());
+        assertFalse(schema.parse("ab").isSuccess());
+    }
+
+    @Test
+    void nestedChildChangeRebuildsParents() {
+        StringSchema tag = new StringSchema();
+        ObjectSchema schema = new ObjectSchema()
+                .addProperty("tags", new ArraySchema<>(tag));
+        Map<String, Object> input = Map.of("tags", List.of("a"));
+        CompiledSchema<ObjectSchemaResult> plan = schema.compile();
+        assertTrue(schema.parse(input).isSuccess());
+
+        tag.minLength(2);
+
+        assertNotSame(plan, schema.compile());
+        assertFalse(schema.parse(input).isSuccess());
+    }
+
+    @Test
+    void sharedChildInvalidatesEveryParent() {
+        StringSchema name = new StringSchema();
+        ObjectSchema user = new ObjectSchema().addProperty("name", name);
+        ObjectSchema company = new ObjectSchema().addProperty("owner", user).addProperty("name", name);
+        CompiledSchema<ObjectSchemaResult> userPlan = user.compile();
+        CompiledSchema<ObjectSchemaResult> companyPlan = company.compile();
+
+        name.minLength(5);
+
+        assertNotSame(userPlan, user.compile());
+        assertNotSame(companyPlan, company.compile());
+        assertFalse(user.parse(Map.of("name", "Ana")).isSuccess());
+    }
+
+    @Test
+    void cachedPlanIsReturnedWithoutVisitingChildren() {
+        int[] childCompiles = {0};
+        StringSchema child = new StringSchema() {
+            @Override
+            public CompiledSchema<String> compile(boolean abortEarly) {
+                childCompiles[0]++;
+                return super.compile(abortEarly);
+            }
+        };
+        ObjectSchema schema = new ObjectSchema().addProperty("a", new ObjectSchema().addProperty("b", child));
+        schema.compile();
+        int afterFirstCompile = childCompiles[0];
+
+        for (int i = 0; i < 100; i++) {
+            schema.parse(Map.of("a", Map.of("b", "x")));
+        }
+
+        assertEquals(afterFirstCompile, childCompiles[0]);
+    }
+
+    @Test
+    void abortEarlyPlanIsCachedSeparately() {
+        ObjectSchema schema = new ObjectSchema().addProperty("name", new StringSchema());
+        CompiledSchema<ObjectSchemaResult> plan = schema.compile();
+        CompiledSchema<ObjectSchemaResult> abortEarly = schema.compile(true);
+
+        assertNotSame(plan, abortEarly);
+        assertSame(plan, schema.compile());
+        assertSame(abortEarly, schema.compile(true));
+    }
+}
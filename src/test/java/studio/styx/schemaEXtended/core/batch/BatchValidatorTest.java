@@ -0,0 +1,163 @@
+package studio.styx.schemaEXtended.core.batch;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchValidatorTest {
+
+    private static BatchValidator bound() {
+        return new BatchValidator()
+                .add("name", new StringSchema().minLength(3).bind("Jo"))
+                .add("age", new IntegerSchema().min(0).bind(30))
+                .add("email", new StringSchema().email().bind("not-an-email"))
+                .add("city", new StringSchema().bind("Rio"));
+    }
+
+    // Schema que fica bloqueado até ser interrompido (ou até 5s)
+    private static Schema<String> blocking(CountDownLatch interrupted) {
+        Schema<String> schema = new Schema<>() {
+            @Override
+            public ParseResult<String> parse(Object value) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return ParseResult.success("late");
+            }
+        };
+        schema.bind("x");
+        return schema;
+    }
+
+    @Test
+    void concurrentResultMatchesSequentialInOrder() {
+        BatchResult sequential = bound().validate();
+        BatchResult concurrent = bound().validateConcurrently();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BatchResult pooled = bound().validate(executor);
+
+            for (BatchResult result : List.of(concurrent, pooled)) {
+                assertEquals(List.copyOf(sequential.getValues().keySet()), List.copyOf(result.getValues().keySet()));
+                assertEquals(List.copyOf(sequential.getErrors().keySet()), List.copyOf(result.getErrors().keySet()));
+                assertEquals(sequential.getErrors(), result.getErrors());
+                assertEquals(sequential.getValues(), result.getValues());
+            }
+            assertEquals(List.of("name", "email"), List.copyOf(sequential.getErrors().keySet()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void timedOutEntryGetsTheTimeoutErrorAndIsInterrupted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            BatchResult result = new BatchValidator()
+                    .add("fast", new StringSchema().bind("ok"))
+                    .add("slow", blocking(interrupted))
+                    .add("invalid", new StringSchema().minLength(5).bind("ab"))
+                    .timeout(Duration.ofMillis(100))
+                    .validate(executor);
+
+            assertEquals(List.of("slow", "invalid"), List.copyOf(result.getErrors().keySet()));
+            assertEquals(List.of("Validation timed out"), result.getErrors().get("slow"));
+            assertEquals("ok", result.getValues().get("fast"));
+            assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void schemaExceptionsPropagateLikeTheSequentialMode() {
+        Schema<String> failing = new Schema<>() {
+            @Override
+            public ParseResult<String> parse(Object value) {
+                throw new UnsupportedOperationException("boom");
+            }
+        };
+        failing.bind("x");
+        BatchValidator validator = new BatchValidator()
+                .add("ok", new StringSchema().bind("a"))
+                .add("failing", failing);
+
+        assertEquals("boom", assertThrows(UnsupportedOperationException.class, validator::validate).getMessage());
+        assertEquals("boom", assertThrows(UnsupportedOperationException.class, validator::validateConcurrently).getMessage());
+    }
+
+    @Test
+    void unboundEntryIsReportedInEveryMode() {
+        BatchValidator validator = new BatchValidator()
+                .add("bound", new StringSchema().bind("a"))
+                .add("unbound", new StringSchema());
+
+        List<String> expected = List.of("No value bound to schema for validation");
+        assertEquals(expected, validator.validate().getErrors().get("unbound"));
+        assertEquals(expected, validator.validateConcurrently().getErrors().get("unbound"));
+    }
+
+    @Test
+    void valuesModeLeavesSchemasUntouchedAndKeepsOrder() {
+        StringSchema name = new StringSchema().minLength(3);
+        BatchValidator rules = new BatchValidator()
+                .add("name", name)
+                .add("age", new IntegerSchema().min(0))
+                .add("nick", new StringSchema().optional());
+
+        BatchResult result = rules.validate(Map.of("name", "Ana", "age", -1, "ignored", "x"));
+
+        assertEquals(List.of("age"), List.copyOf(result.getErrors().keySet()));
+        assertEquals(List.of("name", "nick"), List.copyOf(result.getValues().keySet()));
+        assertThrows(IllegalStateException.class, name::parse);
+
+        List<BatchResult> all = rules.validateAll(List.of(Map.of("name", "Al", "age", 1), Map.of("name", "Bob", "age", 2)));
+        assertTrue(all.get(0).getErrors().containsKey("name"));
+        assertFalse(all.get(1).hasErrors());
+    }
+
+    @Test
+    void oneValidatorServesManyThreads() throws Exception {
+        BatchValidator rules = new BatchValidator()
+                .add("name", new StringSchema().minLength(3))
+                .add("age", new IntegerSchema().min(0));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> checks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                checks.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        int age = (i + thread) % 2 == 0 ? i : -i - 1;
+                        BatchResult result = rules.validate(Map.of("name", "user" + i, "age", age));
+                        if (result.hasErrors() != age < 0) return false;
+                        if (age >= 0 && !Integer.valueOf(age).equals(result.getValues().get("age"))) return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> check : checks) {
+                assertTrue(check.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package studio.styx.schemaEXtended.core.bulk;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+import studio.styx.schemaEXtended.core.schemas.ObjectSchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonValidatorTest {
+
+    private static final ObjectSchema SCHEMA = new ObjectSchema()
+            .addProperty("name", new StringSchema().minLength(2));
+
+    private interface FileTest {
+        void run(Path file) throws IOException;
+    }
+
+    private static void withFile(String content, FileTest test) throws IOException {
+        Path file = Files.createTempFile("ndjson", ".ndjson");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            test.run(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<NdjsonLine<ObjectSchemaResult>> readAll(NdjsonValidator<ObjectSchemaResult> validator, Path file)
+            throws IOException {
+        List<NdjsonLine<ObjectSchemaResult>> lines = new ArrayList<>();
+        validator.validate(file, lines::add);
+        return lines;
+    }
+
+    @Test
+    void chunkAndBatchBoundariesDoNotChangeTheResult() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content.append("{\"name\": \"user").append(i).append("\"}\n");
+        }
+        content.append("{\"name\": \"").append("x".repeat(500)).append("\"}\n"); // maior que o chunk
+        content.append("{\"name\": \"a\"}"); // inválida e sem '\n' final
+
+        withFile(content.toString(), file -> {
+            List<NdjsonLine<ObjectSchemaResult>> whole = readAll(new NdjsonValidator<>(SCHEMA), file);
+            List<NdjsonLine<ObjectSchemaResult>> split = readAll(new NdjsonValidator<>(SCHEMA)
+                    .chunkSize(64)
+                    .batchBytes(40)
+                    .parallelism(2), file);
+
+            assertEquals(202, split.size());
+            for (int i = 0; i < whole.size(); i++) {
+                assertEquals(whole.get(i).toString(), split.get(i).toString());
+                assertEquals(i + 1L, split.get(i).getLineNumber());
+            }
+            assertEquals("x".repeat(500), split.get(200).getValue().get("name"));
+            assertFalse(split.get(201).isSuccess());
+
+            byte[] bytes = Files.readAllBytes(file);
+            NdjsonLine<ObjectSchemaResult> last = split.get(201);
+            assertEquals("{\"name\": \"a\"}",
+                    new String(bytes, (int) last.getOffset(), last.getLength(), StandardCharsets.UTF_8));
+        });
+    }
+
+    @Test
+    void crlfAndBlankLinesAreSkippedButCounted() throws IOException {
+        String content = "{\"name\": \"Ana\"}\r\n\r\n   \n{\"name\": \"Bob\"}\r\n\n";
+
+        withFile(content, file -> {
+            List<NdjsonLine<ObjectSchemaResult>> lines = readAll(new NdjsonValidator<>(SCHEMA).chunkSize(8), file);
+
+            assertEquals(2, lines.size());
+            assertEquals(1L, lines.get(0).getLineNumber());
+            assertEquals(4L, lines.get(1).getLineNumber());
+            assertEquals("Bob", lines.get(1).getValue().get("name"));
+            assertEquals(content.indexOf("{\"name\": \"Bob\"}"), lines.get(1).getOffset());
+            assertEquals(15, lines.get(1).getLength()); // sem o '\r'
+        });
+    }
+
+    @Test
+    void errorOffsetPointsIntoTheFile() throws IOException {
+        String content = "{\"name\": \"Ana\"}\n{\"name\": @}\n{\"name\": \"Bob\"} x\n";
+
+        withFile(content, file -> {
+            List<NdjsonLine<ObjectSchemaResult>> lines = readAll(new NdjsonValidator<>(SCHEMA).chunkSize(16), file);
+
+            assertEquals(3, lines.size());
+            assertEquals(-1L, lines.get(0).getErrorOffset());
+
+            NdjsonLine<ObjectSchemaResult> malformed = lines.get(1);
+            assertEquals(IssueCode.INVALID_JSON, malformed.getResult().getIssues().get(0).getCode());
+            assertEquals(content.indexOf('@'), malformed.getErrorOffset());
+
+            NdjsonLine<ObjectSchemaResult> trailing = lines.get(2);
+            assertFalse(trailing.isSuccess());
+            assertEquals(content.indexOf('x'), trailing.getErrorOffset());
+        });
+    }
+
+    @Test
+    void earlyCloseReleasesTheFile() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            content.append("{\"name\": \"user").append(i).append("\"}\n");
+        }
+
+        withFile(content.toString(), file -> {
+            NdjsonValidator<ObjectSchemaResult> validator = new NdjsonValidator<>(SCHEMA)
+                    .chunkSize(4_096)
+                    .batchBytes(512)
+                    .parallelism(1);
+            NdjsonIterator<ObjectSchemaResult> lines = validator.open(file);
+            try (lines) {
+                for (int i = 0; i < 3; i++) {
+                    assertEquals(i + 1L, lines.next().getLineNumber());
+                }
+            }
+
+            assertFalse(lines.hasNext());
+            lines.close(); // idempotente
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package studio.styx.schemaEXtended.core.cache;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.schemas.ArraySchema;
+import studio.styx.schemaEXtended.core.schemas.IntArraySchema;
+import studio.styx.schemaEXtended.core.schemas.ObjectSchema;
+import studio.styx.schemaEXtended.core.schemas.StringSchema;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizedSchemaTest {
+
+    @Test
+    void cachedListCannotBeChangedByACaller() {
+        ArraySchema<String> schema = new ArraySchema<>(new StringSchema());
+        schema.coerce();
+        schema.memoize(100);
+
+        List<String> first = schema.parse("a,b").getValue();
+        assertThrows(UnsupportedOperationException.class, () -> first.add("INJECTED"));
+
+        assertEquals(List.of("a", "b"), schema.parse("a,b").getValue());
+        assertEquals(1, schema.getCacheStats().hits());
+    }
+
+    @Test
+    void listsNestedInObjectResultsAreFrozenToo() {
+        ObjectSchema schema = new ObjectSchema().coerce()
+                .addProperty("name", new StringSchema())
+                .addProperty("tags", new ArraySchema<>(new StringSchema()))
+                .memoize(100);
+        String json = "{\"name\": \"Ana\", \"tags\": [\"x\", \"y\"]}";
+
+        ObjectSchemaResult first = schema.parse(json).getValue();
+        List<String> tags = first.get("tags");
+        assertThrows(UnsupportedOperationException.class, () -> tags.add("INJECTED"));
+
+        ObjectSchemaResult second = schema.parse(json).getValue();
+        assertSame(first, second);
+        assertEquals(List.of("x", "y"), second.get("tags"));
+    }
+
+    @Test
+    void resultsWithOtherMutableValuesAreNotCached() {
+        ObjectSchema schema = new ObjectSchema().coerce()
+                .addProperty("ids", new IntArraySchema().coerce())
+                .memoize(100);
+        String json = "{\"ids\": [1, 2]}";
+
+        int[] first = schema.parse(json).getValue().get("ids");
+        first[0] = 99;
+
+        assertArrayEquals(new int[]{1, 2}, schema.parse(json).getValue().<int[]>get("ids"));
+        assertEquals(0, schema.getCacheStats().hits());
+    }
+
+    @Test
+    void failuresAndImmutableValuesAreCachedAsBefore() {
+        StringSchema schema = new StringSchema().minLength(3).memoize(100);
+
+        assertSame(schema.parse("ab"), schema.parse("ab"));
+        assertSame(schema.parse("abc"), schema.parse("abc"));
+    }
+}
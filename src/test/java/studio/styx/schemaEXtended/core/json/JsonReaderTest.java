@@ -0,0 +1,120 @@
+package studio.styx.schemaEXtended.core.json;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.exceptions.JsonParseException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReaderTest {
+
+    private static Object read(String json) {
+        JsonReader reader = JsonReader.of(json);
+        Object value = reader.readValue();
+        reader.endDocument();
+        return value;
+    }
+
+    private static Object read(byte[] utf8) {
+        JsonReader reader = JsonReader.of(utf8, 0, utf8.length);
+        Object value = reader.readValue();
+        reader.endDocument();
+        return value;
+    }
+
+    private static String failure(String json) {
+        return assertThrows(JsonParseException.class, () -> read(json)).getMessage();
+    }
+
+    @Test
+    void readsValuesFromTextAndBytes() {
+        String json = "{\"a\": [1, 2.5, -3e2], \"b\": {\"c\": null, \"d\": true}, \"e\": \"x\\u00e9\\n\"}";
+
+        Object fromText = read(json);
+        Object fromBytes = read(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(fromText, fromBytes);
+        Map<?, ?> map = (Map<?, ?>) fromText;
+        assertEquals(List.of("a", "b", "e"), List.copyOf(map.keySet()));
+        assertEquals("xé\n", map.get("e"));
+        assertEquals(3, ((List<?>) map.get("a")).size());
+    }
+
+    @Test
+    void directBufferMatchesHeapBytes() {
+        byte[] utf8 = "[\"ação\", 10]".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length).put(utf8).flip();
+
+        JsonReader reader = JsonReader.of(direct);
+        assertEquals(read(utf8), reader.readValue());
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void malformedInputIsRejected() {
+        assertTrue(failure("{\"a\": 1,}").contains("Trailing comma"));
+        assertTrue(failure("[1 2]").contains("Expected ',' or closing bracket"));
+        assertTrue(failure("{'a': 1}").contains("Expected property name"));
+        assertTrue(failure("\"abc").contains("Unterminated string"));
+        assertTrue(failure("\"\\q\"").contains("Invalid escape sequence"));
+        assertTrue(failure("\"\\u12x4\"").contains("Invalid unicode escape"));
+        assertTrue(failure("01").contains("Unexpected trailing content"));
+        assertTrue(failure("-").contains("Invalid number"));
+        assertTrue(failure("tru").contains("Expected boolean"));
+        assertTrue(failure("[").contains("Unexpected end of input"));
+        assertTrue(failure("").contains("Unexpected end of input"));
+    }
+
+    @Test
+    void trailingContentIsRejectedButWhitespaceIsNot() {
+        assertEquals(Map.of("a", 1), read(" {\"a\": 1} \n\t"));
+        JsonParseException e = assertThrows(JsonParseException.class, () -> read("{\"a\": 1} x"));
+        assertTrue(e.getMessage().contains("Unexpected trailing content"));
+        assertEquals(9, e.getPosition());
+    }
+
+    @Test
+    void nestingDepthIsLimited() {
+        assertNotNull(read("[".repeat(512) + "]".repeat(512)));
+        assertTrue(failure("[".repeat(513) + "]".repeat(513)).contains("Maximum nesting depth exceeded"));
+
+        // skipValue segue o mesmo limite
+        JsonReader reader = JsonReader.of("[".repeat(10_000) + "]".repeat(10_000));
+        assertThrows(JsonParseException.class, reader::skipValue);
+    }
+
+    @Test
+    void invalidUtf8IsRejected() {
+        byte[][] invalid = {
+                {'"', (byte) 0xC3, '"'},                             // sequência truncada
+                {'"', (byte) 0x80, '"'},                             // byte de continuação solto
+                {'"', (byte) 0xC0, (byte) 0xAF, '"'},                // forma longa
+                {'"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"'},   // surrogate
+                {'"', (byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80, '"'},
+        };
+        for (byte[] bytes : invalid) {
+            String message = assertThrows(JsonParseException.class, () -> read(bytes)).getMessage();
+            assertTrue(message.contains("UTF-8"), message);
+        }
+        assertEquals("\uD83D\uDE00", read("\"\uD83D\uDE00\"".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void unknownValuesCanBeSkipped() {
+        JsonReader reader = JsonReader.of("{\"skip\": {\"x\": [1, {\"y\": \"z\"}]}, \"keep\": 7}");
+        reader.beginObject();
+        assertTrue(reader.hasNext());
+        assertEquals("skip", reader.nextKey());
+        reader.skipValue();
+        assertTrue(reader.hasNext());
+        assertEquals("keep", reader.nextKey());
+        assertEquals(7, reader.nextNumber().intValue());
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        reader.endDocument();
+    }
+}
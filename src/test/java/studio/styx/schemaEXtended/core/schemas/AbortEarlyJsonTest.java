@@ -0,0 +1,71 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Um objeto abortEarly que falha no meio da leitura precisa consumir o resto do objeto,
+ * senão o leitor do array ou do objeto pai sai de sincronia.
+ */
+class AbortEarlyJsonTest {
+
+    private static ObjectSchema item() {
+        return new ObjectSchema().abortEarly()
+                .addProperty("a", new IntegerSchema())
+                .addProperty("b", new StringSchema());
+    }
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void abortEarlyObjectInsideArray() {
+        ArraySchema<ObjectSchemaResult> schema = new ArraySchema<>(item());
+        schema.coerce();
+        String json = "[{\"a\": 1, \"b\": \"x\"}, {\"a\": \"bad\", \"b\": \"y\", \"c\": [1, {\"d\": 2}]}, {\"a\": 3, \"b\": \"z\"}]";
+        byte[] bytes = utf8(json);
+
+        ParseResult<List<ObjectSchemaResult>> fromBytes = schema.parse(bytes, 0, bytes.length);
+        ParseResult<List<ObjectSchemaResult>> fromText = schema.parse(json);
+
+        assertFalse(fromBytes.isSuccess());
+        assertEquals(Set.of("", "/1/a"), fromBytes.getIssuesByPath().keySet());
+        assertEquals(fromBytes.getIssuesByPath().keySet(), fromText.getIssuesByPath().keySet());
+    }
+
+    @Test
+    void abortEarlyObjectInsideParentObject() {
+        ObjectSchema schema = new ObjectSchema().coerce()
+                .addProperty("item", item())
+                .addProperty("c", new StringSchema());
+        String json = "{\"item\": {\"a\": \"bad\", \"b\": \"y\"}, \"c\": \"ok\"}";
+        byte[] bytes = utf8(json);
+
+        ParseResult<ObjectSchemaResult> fromBytes = schema.parse(bytes, 0, bytes.length);
+        ParseResult<ObjectSchemaResult> fromText = schema.parse(json);
+
+        assertEquals(Set.of("/item/a"), fromBytes.getIssuesByPath().keySet());
+        assertEquals(Set.of("/item/a"), fromText.getIssuesByPath().keySet());
+    }
+
+    @Test
+    void strictAbortEarlyObjectSkipsTheRestAfterAnUnknownKey() {
+        ObjectSchema schema = new ObjectSchema()
+                .addProperty("item", item().strict())
+                .addProperty("c", new StringSchema());
+        byte[] bytes = utf8("{\"item\": {\"x\": {\"y\": [1, 2]}, \"a\": 1, \"b\": \"y\"}, \"c\": \"ok\"}");
+
+        ParseResult<ObjectSchemaResult> result = schema.parse(bytes, 0, bytes.length);
+
+        assertEquals(Set.of("/item/x"), result.getIssuesByPath().keySet());
+    }
+}
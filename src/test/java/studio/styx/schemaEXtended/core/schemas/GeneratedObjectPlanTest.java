@@ -0,0 +1,155 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.CompiledSchema;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.metrics.SchemaMetrics;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * O plano gerado ({@link ObjectSchema#generateCode()}) deve dar exatamente o mesmo resultado do interpretado.
+ */
+class GeneratedObjectPlanTest {
+    public record Address(String city, int zip) {}
+    public record User(String name, int age, Address address) {}
+
+    private static ObjectSchema user(boolean generateCode, boolean strict, boolean abortEarly) {
+        ObjectSchema address = new ObjectSchema()
+                .addProperty("city", new StringSchema().minLength(2))
+                .addProperty("zip", new IntegerSchema().coerce());
+        ObjectSchema schema = new ObjectSchema().coerce()
+                .addProperty("name", new StringSchema().trim().minLength(2))
+                .addProperty("age", new IntegerSchema().min(0))
+                .addProperty("address", address)
+                .addPartial("nick", new StringSchema().maxLength(3))
+                .addPartial("age", new IntegerSchema().max(150))
+                .generateCode(generateCode);
+        return schema.strict(strict).abortEarly(abortEarly);
+    }
+
+    private static List<Object> inputs() {
+        List<Object> inputs = new ArrayList<>();
+        inputs.add(null);
+        inputs.add(42);
+        inputs.add("name=Ana, age=3");
+        inputs.add("{\"name\":\"Bob\",\"age\":200,\"address\":{\"city\":\"X\",\"zip\":\"1\"}}");
+        inputs.add(new User("Al", 5, new Address("Rio", 1)));
+        inputs.add(Map.of());
+        inputs.add(Map.of("name", " Ana ", "age", 30, "address", Map.of("city", "Rio", "zip", "123")));
+        inputs.add(Map.of("name", "A", "age", -1, "address", Map.of("city", "R", "zip", "x"), "nick", "long"));
+        inputs.add(Map.of("name", "Ana", "age", 30, "address", Map.of("city", "Rio", "zip", 1), "extra", 1));
+        inputs.add(Map.of("name", "Ana", "age", 151, "address", "city=Rio"));
+        Map<String, Object> withNull = new HashMap<>();
+        withNull.put("name", "Ana");
+        withNull.put("age", 1);
+        withNull.put("address", Map.of("city", "Rio", "zip", 2));
+        withNull.put("nick", null);
+        inputs.add(withNull);
+        return inputs;
+    }
+
+    private static String describe(ParseResult<?> result) {
+        return result.isSuccess() + "|" + result.getErrors() + "|" + result.getIssuesByPath() + "|"
+                + (result.isSuccess() ? String.valueOf(result.getValue()) : "");
+    }
+
+    @Test
+    void generatedPlanMatchesInterpretedPlan() {
+        for (boolean strict : new boolean[]{false, true}) {
+            for (boolean abortEarly : new boolean[]{false, true}) {
+                ObjectSchema generated = user(true, strict, abortEarly);
+                ObjectSchema interpreted = user(false, strict, abortEarly);
+                assertTrue(generated.compile().getClass().isHidden(), "plan was not generated");
+
+                for (Object input : inputs()) {
+                    assertEquals(describe(interpreted.parse(input)), describe(generated.parse(input)),
+                            "input " + input + " strict=" + strict + " abortEarly=" + abortEarly);
+                }
+
+                byte[] json = "{\"name\":\"Bob\",\"age\":20,\"address\":{\"city\":\"Rio\",\"zip\":5}}"
+                        .getBytes(StandardCharsets.UTF_8);
+                assertEquals(describe(interpreted.parse(json, 0, json.length)),
+                        describe(generated.parse(json, 0, json.length)));
+
+                Map<String, Object> map = Map.of("name", "Ana", "age", 30, "address", Map.of("city", "Rio", "zip", 1));
+                assertEquals(describe(interpreted.parseInto(map, User.class)),
+                        describe(generated.parseInto(map, User.class)));
+            }
+        }
+    }
+
+    @Test
+    void manyPropertiesUseWideConstantsAndStillMatch() {
+        ObjectSchema generated = new ObjectSchema().generateCode();
+        ObjectSchema interpreted = new ObjectSchema();
+        Map<String, Object> valid = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            generated.addProperty("p" + i, new IntegerSchema().min(0));
+            interpreted.addProperty("p" + i, new IntegerSchema().min(0));
+            valid.put("p" + i, i);
+        }
+        assertTrue(generated.compile().getClass().isHidden());
+
+        Map<String, Object> invalid = new LinkedHashMap<>(valid);
+        invalid.put("p150", -1);
+        invalid.remove("p199");
+        assertEquals(describe(interpreted.parse(valid)), describe(generated.parse(valid)));
+        assertEquals(describe(interpreted.parse(invalid)), describe(generated.parse(invalid)));
+    }
+
+    @Test
+    void tooManyPropertiesKeepTheInterpretedPlan() {
+        ObjectSchema schema = new ObjectSchema().generateCode();
+        for (int i = 0; i < 300; i++) {
+            schema.addProperty("p" + i, new StringSchema().optional());
+        }
+        assertTrue(schema.compile() instanceof CompiledObjectSchema);
+        assertTrue(schema.parse(Map.of("p0", "x")).isSuccess());
+    }
+
+    @Test
+    void generatedClassIsCreatedOncePerCompiledPlan() {
+        ObjectSchema address = new ObjectSchema().addProperty("city", new StringSchema());
+        ObjectSchema schema = new ObjectSchema().addProperty("address", address).generateCode();
+
+        CompiledSchema<ObjectSchemaResult> plan = schema.compile();
+        for (int i = 0; i < 10; i++) {
+            schema.parse(Map.of("address", Map.of("city", "Rio")));
+        }
+        assertSame(plan, schema.compile());
+
+        CompiledObjectSchema nested = (CompiledObjectSchema) address.compile();
+        assertSame(nested.generated(), nested.generated());
+
+        // O pai muda; o filho (inalterado) continua com a mesma classe gerada
+        CompiledSchema<?> nestedGenerated = nested.generated();
+        schema.strict();
+        assertNotSame(plan, schema.compile());
+        assertSame(nestedGenerated, ((CompiledObjectSchema) address.compile()).generated());
+    }
+
+    @Test
+    void metricsAndMemoizationWrapTheGeneratedPlan() {
+        SchemaMetrics metrics = new SchemaMetrics();
+        ObjectSchema schema = user(true, false, false);
+        schema.metrics("user", metrics);
+        schema.memoize(10);
+
+        ParseResult<ObjectSchemaResult> result =
+                schema.parse(Map.of("name", "Ana", "age", 30, "address", Map.of("city", "Rio", "zip", 1)));
+
+        assertTrue(result.isSuccess());
+        assertFalse(metrics.snapshot().isEmpty());
+        assertTrue(schema.compile().unwrap() instanceof CompiledObjectSchema);
+    }
+}
@@ -0,0 +1,79 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.Schema;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ArraySchema#parallel(int)} deve dar exatamente o resultado sequencial.
+ */
+class ParallelArrayTest {
+    private static final int SIZE = 10_000;
+
+    private static List<Object> input(int... invalidIndexes) {
+        List<Object> values = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) values.add(i);
+        for (int index : invalidIndexes) values.set(index, -1);
+        return values;
+    }
+
+    @Test
+    void sameResultAsSequential() {
+        ArraySchema<Integer> sequential = new ArraySchema<>(new IntegerSchema().min(0));
+        ArraySchema<Integer> parallel = new ArraySchema<>(new IntegerSchema().min(0)).parallel(100);
+
+        List<Object> valid = input();
+        assertEquals(sequential.parse(valid).getValue(), parallel.parse(valid).getValue());
+
+        List<Object> invalid = input(3, 4_000, 9_999);
+        // Issue não tem equals: compara pela representação
+        assertEquals(sequential.parse(invalid).getIssuesByPath().toString(), parallel.parse(invalid).getIssuesByPath().toString());
+        assertEquals(4, parallel.parse(invalid).getIssues().size()); // INVALID_ELEMENTS + 3 elementos
+    }
+
+    @Test
+    void abortEarlyReportsTheLowestIndexAcrossSegments() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArraySchema<Integer> schema = new ArraySchema<>(new IntegerSchema().min(0)).parallel(100, executor);
+            schema.abortEarly();
+
+            // O erro da última fatia costuma terminar primeiro; vale o de menor índice
+            for (int run = 0; run < 20; run++) {
+                ParseResult<List<Integer>> result = schema.parse(input(9_000, 5_000, 300));
+                assertEquals(List.of("", "/300"), List.copyOf(result.getIssuesByPath().keySet()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void elementExceptionsPropagate() {
+        Schema<Integer> failing = new Schema<>() {
+            @Override
+            public ParseResult<Integer> parse(Object value) {
+                if (Integer.valueOf(7_777).equals(value)) throw new IllegalStateException("boom");
+                return ParseResult.success((Integer) value);
+            }
+        };
+        ArraySchema<Integer> schema = new ArraySchema<>(failing).parallel(100);
+
+        assertEquals("boom", assertThrows(IllegalStateException.class, () -> schema.parse(input())).getMessage());
+    }
+
+    @Test
+    void belowTheThresholdStaysSequential() {
+        ArraySchema<Integer> schema = new ArraySchema<>(new IntegerSchema().min(0)).parallel(SIZE + 1);
+
+        assertEquals(SIZE, schema.parse(input()).getValue().size());
+    }
+}
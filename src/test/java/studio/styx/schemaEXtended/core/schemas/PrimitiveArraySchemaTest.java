@@ -0,0 +1,38 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveArraySchemaTest {
+
+    @Test
+    void defaultIsCopiedForEveryCaller() {
+        int[] configured = {1, 2, 3};
+        IntArraySchema schema = new IntArraySchema().defaultValue(configured);
+
+        int[] first = schema.parse(null).getValue();
+        first[0] = 99;
+        configured[1] = 42;
+
+        assertArrayEquals(new int[]{1, 2, 3}, schema.parse(null).getValue());
+        assertNotSame(schema.parse(null).getValue(), schema.parse(null).getValue());
+    }
+
+    @Test
+    void longAndDoubleDefaultsAreCopiedToo() {
+        LongArraySchema longs = new LongArraySchema().defaultValue(new long[]{7});
+        longs.parse(null).getValue()[0] = 0;
+        assertArrayEquals(new long[]{7}, longs.parse(null).getValue());
+
+        DoubleArraySchema doubles = new DoubleArraySchema().defaultValue(new double[]{1.5});
+        doubles.parse(null).getValue()[0] = 0;
+        assertArrayEquals(new double[]{1.5}, doubles.parse(null).getValue());
+    }
+
+    @Test
+    void nullWithoutDefaultFollowsOptional() {
+        assertFalse(new IntArraySchema().parse(null).isSuccess());
+        assertEquals(0, new IntArraySchema().optional().parse(null).getValue().length);
+    }
+}
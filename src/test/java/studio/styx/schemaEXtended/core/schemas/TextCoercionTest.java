@@ -0,0 +1,65 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextCoercionTest {
+
+    @Test
+    void jsonTextKeepsValueTypes() {
+        ObjectSchema schema = new ObjectSchema().coerce()
+                .addProperty("age", new IntegerSchema())
+                .addProperty("address", new ObjectSchema().addProperty("city", new StringSchema()));
+
+        ParseResult<ObjectSchemaResult> result = schema.parse("{\"age\": 30, \"address\": {\"city\": \"Rio\"}}");
+
+        assertTrue(result.isSuccess());
+        assertEquals(Integer.valueOf(30), result.getValue().getInteger("age"));
+    }
+
+    @Test
+    void singleQuotedFlatTextStillParses() {
+        ObjectSchema schema = new ObjectSchema().coerce()
+                .addProperty("a", new IntegerSchema().coerce())
+                .addProperty("b", new StringSchema());
+
+        ParseResult<ObjectSchemaResult> result = schema.parse("{'a': 1, 'b': 'texto'}");
+
+        assertTrue(result.isSuccess());
+        assertEquals(Integer.valueOf(1), result.getValue().getInteger("a"));
+        assertEquals("texto", result.getValue().getString("b"));
+    }
+
+    @Test
+    void jsonNumberIsAcceptedAsTextByStringSchema() {
+        ObjectSchema schema = new ObjectSchema().coerce().addProperty("a", new StringSchema());
+
+        ParseResult<ObjectSchemaResult> result = schema.parse("{\"a\": 1}");
+
+        assertTrue(result.isSuccess());
+        assertEquals("1", result.getValue().getString("a"));
+    }
+
+    @Test
+    void validJsonThatFailsBothWaysKeepsTheTypedErrors() {
+        ObjectSchema schema = new ObjectSchema().coerce().addProperty("a", new IntegerSchema().coerce());
+
+        ParseResult<ObjectSchemaResult> result = schema.parse("{\"a\": \"x\"}");
+
+        assertFalse(result.isSuccess());
+        assertEquals(List.of("/a"), List.copyOf(result.getIssuesByPath().keySet()));
+    }
+
+    @Test
+    void looseArrayTextStillParses() {
+        assertEquals(List.of("a", "b"), new ArraySchema<>(new StringSchema()).coerce().parse("[a, b]").getValue());
+        assertEquals(List.of("1", "2"), new ArraySchema<>(new StringSchema()).coerce().parse("[1, 2]").getValue());
+        assertEquals(List.of(1, 2), new ArraySchema<>(new IntegerSchema()).coerce().parse("[1, 2]").getValue());
+    }
+}
@@ -0,0 +1,60 @@
+package studio.styx.schemaEXtended.core.schemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.issues.Issue;
+import studio.styx.schemaEXtended.core.issues.IssueCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueElementsTest {
+
+    private static Issue duplicate(ParseResult<?> result) {
+        assertFalse(result.isSuccess());
+        return result.getIssues().stream()
+                .filter(issue -> issue.getCode() == IssueCode.DUPLICATE_ELEMENT)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void duplicateIndexesArePositionsInTheInput() {
+        ArraySchema<String> schema = new ArraySchema<>(new StringSchema().optional()).unique();
+
+        Issue issue = duplicate(schema.parse(Arrays.asList(null, "x", null, "x")));
+
+        assertEquals(3, issue.getParam("index"));
+        assertEquals(1, issue.getParam("first"));
+    }
+
+    @Test
+    void jsonAndParallelPathsReportTheSameIndexes() {
+        byte[] json = "[null, \"a\", null, \"b\", \"a\"]".getBytes(StandardCharsets.UTF_8);
+        Issue fromJson = duplicate(new ArraySchema<>(new StringSchema().optional()).unique().parse(json, 0, json.length));
+        assertEquals(List.of(4, 1), fromJson.getParams());
+
+        List<Object> large = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            large.add(null);
+            large.add("v" + i);
+        }
+        large.add("v10");
+        ArraySchema<String> parallel = new ArraySchema<>(new StringSchema().optional()).unique().parallel(100);
+        assertEquals(List.of(10_000, 21), duplicate(parallel.parse(large)).getParams());
+    }
+
+    @Test
+    void uniqueByUsesInputIndexesToo() {
+        ArraySchema<String> schema = new ArraySchema<>(new StringSchema().optional())
+                .uniqueBy(value -> value.toLowerCase());
+
+        Issue issue = duplicate(schema.parse(Arrays.asList("A", null, "b", "a")));
+
+        assertEquals(List.of(3, 0), issue.getParams());
+    }
+}
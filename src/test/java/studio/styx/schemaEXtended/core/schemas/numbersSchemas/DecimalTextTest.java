@@ -0,0 +1,70 @@
+package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecimalTextTest {
+
+    @Test
+    void fastScaleAcceptsUpToEighteenDigits() {
+        assertEquals(0, DecimalText.fastScale("123456789012345678"));
+        assertEquals(18, DecimalText.fastScale(".123456789012345678"));
+        assertEquals(2, DecimalText.fastScale("-19.90"));
+        assertEquals(0, DecimalText.fastScale("+7"));
+        assertEquals(0, DecimalText.fastScale("7."));
+    }
+
+    @Test
+    void fastScaleRejectsWhatNeedsTheSlowPath() {
+        assertEquals(-1, DecimalText.fastScale("1234567890123456789"));
+        assertEquals(-1, DecimalText.fastScale(""));
+        assertEquals(-1, DecimalText.fastScale("-"));
+        assertEquals(-1, DecimalText.fastScale("."));
+        assertEquals(-1, DecimalText.fastScale(" 1"));
+        assertEquals(-1, DecimalText.fastScale("1e3"));
+        assertEquals(-1, DecimalText.fastScale("1.2.3"));
+    }
+
+    @Test
+    void unscaledIgnoresThePointAndKeepsTheSign() {
+        assertEquals(-1990L, DecimalText.unscaled("-19.90"));
+        assertEquals(123456789012345678L, DecimalText.unscaled(".123456789012345678"));
+        assertEquals(999999999999999999L, DecimalText.unscaled("999999999999999999"));
+    }
+
+    @Test
+    void slowPathIsExactAndBounded() {
+        assertEquals(new BigDecimal("1.5E+3"), DecimalText.parse(" 1.5e3 "));
+        assertNull(DecimalText.parse("NaN"));
+        assertNull(DecimalText.parse("0x10"));
+        assertNull(DecimalText.parse("1.5f"));
+        assertNull(DecimalText.parse("1e999999999"));
+    }
+
+    @Test
+    void eighteenFractionDigitsDoNotOverflowThePowersTable() {
+        IntegerSchema schema = new IntegerSchema().coerce();
+
+        ParseResult<Integer> result = schema.parse(".123456789012345678");
+        assertFalse(result.isSuccess());
+        assertThrows(SchemaIllegalArgumentException.class, () -> schema.parseInt((CharSequence) ".123456789012345678"));
+
+        assertEquals(Integer.valueOf(0), schema.parse(".000000000000000000").getValue());
+        assertEquals(new BigDecimal(".123456789012345678"),
+                new BigDecimalSchema().coerce().parse(".123456789012345678").getValue());
+    }
+
+    @Test
+    void longBoundariesUseTheSlowPathExactly() {
+        LongSchema schema = new LongSchema().coerce();
+        assertEquals(Long.valueOf(Long.MAX_VALUE), schema.parse("9223372036854775807").getValue());
+        assertEquals(Long.valueOf(Long.MIN_VALUE), schema.parse("-9223372036854775808").getValue());
+        assertFalse(schema.parse("9223372036854775808").isSuccess());
+        assertEquals(Long.valueOf(5), schema.parse("5.000000000000000000").getValue());
+    }
+}
@@ -0,0 +1,77 @@
+package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.ObjectSchemaResult;
+import studio.styx.schemaEXtended.core.ParseResult;
+import studio.styx.schemaEXtended.core.schemas.ArraySchema;
+import studio.styx.schemaEXtended.core.schemas.ObjectSchema;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Números lidos de JSON (bytes ou texto coagido) seguem o caminho exato, sem passar por double.
+ */
+class JsonNumberTest {
+
+    private static ParseResult<ObjectSchemaResult> fromBytes(ObjectSchema schema, String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return schema.parse(bytes, 0, bytes.length);
+    }
+
+    @Test
+    void bigDecimalKeepsEveryDigit() {
+        ObjectSchema schema = new ObjectSchema().coerce().addProperty("price", new BigDecimalSchema());
+        String json = "{\"price\": 12345678901234567.89}";
+
+        BigDecimal expected = new BigDecimal("12345678901234567.89");
+        assertEquals(expected, fromBytes(schema, json).getValue().<BigDecimal>get("price"));
+        assertEquals(expected, schema.parse(json).getValue().<BigDecimal>get("price"));
+    }
+
+    @Test
+    void bigDecimalKeepsTheScaleOfTheText() {
+        ObjectSchema schema = new ObjectSchema().addProperty("price", new BigDecimalSchema());
+
+        assertEquals(new BigDecimal("19.90"), fromBytes(schema, "{\"price\": 19.90}").getValue().<BigDecimal>get("price"));
+        assertEquals(new BigDecimal("1E+2"), fromBytes(schema, "{\"price\": 1e2}").getValue().<BigDecimal>get("price"));
+    }
+
+    @Test
+    void longDecimalWithoutFractionIsExact() {
+        ObjectSchema schema = new ObjectSchema().coerce().addProperty("id", new LongSchema());
+        String json = "{\"id\": 1234567890123456789.00}";
+
+        assertEquals(Long.valueOf(1234567890123456789L), fromBytes(schema, json).getValue().getLong("id"));
+        assertEquals(Long.valueOf(1234567890123456789L), schema.parse(json).getValue().getLong("id"));
+    }
+
+    @Test
+    void longRejectsFractionAndOverflowFromJson() {
+        ObjectSchema schema = new ObjectSchema().addProperty("id", new LongSchema());
+
+        assertFalse(fromBytes(schema, "{\"id\": 9007199254740993.5}").isSuccess());
+        assertFalse(fromBytes(schema, "{\"id\": 9223372036854775808}").isSuccess());
+        assertEquals(Long.valueOf(Long.MAX_VALUE), fromBytes(schema, "{\"id\": 9223372036854775807}").getValue().getLong("id"));
+    }
+
+    @Test
+    void arrayElementsAreExactToo() {
+        ArraySchema<BigDecimal> schema = new ArraySchema<>(new BigDecimalSchema());
+        byte[] bytes = "[0.1, 12345678901234567.89]".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(List.of(new BigDecimal("0.1"), new BigDecimal("12345678901234567.89")),
+                schema.parse(bytes, 0, bytes.length).getValue());
+    }
+
+    @Test
+    void jsonStringsStillNeedCoerce() {
+        ObjectSchema schema = new ObjectSchema().addProperty("id", new LongSchema());
+
+        assertFalse(fromBytes(schema, "{\"id\": \"12\"}").isSuccess());
+        assertTrue(fromBytes(new ObjectSchema().addProperty("id", new LongSchema().coerce()), "{\"id\": \"12\"}").isSuccess());
+    }
+}
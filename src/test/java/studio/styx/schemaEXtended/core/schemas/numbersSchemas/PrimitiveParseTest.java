@@ -0,0 +1,55 @@
+package studio.styx.schemaEXtended.core.schemas.numbersSchemas;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.exceptions.SchemaIllegalArgumentException;
+import studio.styx.schemaEXtended.core.metrics.MetricsSnapshot;
+import studio.styx.schemaEXtended.core.metrics.SchemaMetrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveParseTest {
+
+    @Test
+    void primitiveParsesAreMetered() {
+        SchemaMetrics metrics = new SchemaMetrics();
+        IntegerSchema age = new IntegerSchema().min(0);
+        age.metrics("age", metrics);
+        LongSchema id = new LongSchema();
+        id.metrics("id", metrics);
+
+        assertEquals(5, age.parseInt(5));
+        assertEquals(7, age.parseInt("7"));
+        assertThrows(SchemaIllegalArgumentException.class, () -> age.parseInt(-1));
+        assertFalse(age.parseInt("-2", new PrimitiveResult()));
+        PrimitiveResult into = new PrimitiveResult();
+        assertTrue(id.parseLong(9L, into));
+        assertEquals(9L, into.getLong());
+
+        MetricsSnapshot ageMetrics = metrics.snapshot().stream().filter(m -> m.schema().equals("age")).findFirst().orElseThrow();
+        assertEquals(4, ageMetrics.parses());
+        assertEquals(2, ageMetrics.failures());
+        assertEquals(1, metrics.snapshot().stream().filter(m -> m.schema().equals("id")).findFirst().orElseThrow().parses());
+    }
+
+    @Test
+    void primitiveParsesUseTheMemoizedPlan() {
+        LongSchema schema = new LongSchema().min(0L);
+        schema.memoize(10);
+
+        assertEquals(3L, schema.parseLong((Object) 3L));
+        assertEquals(3L, schema.parseLong((Object) 3L));
+        PrimitiveResult into = new PrimitiveResult();
+        assertTrue(schema.parseLong((Object) 3L, into));
+
+        assertEquals(2, schema.getCacheStats().hits());
+    }
+
+    @Test
+    void textInputStaysIndependentOfCoerce() {
+        IntegerSchema schema = new IntegerSchema();
+        schema.memoize(10);
+
+        assertEquals(42, schema.parseInt("42"));
+        assertFalse(schema.parse("42").isSuccess()); // sem coerce; o resultado do texto não foi memoizado
+    }
+}
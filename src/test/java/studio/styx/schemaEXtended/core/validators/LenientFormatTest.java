@@ -0,0 +1,64 @@
+package studio.styx.schemaEXtended.core.validators;
+
+import org.junit.jupiter.api.Test;
+import studio.styx.schemaEXtended.core.interfaces.FormatMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * O modo LENIENT deve aceitar exatamente o que as regex originais do StringSchema aceitavam.
+ */
+class LenientFormatTest {
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final Pattern PHONE = Pattern.compile("^[\\+]?[0-9\\s\\-\\(\\)]{10,}$");
+    private static final Pattern URL = Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$", Pattern.CASE_INSENSITIVE);
+
+    private static final String ALPHABET = "aZ09+-_.@:/?#$()  \t\n\u000B\f\ré hHtTpPfFsS";
+
+    private static List<String> inputs(String... fixed) {
+        List<String> inputs = new ArrayList<>(List.of(fixed));
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            inputs.add(sb.toString());
+            // Prefixos que chegam mais longe nas regras
+            inputs.add("user" + sb);
+            inputs.add("http://" + sb);
+            inputs.add("+55" + sb);
+        }
+        return inputs;
+    }
+
+    @Test
+    void emailMatchesBaselineRegex() {
+        for (String input : inputs("", "a@b", "@b", "a@", "a.b+c@d.e", "a b@c", "é@c", "a@@b", "a@b\n", "a@ ")) {
+            assertEquals(EMAIL.matcher(input).matches(), EmailValidator.isValid(input, FormatMode.LENIENT), input);
+        }
+    }
+
+    @Test
+    void phoneMatchesBaselineRegex() {
+        for (String input : inputs("", "1234567890", "+1234567890", "123456789", "+123 456 7890", "(11) 98765-4321",
+                "++1234567890", "12345\t67890", "1234567890 ", "+", "+ 1234567890", "12345678901234567890")) {
+            boolean expected = PHONE.matcher(input.replaceAll("\\s", "")).matches();
+            assertEquals(expected, PhoneValidator.isValid(input, FormatMode.LENIENT), input);
+        }
+    }
+
+    @Test
+    void urlMatchesBaselineRegex() {
+        for (String input : inputs("", "http://a", "http://ab", "HTTPS://x.y/z?q#f", "ftp://a.b", "ftps://a.b",
+                "http:///a", "http://.a", "http://a b", "http://$a", "http://a ", "mailto:a@b", "http://éé")) {
+            assertEquals(URL.matcher(input).matches(), UrlValidator.isValid(input, FormatMode.LENIENT), input);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package studio.styx.schemaEXtended.kotlin.core
+
+import studio.styx.schemaEXtended.core.ParseResult
+import studio.styx.schemaEXtended.core.Schema
+import studio.styx.schemaEXtended.core.schemas.StringSchema
+import studio.styx.schemaEXtended.core.schemas.numbersSchemas.IntegerSchema
+import java.util.concurrent.Executors
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+import kotlin.time.Duration.Companion.milliseconds
+
+class BatchBuilderTest {
+
+    @Test
+    fun everyModeKeepsTheDeclarationOrder() {
+        fun batch(concurrent: Boolean) = validateBatch(concurrent = concurrent) {
+            "name" rules StringSchema().minLength(3).bind("Jo")
+            "age" rules IntegerSchema().min(0).bind(30)
+            "email" rules StringSchema().email().bind("x")
+        }
+
+        val sequential = batch(false)
+        val concurrent = batch(true)
+
+        assertEquals(listOf("name", "email"), sequential.errors.keys.toList())
+        assertEquals(sequential.errors, concurrent.errors)
+        assertEquals(sequential.values, concurrent.values)
+    }
+
+    @Test
+    fun timeoutAppliesToTheExecutorMode() {
+        val slow = object : Schema<String>() {
+            override fun parse(obj: Any?): ParseResult<String> {
+                try {
+                    Thread.sleep(5_000)
+                } catch (_: InterruptedException) {
+                }
+                return ParseResult.success("late")
+            }
+        }
+        slow.bind("x")
+        val executor = Executors.newCachedThreadPool()
+        try {
+            val result = validateBatch(executor = executor, timeout = 100.milliseconds) {
+                "fast" rules StringSchema().bind("ok")
+                "slow" rules slow
+            }
+
+            assertEquals(listOf("Validation timed out"), result.errors["slow"])
+            assertEquals("ok", result.values["fast"])
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun batchRulesValidatesPlainMaps() {
+        val rules = batchRules {
+            "username" rules StringSchema().minLength(3)
+            "age" rules IntegerSchema().min(0)
+        }
+
+        assertTrue(rules.validate(mapOf("username" to "Jo", "age" to 1)).hasErrors())
+        assertFalse(rules.validate(mapOf("username" to "Joana", "age" to 1)).hasErrors())
+    }
+}